@@ -0,0 +1,363 @@
+package org.bytestreamparser.iso8583.data;
+
+import static org.bytestreamparser.scalar.util.Preconditions.check;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import org.bytestreamparser.composite.data.AbstractDataObject;
+
+/**
+ * ArrayIsoMessage is an {@link IsoMessage} that stores the field values in an array indexed by
+ * field number, and keeps an {@link ExtendableBitmap} of the present data fields in sync as fields
+ * are set and cleared.
+ *
+ * <p>Field {@code 0} is the message type indicator and is not part of the bitmap. The first bit of
+ * each bitmap marks the next bitmap, so it cannot be set as a field. Setting a field to {@code
+ * null} clears it.
+ *
+ * <p>The {@code int} accessors avoid converting field numbers to {@link String} keys. The {@link
+ * String} accessors inherited from {@link AbstractDataObject} remain available for field parsers.
+ *
+ * <p>Numeric fields can be held in primitive slots with {@link #setLong} and {@link #setInt}, and
+ * read back with {@link #getLong} and {@link #getInt} without boxing. The other accessors box the
+ * value of a primitive slot on every read.
+ *
+ * <p>Fields that were skipped by a pass-through parse hold a {@link RawField}, see {@link
+ * #isRaw(int)}.
+ */
+public class ArrayIsoMessage extends AbstractDataObject<ArrayIsoMessage> implements IsoMessage {
+  private final Fields fields;
+
+  /** Creates a new ArrayIsoMessage with a primary and a secondary bitmap of 8 bytes each. */
+  public ArrayIsoMessage() {
+    this(8, 2);
+  }
+
+  /**
+   * Creates a new ArrayIsoMessage.
+   *
+   * @param bytes the number of bytes per bitmap.
+   * @param extensions the number of bitmaps, which determines the highest field number.
+   */
+  public ArrayIsoMessage(int bytes, int extensions) {
+    this(new Fields(bytes, extensions));
+  }
+
+  private ArrayIsoMessage(Fields fields) {
+    super(fields);
+    this.fields = fields;
+  }
+
+  /**
+   * Returns the value of the given field. A field held as a {@link RawField} is returned as is.
+   *
+   * @param id the ID of the field.
+   * @return the value, or {@code null} if the field is absent.
+   * @param <V> the type of the value.
+   */
+  @SuppressWarnings("unchecked")
+  public <V> V get(int id) {
+    fields.checkField(id);
+    return (V) fields.value(id);
+  }
+
+  /**
+   * Returns the value of the given numeric field as a {@code long}.
+   *
+   * @param id the ID of the field.
+   * @return the value.
+   * @throws IllegalArgumentException if the field is absent or not numeric.
+   */
+  public long getLong(int id) {
+    fields.checkField(id);
+    Object value = fields.values[id];
+    if (value == Fields.LONG || value == Fields.INT) {
+      return fields.primitives[id];
+    }
+    return fields.number(id).longValue();
+  }
+
+  /**
+   * Returns the value of the given numeric field as an {@code int}.
+   *
+   * @param id the ID of the field.
+   * @return the value, narrowed if the field holds a {@code long}.
+   * @throws IllegalArgumentException if the field is absent or not numeric.
+   */
+  public int getInt(int id) {
+    fields.checkField(id);
+    Object value = fields.values[id];
+    if (value == Fields.LONG || value == Fields.INT) {
+      return (int) fields.primitives[id];
+    }
+    return fields.number(id).intValue();
+  }
+
+  /**
+   * Sets the given field to a {@code long} held in a primitive slot, and the matching bit of the
+   * {@link #bitmap()}. It is read back as a {@link Long} by the boxing accessors.
+   *
+   * @param id the ID of the field.
+   * @param value the value.
+   * @return the message.
+   */
+  public ArrayIsoMessage setLong(int id, long value) {
+    fields.mark(id, Fields.LONG);
+    fields.primitives[id] = value;
+    return this;
+  }
+
+  /**
+   * Sets the given field to an {@code int} held in a primitive slot, and the matching bit of the
+   * {@link #bitmap()}. It is read back as an {@link Integer} by the boxing accessors.
+   *
+   * @param id the ID of the field.
+   * @param value the value.
+   * @return the message.
+   */
+  public ArrayIsoMessage setInt(int id, int value) {
+    fields.mark(id, Fields.INT);
+    fields.primitives[id] = value;
+    return this;
+  }
+
+  /**
+   * Returns whether the given field is held in a primitive slot.
+   *
+   * @param id the ID of the field.
+   * @return {@code true} if the field was set with {@link #setLong} or {@link #setInt}.
+   */
+  public boolean hasPrimitive(int id) {
+    return hasDataField(id)
+        && (fields.values[id] == Fields.LONG || fields.values[id] == Fields.INT);
+  }
+
+  /**
+   * Sets the value of the given field, and the matching bit of the {@link #bitmap()}.
+   *
+   * @param id the ID of the field.
+   * @param value the value, or {@code null} to clear the field.
+   * @return the message.
+   * @param <V> the type of the value.
+   */
+  public <V> ArrayIsoMessage set(int id, V value) {
+    fields.put(id, value);
+    return this;
+  }
+
+  /**
+   * Clears the given field, and the matching bit of the {@link #bitmap()}.
+   *
+   * @param id the ID of the field.
+   * @return the message.
+   */
+  public ArrayIsoMessage clear(int id) {
+    fields.put(id, null);
+    return this;
+  }
+
+  /** Clears all fields, so that the instance can be reused. */
+  public void reset() {
+    fields.clear();
+  }
+
+  @Override
+  public boolean hasDataField(int id) {
+    return id >= 0 && id < fields.values.length && fields.values[id] != null;
+  }
+
+  @Override
+  public boolean isRaw(int id) {
+    return id >= 0 && id < fields.values.length && fields.values[id] instanceof RawField;
+  }
+
+  /**
+   * @return the bitmap of the data fields present in the message. It must not be modified directly.
+   */
+  @Override
+  public ExtendableBitmap bitmap() {
+    return fields.bitmap;
+  }
+
+  private static final class Fields extends AbstractMap<String, Object> {
+    private static final String FIELD_ERROR_MESSAGE =
+        "field should be between 0 and %d, but got [%d]";
+    private static final String BITMAP_FIELD_ERROR_MESSAGE =
+        "field [%d] is reserved for the bitmap";
+    private static final String KEY_ERROR_MESSAGE = "invalid field [%s]";
+    private static final String ABSENT_ERROR_MESSAGE = "field [%d] is absent";
+    private static final String NUMBER_ERROR_MESSAGE = "field [%d] is not a number";
+    private static final Object LONG = new Object();
+    private static final Object INT = new Object();
+    private final int bits;
+    private final Object[] values;
+    private final long[] primitives;
+    private final ExtendableBitmap bitmap;
+    private int size;
+
+    private Fields(int bytes, int extensions) {
+      Bitmap.check(bytes);
+      this.bits = bytes * Byte.SIZE;
+      this.bitmap = new ExtendableBitmap(bytes).reset(Math.max(extensions, 1));
+      this.values = new Object[bitmap.capacity() + 1];
+      this.primitives = new long[values.length];
+    }
+
+    @Override
+    public Object get(Object key) {
+      int id = parse(key);
+      return id < 0 ? null : value(id);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+      return get(key) != null;
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+      int id = parse(key);
+      check(id >= 0, KEY_ERROR_MESSAGE, key);
+      return put(id, value);
+    }
+
+    @Override
+    public Object remove(Object key) {
+      int id = parse(key);
+      return id < 0 ? null : put(id, null);
+    }
+
+    @Override
+    public void clear() {
+      Arrays.fill(values, null);
+      bitmap.reset();
+      size = 0;
+    }
+
+    @Override
+    public int size() {
+      return size;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+      return new AbstractSet<>() {
+        @Override
+        public Iterator<Entry<String, Object>> iterator() {
+          return new FieldIterator();
+        }
+
+        @Override
+        public int size() {
+          return size;
+        }
+      };
+    }
+
+    private Object put(int id, Object value) {
+      checkField(id);
+      Object previous = value(id);
+      mark(id, value);
+      return previous;
+    }
+
+    private void mark(int id, Object value) {
+      checkField(id);
+      Object previous = values[id];
+      values[id] = value;
+      if (previous == null && value != null) {
+        size++;
+        if (id > 0) {
+          bitmap.set(id);
+        }
+      } else if (previous != null && value == null) {
+        size--;
+        if (id > 0) {
+          bitmap.clear(id);
+        }
+      }
+    }
+
+    private Object value(int id) {
+      Object value = values[id];
+      if (value == LONG) {
+        return primitives[id];
+      }
+      return value == INT ? (Object) (int) primitives[id] : value;
+    }
+
+    private Number number(int id) {
+      check(values[id] != null, ABSENT_ERROR_MESSAGE, id);
+      if (!(values[id] instanceof Number number)) {
+        throw new IllegalArgumentException(String.format(NUMBER_ERROR_MESSAGE, id));
+      }
+      return number;
+    }
+
+    private void checkField(int id) {
+      if (id < 0 || id >= values.length) {
+        throw new IllegalArgumentException(
+            String.format(FIELD_ERROR_MESSAGE, values.length - 1, id));
+      }
+      if (id > 0 && (id - 1) % bits == 0) {
+        throw new IllegalArgumentException(String.format(BITMAP_FIELD_ERROR_MESSAGE, id));
+      }
+    }
+
+    private int parse(Object key) {
+      if (!(key instanceof String id) || id.isEmpty() || id.length() > 9) {
+        return -1;
+      }
+      int field = 0;
+      for (int index = 0; index < id.length(); index++) {
+        int digit = id.charAt(index) - '0';
+        if (digit < 0 || digit > 9) {
+          return -1;
+        }
+        field = field * 10 + digit;
+      }
+      return field < values.length && (field == 0 || (field - 1) % bits != 0) ? field : -1;
+    }
+
+    private final class FieldIterator implements Iterator<Entry<String, Object>> {
+      private int next = values[0] != null ? 0 : advance(1);
+      private int current = -1;
+
+      @Override
+      public boolean hasNext() {
+        return next >= 0;
+      }
+
+      @Override
+      public Entry<String, Object> next() {
+        if (next < 0) {
+          throw new NoSuchElementException();
+        }
+        current = next;
+        next = advance(current + 1);
+        return new SimpleImmutableEntry<>(String.valueOf(current), value(current));
+      }
+
+      @Override
+      public void remove() {
+        if (current < 0) {
+          throw new IllegalStateException();
+        }
+        put(current, null);
+        current = -1;
+      }
+
+      private int advance(int bit) {
+        int next = bitmap.nextSetBit(bit);
+        while (next > 0 && (next - 1) % bits == 0) {
+          next = bitmap.nextSetBit(next + 1);
+        }
+        return next;
+      }
+    }
+  }
+}
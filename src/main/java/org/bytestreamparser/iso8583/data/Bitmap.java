@@ -1,5 +1,9 @@
 package org.bytestreamparser.iso8583.data;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.function.IntConsumer;
 import java.util.stream.IntStream;
 import org.bytestreamparser.scalar.util.Preconditions;
 
@@ -12,6 +16,7 @@ public interface Bitmap {
   String BYTES_ERROR = "bytes should be greater than 0, but got [%d]";
   String MAXIMUM_CAPACITY_ERROR = "maximum capacity %d bytes exceeded: [%d]";
   String BIT_ERROR = "bit should be between 1 and %s, but got [%d]";
+  String EOF_ERROR = "End of stream reached after reading %d bytes, bytes expected [%d]";
 
   /**
    * Checks if the given number of bytes is valid.
@@ -23,6 +28,19 @@ public interface Bitmap {
     Preconditions.check(bytes <= MAXIMUM_BYTES, MAXIMUM_CAPACITY_ERROR, MAXIMUM_BYTES, bytes);
   }
 
+  /**
+   * Checks if the given bit is between {@code 1} and the given capacity. The error message is only
+   * formatted when the check fails, so this is safe to call on hot paths.
+   *
+   * @param bit the bit to check.
+   * @param capacity the capacity of the {@link Bitmap}.
+   */
+  static void checkBit(int bit, int capacity) {
+    if (bit < 1 || bit > capacity) {
+      throw new IllegalArgumentException(String.format(BIT_ERROR, capacity, bit));
+    }
+  }
+
   /**
    * @return the total number of bits in the {@link Bitmap}.
    */
@@ -50,6 +68,24 @@ public interface Bitmap {
    */
   void clear(int bit);
 
+  /** Clears all bits in the {@link Bitmap}, so that the instance can be reused. */
+  void reset();
+
+  /**
+   * Returns a 64-bit fingerprint of the bits set in the {@link Bitmap}. Equal bitmaps always have
+   * equal fingerprints, so the fingerprint can be used to look up recurring bitmaps before comparing
+   * them in full.
+   *
+   * @return the fingerprint.
+   */
+  default long fingerprint() {
+    long hash = capacity();
+    for (int bit = nextSetBit(1); bit > 0; bit = nextSetBit(bit + 1)) {
+      hash = Fingerprints.add(hash, bit);
+    }
+    return Fingerprints.finish(hash);
+  }
+
   /**
    * Returns the number of bits set in the {@link Bitmap}.
    *
@@ -57,17 +93,175 @@ public interface Bitmap {
    */
   int cardinality();
 
+  /**
+   * Returns the first bit that is set on or after the given bit.
+   *
+   * @param bit the bit to start from. NOTE: The bit index starts from {@code 1}.
+   * @return the next set bit, or {@code -1} if there is no such bit.
+   */
+  int nextSetBit(int bit);
+
+  /**
+   * Returns the 64 bits starting at bit {@code index * 64 + 1}, with the lowest bit in the most
+   * significant position. Bits beyond the capacity of the {@link Bitmap} read as {@code 0}.
+   *
+   * @param index the index of the word, starting from {@code 0}.
+   * @return the word.
+   */
+  default long word(int index) {
+    int first = index * Long.SIZE + 1;
+    long word = 0;
+    for (int bit = nextSetBit(first);
+        bit > 0 && bit - first < Long.SIZE;
+        bit = nextSetBit(bit + 1)) {
+      word |= Long.MIN_VALUE >>> (bit - first);
+    }
+    return word;
+  }
+
+  /**
+   * Clears every bit that is not set in the given mask.
+   *
+   * @param mask the mask to intersect with.
+   */
+  void and(Bitmap mask);
+
+  /**
+   * Sets every bit that is set in the given mask. Bits beyond the capacity of the {@link Bitmap}
+   * are ignored.
+   *
+   * @param mask the mask to merge.
+   */
+  void or(Bitmap mask);
+
+  /**
+   * Clears every bit that is set in the given mask.
+   *
+   * @param mask the mask of the bits to clear.
+   */
+  void andNot(Bitmap mask);
+
+  /**
+   * Checks if any bit set in the given mask is also set in the {@link Bitmap}.
+   *
+   * @param mask the mask to check.
+   * @return {@code true} if the bitmaps have a bit in common, {@code false} otherwise.
+   */
+  default boolean intersects(Bitmap mask) {
+    int words = words(Math.min(capacity(), mask.capacity()));
+    for (int index = 0; index < words; index++) {
+      if ((word(index) & mask.word(index)) != 0) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Checks if every bit set in the given mask is also set in the {@link Bitmap}.
+   *
+   * @param mask the mask to check.
+   * @return {@code true} if no bit of the mask is missing, {@code false} otherwise.
+   */
+  default boolean containsAll(Bitmap mask) {
+    return firstMissing(mask) < 0;
+  }
+
+  /**
+   * Returns the first bit that is set in the given mask but not in the {@link Bitmap}.
+   *
+   * @param mask the mask to check.
+   * @return the first missing bit, or {@code -1} if there is no such bit.
+   */
+  default int firstMissing(Bitmap mask) {
+    int words = words(mask.capacity());
+    for (int index = 0; index < words; index++) {
+      long missing = mask.word(index) & ~word(index);
+      if (missing != 0) {
+        return index * Long.SIZE + Long.numberOfLeadingZeros(missing) + 1;
+      }
+    }
+    return -1;
+  }
+
+  private static int words(int capacity) {
+    return (capacity + Long.SIZE - 1) / Long.SIZE;
+  }
+
+  /**
+   * Performs the given action for each bit set in the {@link Bitmap}, in ascending order.
+   *
+   * @param action the action to perform.
+   */
+  default void forEachSetBit(IntConsumer action) {
+    for (int bit = nextSetBit(1); bit > 0; bit = nextSetBit(bit + 1)) {
+      action.accept(bit);
+    }
+  }
+
+  /**
+   * Returns a cursor over the bits set in the {@link Bitmap}. Use {@link BitmapCursor#reset(Bitmap)}
+   * to reuse an existing cursor instead.
+   *
+   * @return a cursor positioned at the first set bit.
+   */
+  default BitmapCursor cursor() {
+    return new BitmapCursor().reset(this);
+  }
+
   /**
    * Returns a stream of the bits set in the {@link Bitmap}.
    *
    * @return a stream of the bits set.
    */
-  IntStream stream();
+  default IntStream stream() {
+    return IntStream.iterate(nextSetBit(1), bit -> bit > 0, bit -> nextSetBit(bit + 1));
+  }
+
+  /**
+   * Returns the number of bytes in the byte array representation of the {@link Bitmap}.
+   *
+   * @return the encoded length in bytes.
+   */
+  int encodedLength();
+
+  /**
+   * Writes the byte array representation of the {@link Bitmap} into the given array.
+   *
+   * @param target the array to write to.
+   * @param offset the offset in the array to start writing at.
+   * @return the number of bytes written, which is the {@link #encodedLength()}.
+   * @throws IndexOutOfBoundsException if the array is too small. Nothing is written in that case.
+   */
+  int writeTo(byte[] target, int offset);
+
+  /**
+   * Writes the byte array representation of the {@link Bitmap} into the given buffer, advancing
+   * its position by {@link #encodedLength()}. The byte order of the buffer is ignored.
+   *
+   * @param target the buffer to write to.
+   * @throws java.nio.BufferOverflowException if the buffer has insufficient space remaining.
+   *     Nothing is written in that case.
+   */
+  void writeTo(ByteBuffer target);
+
+  /**
+   * Writes the byte array representation of the {@link Bitmap} into the given stream one byte at a
+   * time, without allocating an intermediate array.
+   *
+   * @param output the stream to write to.
+   * @throws IOException if an I/O error occurs.
+   */
+  void writeTo(OutputStream output) throws IOException;
 
   /**
    * Converts the {@link Bitmap} to a byte array.
    *
    * @return the byte array representation of the {@link Bitmap}.
    */
-  byte[] toByteArray();
+  default byte[] toByteArray() {
+    byte[] byteArray = new byte[encodedLength()];
+    writeTo(byteArray, 0);
+    return byteArray;
+  }
 }
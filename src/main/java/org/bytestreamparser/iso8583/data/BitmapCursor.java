@@ -0,0 +1,46 @@
+package org.bytestreamparser.iso8583.data;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * A reusable cursor over the bits set in a {@link Bitmap}. Unlike {@link Bitmap#stream()}, a cursor
+ * can be {@link #reset(Bitmap) reset} to walk another {@link Bitmap}, so a single instance can be
+ * kept per parser or per thread.
+ */
+public final class BitmapCursor implements PrimitiveIterator.OfInt {
+  private Bitmap bitmap;
+  private int next = -1;
+
+  /**
+   * Positions the cursor at the first bit set in the given {@link Bitmap}.
+   *
+   * @param bitmap the bitmap to walk.
+   * @return this cursor.
+   */
+  public BitmapCursor reset(Bitmap bitmap) {
+    this.bitmap = bitmap;
+    this.next = bitmap.nextSetBit(1);
+    return this;
+  }
+
+  @Override
+  public boolean hasNext() {
+    return next > 0;
+  }
+
+  /**
+   * Returns the next bit set in the {@link Bitmap}.
+   *
+   * @return the next set bit. NOTE: The bit index starts from {@code 1}.
+   */
+  @Override
+  public int nextInt() {
+    if (next <= 0) {
+      throw new NoSuchElementException();
+    }
+    int bit = next;
+    next = bitmap.nextSetBit(bit + 1);
+    return bit;
+  }
+}
@@ -0,0 +1,257 @@
+package org.bytestreamparser.iso8583.data;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+/**
+ * BitmapView is a read-only {@link Bitmap} over the wire representation of an extendable bitmap. It
+ * answers queries straight from the underlying bytes without copying them, and only follows the
+ * first bit of each bitmap to the next extension when a query needs it.
+ *
+ * <p>The view does not change the position of the underlying buffer. It is a snapshot of the frame:
+ * the extensions are followed once, when a query first needs them, so the content must not change
+ * while the view is in use.
+ */
+public final class BitmapView implements Bitmap {
+  private static final String READ_ONLY_ERROR = "BitmapView is read-only";
+  private final ByteBuffer buffer;
+  private final int offset;
+  private final int bytes;
+  private int extensions;
+  private boolean resolved;
+
+  private BitmapView(ByteBuffer buffer, int offset, int bytes) {
+    Bitmap.check(bytes);
+    Objects.checkFromIndexSize(offset, bytes, buffer.limit());
+    this.buffer = buffer;
+    this.offset = offset;
+    this.bytes = bytes;
+    this.extensions = 1;
+  }
+
+  /**
+   * Creates a view over an extendable bitmap in the given array.
+   *
+   * @param source the array containing the bitmap.
+   * @param offset the offset of the first bitmap in the array.
+   * @param bytes the number of bytes per bitmap.
+   * @return the view.
+   */
+  public static BitmapView wrap(byte[] source, int offset, int bytes) {
+    return new BitmapView(ByteBuffer.wrap(source), offset, bytes);
+  }
+
+  /**
+   * Creates a view over an extendable bitmap in the given buffer.
+   *
+   * @param source the buffer containing the bitmap.
+   * @param offset the absolute index of the first bitmap in the buffer.
+   * @param bytes the number of bytes per bitmap.
+   * @return the view.
+   */
+  public static BitmapView wrap(ByteBuffer source, int offset, int bytes) {
+    return new BitmapView(source, offset, bytes);
+  }
+
+  /**
+   * @return the total number of bits in the {@link Bitmap}, following every extension.
+   */
+  @Override
+  public int capacity() {
+    return resolve(Integer.MAX_VALUE) * bytes * Byte.SIZE;
+  }
+
+  /**
+   * Checks if the given bit is set.
+   *
+   * @param bit the bit to check. NOTE: The bit index starts from {@code 1}.
+   * @return {@code true} if the bit is set, {@code false} otherwise.
+   */
+  @Override
+  public boolean get(int bit) {
+    if (bit < 1 || resolve((bit - 1) / (bytes * Byte.SIZE)) * bytes * Byte.SIZE < bit) {
+      Bitmap.checkBit(bit, capacity());
+    }
+    return isSet(bit - 1);
+  }
+
+  /** Throws an UnsupportedOperationException. */
+  @Override
+  public void set(int bit) {
+    throw new UnsupportedOperationException(READ_ONLY_ERROR);
+  }
+
+  /** Throws an UnsupportedOperationException. */
+  @Override
+  public void clear(int bit) {
+    throw new UnsupportedOperationException(READ_ONLY_ERROR);
+  }
+
+  /** Throws an UnsupportedOperationException. */
+  @Override
+  public void reset() {
+    throw new UnsupportedOperationException(READ_ONLY_ERROR);
+  }
+
+  /**
+   * @return the number of bits set in the {@link Bitmap}.
+   */
+  @Override
+  public int cardinality() {
+    int limit = offset + encodedLength();
+    int cardinality = 0;
+    int index = offset;
+    for (; index + Long.BYTES <= limit; index += Long.BYTES) {
+      cardinality += Long.bitCount(buffer.getLong(index));
+    }
+    for (; index < limit; index++) {
+      cardinality += Integer.bitCount(buffer.get(index) & 0xFF);
+    }
+    return cardinality;
+  }
+
+  /**
+   * Returns the first bit that is set on or after the given bit.
+   *
+   * @param bit the bit to start from. NOTE: The bit index starts from {@code 1}.
+   * @return the next set bit, or {@code -1} if there is no such bit.
+   */
+  @Override
+  public int nextSetBit(int bit) {
+    int capacity = capacity();
+    if (bit > capacity) {
+      return -1;
+    }
+    Bitmap.checkBit(bit, capacity);
+    int index = (bit - 1) / Byte.SIZE;
+    int value = buffer.get(offset + index) & (0xFF >>> ((bit - 1) % Byte.SIZE));
+    while (value == 0) {
+      if (++index == capacity / Byte.SIZE) {
+        return -1;
+      }
+      value = buffer.get(offset + index) & 0xFF;
+    }
+    return index * Byte.SIZE + Integer.numberOfLeadingZeros(value) - (Integer.SIZE - Byte.SIZE) + 1;
+  }
+
+  /**
+   * Returns the 64 bits starting at bit {@code index * 64 + 1}, read straight from the underlying
+   * bytes. Bits beyond the capacity of the {@link Bitmap} read as {@code 0}.
+   *
+   * @param index the index of the word, starting from {@code 0}.
+   * @return the word.
+   */
+  @Override
+  public long word(int index) {
+    int length = encodedLength();
+    int start = index * Long.BYTES;
+    if (start >= length) {
+      return 0;
+    }
+    if (length - start >= Long.BYTES) {
+      long word = buffer.getLong(offset + start);
+      return buffer.order() == ByteOrder.BIG_ENDIAN ? word : Long.reverseBytes(word);
+    }
+    long word = 0;
+    for (int position = start; position < length; position++) {
+      word |=
+          (buffer.get(offset + position) & 0xFFL)
+              << ((start + Long.BYTES - 1 - position) * Byte.SIZE);
+    }
+    return word;
+  }
+
+  /** Throws an UnsupportedOperationException. */
+  @Override
+  public void and(Bitmap mask) {
+    throw new UnsupportedOperationException(READ_ONLY_ERROR);
+  }
+
+  /** Throws an UnsupportedOperationException. */
+  @Override
+  public void or(Bitmap mask) {
+    throw new UnsupportedOperationException(READ_ONLY_ERROR);
+  }
+
+  /** Throws an UnsupportedOperationException. */
+  @Override
+  public void andNot(Bitmap mask) {
+    throw new UnsupportedOperationException(READ_ONLY_ERROR);
+  }
+
+  /**
+   * @return the number of bytes in the byte array representation of the {@link Bitmap}.
+   */
+  @Override
+  public int encodedLength() {
+    return resolve(Integer.MAX_VALUE) * bytes;
+  }
+
+  /**
+   * Copies the underlying bytes of the {@link Bitmap} into the given array.
+   *
+   * @param target the array to write to.
+   * @param offset the offset in the array to start writing at.
+   * @return the number of bytes written.
+   */
+  @Override
+  public int writeTo(byte[] target, int offset) {
+    int length = encodedLength();
+    Objects.checkFromIndexSize(offset, length, target.length);
+    buffer.get(this.offset, target, offset, length);
+    return length;
+  }
+
+  /**
+   * Copies the underlying bytes of the {@link Bitmap} into the given buffer.
+   *
+   * @param target the buffer to write to.
+   */
+  @Override
+  public void writeTo(ByteBuffer target) {
+    int length = encodedLength();
+    if (target.remaining() < length) {
+      throw new BufferOverflowException();
+    }
+    target.put(target.position(), buffer, offset, length);
+    target.position(target.position() + length);
+  }
+
+  /**
+   * Copies the underlying bytes of the {@link Bitmap} into the given stream.
+   *
+   * @param output the stream to write to.
+   * @throws IOException if an I/O error occurs.
+   */
+  @Override
+  public void writeTo(OutputStream output) throws IOException {
+    int length = encodedLength();
+    if (buffer.hasArray()) {
+      output.write(buffer.array(), buffer.arrayOffset() + offset, length);
+    } else {
+      byte[] copy = new byte[length];
+      buffer.get(offset, copy);
+      output.write(copy);
+    }
+  }
+
+  private boolean isSet(int index) {
+    return (buffer.get(offset + index / Byte.SIZE) & (0x80 >>> (index % Byte.SIZE))) != 0;
+  }
+
+  private int resolve(int extension) {
+    while (!resolved && extensions <= extension) {
+      if (isSet((extensions - 1) * bytes * Byte.SIZE)) {
+        Objects.checkFromIndexSize(offset + extensions * bytes, bytes, buffer.limit());
+        extensions++;
+      } else {
+        resolved = true;
+      }
+    }
+    return extensions;
+  }
+}
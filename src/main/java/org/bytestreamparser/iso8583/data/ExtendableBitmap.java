@@ -2,21 +2,37 @@ package org.bytestreamparser.iso8583.data;
 
 import static org.bytestreamparser.scalar.util.Preconditions.check;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.stream.IntStream;
+import java.util.Objects;
+import java.util.function.LongBinaryOperator;
 
 /**
  * ExtendableBitmap is a {@link Bitmap} backed by a lit of {@link FixedBitmap}s. It can be extended
  * by adding more {@link FixedBitmap} extensions.
+ *
+ * <p>The first bit of each {@link FixedBitmap} indicates if any of the following {@link
+ * FixedBitmap}s has data bits set. It is maintained incrementally from a per-extension count of
+ * data bits, so the extensions must not be modified directly once they are added.
  */
 public class ExtendableBitmap implements Bitmap {
   private static final String EXTENSION_ERROR_MESSAGE =
       "extension capacity should be %s, but got [%s]";
-  private static final FixedBitmap EMPTY = new FixedBitmap(1);
+  private static final String EXTENSIONS_ERROR_MESSAGE =
+      "extensions should not be negative, but got [%d]";
   private final int bytes;
   private final List<FixedBitmap> bitmaps;
+  private int extensions;
+  private int capacity;
+  private int[] dataBits;
+  private int totalDataBits;
+  private int last;
 
   /**
    * Creates a new ExtendableBitmap.
@@ -27,15 +43,8 @@ public class ExtendableBitmap implements Bitmap {
     Bitmap.check(bytes);
     this.bytes = bytes;
     this.bitmaps = new ArrayList<>();
-  }
-
-  private static FixedBitmap recalibrate(FixedBitmap next, FixedBitmap prev) {
-    if (next.cardinality() > 0) {
-      prev.set(1);
-    } else {
-      prev.clear(1);
-    }
-    return prev;
+    this.dataBits = new int[0];
+    this.last = -1;
   }
 
   /**
@@ -52,8 +61,79 @@ public class ExtendableBitmap implements Bitmap {
           bytes * Byte.SIZE,
           extension.capacity());
     }
+    int offset = this.extensions;
+    bitmaps.subList(offset, bitmaps.size()).clear();
     bitmaps.addAll(extensions);
-    recalibrate();
+    resize(bitmaps.size());
+    recount(offset);
+    return this;
+  }
+
+  /**
+   * Clears all bits and resizes the {@link ExtendableBitmap} to the given number of extensions.
+   * Existing {@link FixedBitmap} instances are reused, including the ones dropped by a previous
+   * reset, so a recycled instance stops allocating once it has seen its largest message.
+   *
+   * @param extensions the number of extensions to keep.
+   * @return the {@link ExtendableBitmap}.
+   */
+  public ExtendableBitmap reset(int extensions) {
+    check(extensions >= 0, EXTENSIONS_ERROR_MESSAGE, extensions);
+    reset();
+    resize(extensions);
+    return this;
+  }
+
+  /**
+   * Replaces the content of the {@link ExtendableBitmap} with bitmaps read from the given stream.
+   * The first bitmap is always read, and each following bitmap is read while the first bit of the
+   * previous one is set. Existing {@link FixedBitmap} instances are reused. If the read fails, the
+   * {@link ExtendableBitmap} is left empty with a single extension.
+   *
+   * @param input the stream to read from.
+   * @return the {@link ExtendableBitmap}.
+   * @throws java.io.EOFException if the stream ends before the last bitmap is read.
+   * @throws IOException if an I/O error occurs.
+   */
+  public ExtendableBitmap readFrom(InputStream input) throws IOException {
+    reset(1);
+    try {
+      FixedBitmap extension = bitmaps.get(0).readFrom(input);
+      while (extension.get(1)) {
+        resize(extensions + 1);
+        extension = bitmaps.get(extensions - 1).readFrom(input);
+      }
+    } catch (IOException | RuntimeException e) {
+      reset(1);
+      throw e;
+    }
+    recount(0);
+    return this;
+  }
+
+  /**
+   * Replaces the content of the {@link ExtendableBitmap} with bitmaps read from the given buffer,
+   * advancing its position. The first bitmap is always read, and each following bitmap is read while
+   * the first bit of the previous one is set. Existing {@link FixedBitmap} instances are reused. If
+   * the read fails, the {@link ExtendableBitmap} is left empty with a single extension.
+   *
+   * @param input the buffer to read from.
+   * @return the {@link ExtendableBitmap}.
+   * @throws java.nio.BufferUnderflowException if the buffer ends before the last bitmap.
+   */
+  public ExtendableBitmap readFrom(ByteBuffer input) {
+    reset(1);
+    try {
+      FixedBitmap extension = bitmaps.get(0).readFrom(input);
+      while (extension.get(1)) {
+        resize(extensions + 1);
+        extension = bitmaps.get(extensions - 1).readFrom(input);
+      }
+    } catch (RuntimeException e) {
+      reset(1);
+      throw e;
+    }
+    recount(0);
     return this;
   }
 
@@ -62,7 +142,7 @@ public class ExtendableBitmap implements Bitmap {
    */
   @Override
   public int capacity() {
-    return bitmaps.stream().mapToInt(FixedBitmap::capacity).sum();
+    return capacity;
   }
 
   /**
@@ -87,8 +167,21 @@ public class ExtendableBitmap implements Bitmap {
   @Override
   public void set(int bit) {
     checkBit(bit);
-    bitmaps.get(getBitmapIndex(bit)).set(getBitIndex(bit));
-    recalibrate();
+    int index = getBitmapIndex(bit);
+    int bitIndex = getBitIndex(bit);
+    FixedBitmap bitmap = bitmaps.get(index);
+    if (bitIndex == 1 || bitmap.get(bitIndex)) {
+      return;
+    }
+    bitmap.set(bitIndex);
+    dataBits[index]++;
+    totalDataBits++;
+    if (index > last) {
+      for (int previous = Math.max(last, 0); previous < index; previous++) {
+        bitmaps.get(previous).set(1);
+      }
+      last = index;
+    }
   }
 
   /**
@@ -101,8 +194,34 @@ public class ExtendableBitmap implements Bitmap {
   @Override
   public void clear(int bit) {
     checkBit(bit);
-    bitmaps.get(getBitmapIndex(bit)).clear(getBitIndex(bit));
-    recalibrate();
+    int index = getBitmapIndex(bit);
+    int bitIndex = getBitIndex(bit);
+    FixedBitmap bitmap = bitmaps.get(index);
+    if (bitIndex == 1 || !bitmap.get(bitIndex)) {
+      return;
+    }
+    bitmap.clear(bitIndex);
+    dataBits[index]--;
+    totalDataBits--;
+    if (index == last && dataBits[index] == 0) {
+      do {
+        last--;
+      } while (last >= 0 && dataBits[last] == 0);
+      for (int previous = Math.max(last, 0); previous < index; previous++) {
+        bitmaps.get(previous).clear(1);
+      }
+    }
+  }
+
+  /** Clears all bits, keeping the current extensions. */
+  @Override
+  public void reset() {
+    for (int index = 0; index < extensions; index++) {
+      bitmaps.get(index).reset();
+    }
+    Arrays.fill(dataBits, 0);
+    totalDataBits = 0;
+    last = -1;
   }
 
   /**
@@ -110,48 +229,258 @@ public class ExtendableBitmap implements Bitmap {
    */
   @Override
   public int cardinality() {
-    return bitmaps.stream().mapToInt(FixedBitmap::cardinality).sum();
+    return totalDataBits + Math.max(last, 0);
+  }
+
+  /**
+   * Returns the first bit that is set on or after the given bit.
+   *
+   * @param bit the bit to start from. NOTE: The bit index starts from {@code 1}.
+   * @return the next set bit, or {@code -1} if there is no such bit.
+   */
+  @Override
+  public int nextSetBit(int bit) {
+    if (bit > capacity) {
+      return -1;
+    }
+    checkBit(bit);
+    int bitIndex = getBitIndex(bit);
+    for (int index = getBitmapIndex(bit); index < extensions; index++) {
+      int next = bitmaps.get(index).nextSetBit(bitIndex);
+      if (next > 0) {
+        return index * bytes * Byte.SIZE + next;
+      }
+      bitIndex = 1;
+    }
+    return -1;
   }
 
   /**
-   * @return a stream of the bits set in the {@link Bitmap}.
+   * Returns the 64 bits starting at bit {@code index * 64 + 1}. Bits beyond the capacity of the
+   * {@link Bitmap} read as {@code 0}.
+   *
+   * @param index the index of the word, starting from {@code 0}.
+   * @return the word.
    */
   @Override
-  public IntStream stream() {
-    return IntStream.range(0, bitmaps.size())
-        .mapToObj(index -> bitmaps.get(index).stream().map(bit -> index * bytes * Byte.SIZE + bit))
-        .reduce(IntStream::concat)
-        .orElseGet(IntStream::empty);
+  public long word(int index) {
+    int bits = bytes * Byte.SIZE;
+    if (bits % Long.SIZE != 0) {
+      return Bitmap.super.word(index);
+    }
+    int extension = index / (bits / Long.SIZE);
+    return extension < extensions ? bitmaps.get(extension).word(index % (bits / Long.SIZE)) : 0;
   }
 
   /**
-   * Converts the {@link Bitmap} to a byte array.
+   * Clears every bit that is not set in the given mask. The first bit of each {@link FixedBitmap}
+   * is recalibrated afterwards.
    *
-   * @return the byte array representation of the {@link Bitmap}. Trailing empty {@link
-   *     FixedBitmap}s will be ignored.
+   * @param mask the mask to intersect with.
    */
-  public byte[] toByteArray() {
-    byte[] byteArray = new byte[bytes * bitmaps.size()];
-    int index = 0;
-    do {
-      System.arraycopy(bitmaps.get(index).toByteArray(), 0, byteArray, index * bytes, bytes);
-      index++;
-    } while (index < bitmaps.size() && bitmaps.get(index).cardinality() > 0);
-    return Arrays.copyOfRange(byteArray, 0, index * bytes);
+  @Override
+  public void and(Bitmap mask) {
+    apply(mask, (word, bits) -> word & bits);
+  }
+
+  /**
+   * Sets every bit that is set in the given mask. Bits beyond the capacity of the {@link Bitmap}
+   * are ignored, and the first bit of each {@link FixedBitmap} is recalibrated afterwards.
+   *
+   * @param mask the mask to merge.
+   */
+  @Override
+  public void or(Bitmap mask) {
+    apply(mask, (word, bits) -> word | bits);
+  }
+
+  /**
+   * Clears every bit that is set in the given mask. The first bit of each {@link FixedBitmap} is
+   * recalibrated afterwards.
+   *
+   * @param mask the mask of the bits to clear.
+   */
+  @Override
+  public void andNot(Bitmap mask) {
+    apply(mask, (word, bits) -> word & ~bits);
+  }
+
+  /**
+   * @return the number of bytes in the byte array representation of the {@link Bitmap}. Trailing
+   *     empty {@link FixedBitmap}s are not counted.
+   */
+  @Override
+  public int encodedLength() {
+    return bytes * usedExtensions();
+  }
+
+  /**
+   * Writes the byte array representation of the {@link Bitmap} into the given array. Trailing empty
+   * {@link FixedBitmap}s will be ignored.
+   *
+   * @param target the array to write to.
+   * @param offset the offset in the array to start writing at.
+   * @return the number of bytes written.
+   */
+  @Override
+  public int writeTo(byte[] target, int offset) {
+    int length = encodedLength();
+    Objects.checkFromIndexSize(offset, length, target.length);
+    for (int index = 0; index < usedExtensions(); index++) {
+      bitmaps.get(index).writeTo(target, offset + index * bytes);
+    }
+    return length;
+  }
+
+  /**
+   * Writes the byte array representation of the {@link Bitmap} into the given buffer. Trailing empty
+   * {@link FixedBitmap}s will be ignored.
+   *
+   * @param target the buffer to write to.
+   */
+  @Override
+  public void writeTo(ByteBuffer target) {
+    if (target.remaining() < encodedLength()) {
+      throw new BufferOverflowException();
+    }
+    for (int index = 0; index < usedExtensions(); index++) {
+      bitmaps.get(index).writeTo(target);
+    }
+  }
+
+  /**
+   * Writes the byte array representation of the {@link Bitmap} into the given stream. Trailing
+   * empty {@link FixedBitmap}s will be ignored.
+   *
+   * @param output the stream to write to.
+   * @throws IOException if an I/O error occurs.
+   */
+  @Override
+  public void writeTo(OutputStream output) throws IOException {
+    for (int index = 0; index < usedExtensions(); index++) {
+      bitmaps.get(index).writeTo(output);
+    }
+  }
+
+  /**
+   * @return a copy of the {@link ExtendableBitmap}. Trailing empty {@link FixedBitmap}s are not
+   *     copied.
+   */
+  public ExtendableBitmap copy() {
+    List<FixedBitmap> copies = new ArrayList<>(usedExtensions());
+    for (int index = 0; index < usedExtensions(); index++) {
+      copies.add(bitmaps.get(index).copy());
+    }
+    return new ExtendableBitmap(bytes).addExtensions(copies);
+  }
+
+  /**
+   * @return a 64-bit fingerprint of the bits set in the {@link Bitmap}. Trailing empty {@link
+   *     FixedBitmap}s are ignored.
+   */
+  @Override
+  public long fingerprint() {
+    long hash = bytes;
+    for (int index = 0; index < usedExtensions(); index++) {
+      hash = Fingerprints.add(hash, bitmaps.get(index).fingerprint());
+    }
+    return Fingerprints.finish(hash);
+  }
+
+  /**
+   * Two {@link ExtendableBitmap}s are equal if they have the same number of bytes per bitmap and the
+   * same byte array representation, so trailing empty {@link FixedBitmap}s are ignored.
+   *
+   * @param other the object to compare with.
+   * @return {@code true} if the bitmaps are equal, {@code false} otherwise.
+   */
+  @Override
+  public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (!(other instanceof ExtendableBitmap bitmap)
+        || bytes != bitmap.bytes
+        || usedExtensions() != bitmap.usedExtensions()) {
+      return false;
+    }
+    for (int index = 0; index < usedExtensions(); index++) {
+      if (!bitmaps.get(index).equals(bitmap.bitmaps.get(index))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public int hashCode() {
+    return Long.hashCode(fingerprint());
   }
 
   private void checkBit(int bit) {
-    check(bit > 0, BIT_ERROR, capacity(), bit);
-    check(bit <= capacity(), BIT_ERROR, capacity(), bit);
+    Bitmap.checkBit(bit, capacity);
+  }
+
+  private void apply(Bitmap mask, LongBinaryOperator operator) {
+    int bits = bytes * Byte.SIZE;
+    int words = (bits + Long.SIZE - 1) / Long.SIZE;
+    for (int index = 0; index < extensions; index++) {
+      FixedBitmap extension = bitmaps.get(index);
+      for (int word = 0; word < words; word++) {
+        long value = bits(mask, index * bits + word * Long.SIZE);
+        extension.setWord(word, operator.applyAsLong(extension.word(word), value));
+      }
+    }
+    Arrays.fill(dataBits, 0);
+    totalDataBits = 0;
+    last = -1;
+    recount(0);
+  }
+
+  private static long bits(Bitmap mask, int start) {
+    int index = start / Long.SIZE;
+    int shift = start % Long.SIZE;
+    long word = mask.word(index);
+    return shift == 0 ? word : word << shift | mask.word(index + 1) >>> (Long.SIZE - shift);
+  }
+
+  private void resize(int extensions) {
+    while (bitmaps.size() < extensions) {
+      bitmaps.add(new FixedBitmap(bytes));
+    }
+    if (dataBits.length < extensions) {
+      dataBits = Arrays.copyOf(dataBits, extensions);
+    }
+    this.extensions = extensions;
+    this.capacity = extensions * bytes * Byte.SIZE;
+  }
+
+  private void recount(int offset) {
+    for (int index = offset; index < extensions; index++) {
+      FixedBitmap extension = bitmaps.get(index);
+      dataBits[index] = extension.cardinality() - (extension.get(1) ? 1 : 0);
+      totalDataBits += dataBits[index];
+      if (dataBits[index] > 0) {
+        last = index;
+      }
+    }
+    recalibrate();
   }
 
   private void recalibrate() {
-    FixedBitmap next = EMPTY;
-    for (int index = bitmaps.size() - 1; index >= 0; index--) {
-      next = recalibrate(next, bitmaps.get(index));
+    for (int index = 0; index < extensions; index++) {
+      if (index < last) {
+        bitmaps.get(index).set(1);
+      } else {
+        bitmaps.get(index).clear(1);
+      }
     }
   }
 
+  private int usedExtensions() {
+    return Math.max(last, 0) + 1;
+  }
+
   private int getBitmapIndex(int bit) {
     return (bit - 1) / (bytes * Byte.SIZE);
   }
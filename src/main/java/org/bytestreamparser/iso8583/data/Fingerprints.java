@@ -0,0 +1,19 @@
+package org.bytestreamparser.iso8583.data;
+
+/** Helpers for computing {@link Bitmap#fingerprint() fingerprints}. */
+final class Fingerprints {
+  private static final long MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+  private Fingerprints() {}
+
+  static long add(long hash, long value) {
+    return (hash ^ value) * MULTIPLIER;
+  }
+
+  /** Mixes every bit of the hash into every other, so that any subset of bits can index a table. */
+  static long finish(long hash) {
+    hash = (hash ^ (hash >>> 33)) * 0xFF51AFD7ED558CCDL;
+    hash = (hash ^ (hash >>> 33)) * 0xC4CEB9FE1A85EC53L;
+    return hash ^ (hash >>> 33);
+  }
+}
@@ -1,17 +1,31 @@
 package org.bytestreamparser.iso8583.data;
 
-import static org.bytestreamparser.scalar.util.Preconditions.check;
-
-import java.util.BitSet;
-import java.util.stream.IntStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Objects;
 
 /**
- * FixedBitmap is a {@link Bitmap} backed by a {@link BitSet}. It has a fixed capacity and cannot be
- * extended.
+ * FixedBitmap is a {@link Bitmap} backed by an array of {@code long} words. It has a fixed capacity
+ * and cannot be extended.
+ *
+ * <p>The words use the ISO 8583 bit order: bit {@code 1} is the most significant bit of the first
+ * word, so every 8 bytes of the wire representation map to one word with a single big-endian read.
  */
 public class FixedBitmap implements Bitmap {
+  private static final VarHandle WORD =
+      MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
   private final int bytes;
-  private final BitSet bitSet;
+  private final long[] words;
+  private byte[] scratch;
 
   /**
    * Creates a new FixedBitmap.
@@ -21,7 +35,7 @@ public class FixedBitmap implements Bitmap {
   public FixedBitmap(int bytes) {
     Bitmap.check(bytes);
     this.bytes = bytes;
-    this.bitSet = new BitSet(bytes * Byte.SIZE);
+    this.words = new long[(bytes + Long.BYTES - 1) / Long.BYTES];
   }
 
   /**
@@ -32,11 +46,66 @@ public class FixedBitmap implements Bitmap {
    */
   public static FixedBitmap valueOf(byte[] bytes) {
     FixedBitmap bitmap = new FixedBitmap(bytes.length);
-    BitSet.valueOf(bytes).stream()
-        .forEach(bit -> bitmap.set(bit / Byte.SIZE * Byte.SIZE + Byte.SIZE - (bit % Byte.SIZE)));
+    for (int index = 0; index < bitmap.words.length; index++) {
+      bitmap.words[index] = readWord(bytes, index * Long.BYTES, bytes.length);
+    }
     return bitmap;
   }
 
+  /**
+   * Replaces the content of the {@link FixedBitmap} with bytes read from the given stream. The
+   * bytes are read in bulk into a scratch array that the bitmap keeps for its next read.
+   *
+   * @param input the stream to read from.
+   * @return the {@link FixedBitmap}.
+   * @throws EOFException if the stream ends before all bytes are read.
+   * @throws IOException if an I/O error occurs.
+   */
+  public FixedBitmap readFrom(InputStream input) throws IOException {
+    if (scratch == null) {
+      scratch = new byte[bytes];
+    }
+    int read = input.readNBytes(scratch, 0, bytes);
+    if (read < bytes) {
+      reset();
+      throw new EOFException(String.format(EOF_ERROR, read, bytes));
+    }
+    for (int index = 0; index < words.length; index++) {
+      words[index] = readWord(scratch, index * Long.BYTES, bytes);
+    }
+    return this;
+  }
+
+  /**
+   * Replaces the content of the {@link FixedBitmap} with bytes read from the given buffer,
+   * advancing its position. Whole words are read with a single {@code getLong} each; the byte order
+   * of the buffer is ignored.
+   *
+   * @param input the buffer to read from.
+   * @return the {@link FixedBitmap}.
+   * @throws BufferUnderflowException if the buffer has fewer bytes remaining than the bitmap.
+   *     Nothing is read in that case.
+   */
+  public FixedBitmap readFrom(ByteBuffer input) {
+    if (input.remaining() < bytes) {
+      throw new BufferUnderflowException();
+    }
+    boolean bigEndian = input.order() == ByteOrder.BIG_ENDIAN;
+    int fullWords = bytes / Long.BYTES;
+    for (int index = 0; index < fullWords; index++) {
+      long word = input.getLong();
+      words[index] = bigEndian ? word : Long.reverseBytes(word);
+    }
+    if (fullWords < words.length) {
+      long word = 0;
+      for (int index = fullWords * Long.BYTES; index < bytes; index++) {
+        word |= (input.get() & 0xFFL) << shift(index);
+      }
+      words[fullWords] = word;
+    }
+    return this;
+  }
+
   /**
    * @return the total number of bits in the {@link Bitmap}.
    */
@@ -54,7 +123,7 @@ public class FixedBitmap implements Bitmap {
   @Override
   public boolean get(int bit) {
     checkBit(bit);
-    return bitSet.get(bit - 1);
+    return (words[wordIndex(bit)] & mask(bit)) != 0;
   }
 
   /**
@@ -65,7 +134,7 @@ public class FixedBitmap implements Bitmap {
   @Override
   public void set(int bit) {
     checkBit(bit);
-    bitSet.set(bit - 1);
+    words[wordIndex(bit)] |= mask(bit);
   }
 
   /**
@@ -76,7 +145,13 @@ public class FixedBitmap implements Bitmap {
   @Override
   public void clear(int bit) {
     checkBit(bit);
-    bitSet.clear(bit - 1);
+    words[wordIndex(bit)] &= ~mask(bit);
+  }
+
+  /** Clears all bits in the {@link Bitmap}. */
+  @Override
+  public void reset() {
+    Arrays.fill(words, 0);
   }
 
   /**
@@ -84,31 +159,219 @@ public class FixedBitmap implements Bitmap {
    */
   @Override
   public int cardinality() {
-    return bitSet.cardinality();
+    int cardinality = 0;
+    for (long word : words) {
+      cardinality += Long.bitCount(word);
+    }
+    return cardinality;
+  }
+
+  /**
+   * Returns the first bit that is set on or after the given bit.
+   *
+   * @param bit the bit to start from. NOTE: The bit index starts from {@code 1}.
+   * @return the next set bit, or {@code -1} if there is no such bit.
+   */
+  @Override
+  public int nextSetBit(int bit) {
+    if (bit > capacity()) {
+      return -1;
+    }
+    checkBit(bit);
+    int index = wordIndex(bit);
+    long word = words[index] & (-1L >>> ((bit - 1) % Long.SIZE));
+    while (word == 0) {
+      if (++index == words.length) {
+        return -1;
+      }
+      word = words[index];
+    }
+    return index * Long.SIZE + Long.numberOfLeadingZeros(word) + 1;
+  }
+
+  /**
+   * Returns the 64 bits starting at bit {@code index * 64 + 1}. Bits beyond the capacity of the
+   * {@link Bitmap} read as {@code 0}.
+   *
+   * @param index the index of the word, starting from {@code 0}.
+   * @return the word.
+   */
+  @Override
+  public long word(int index) {
+    return index < words.length ? words[index] : 0;
+  }
+
+  /**
+   * Clears every bit that is not set in the given mask.
+   *
+   * @param mask the mask to intersect with.
+   */
+  @Override
+  public void and(Bitmap mask) {
+    for (int index = 0; index < words.length; index++) {
+      words[index] &= mask.word(index);
+    }
+  }
+
+  /**
+   * Sets every bit that is set in the given mask. Bits beyond the capacity of the {@link Bitmap}
+   * are ignored.
+   *
+   * @param mask the mask to merge.
+   */
+  @Override
+  public void or(Bitmap mask) {
+    for (int index = 0; index < words.length; index++) {
+      setWord(index, words[index] | mask.word(index));
+    }
+  }
+
+  /**
+   * Clears every bit that is set in the given mask.
+   *
+   * @param mask the mask of the bits to clear.
+   */
+  @Override
+  public void andNot(Bitmap mask) {
+    for (int index = 0; index < words.length; index++) {
+      words[index] &= ~mask.word(index);
+    }
+  }
+
+  /**
+   * @return the number of bytes in the byte array representation of the {@link Bitmap}.
+   */
+  @Override
+  public int encodedLength() {
+    return bytes;
+  }
+
+  /**
+   * Writes the byte array representation of the {@link Bitmap} into the given array.
+   *
+   * @param target the array to write to.
+   * @param offset the offset in the array to start writing at.
+   * @return the number of bytes written.
+   */
+  @Override
+  public int writeTo(byte[] target, int offset) {
+    Objects.checkFromIndexSize(offset, bytes, target.length);
+    for (int index = 0; index < words.length; index++) {
+      writeWord(words[index], target, offset + index * Long.BYTES, offset + bytes);
+    }
+    return bytes;
   }
 
   /**
-   * @return a stream of the bits set in the {@link Bitmap}.
+   * Writes the byte array representation of the {@link Bitmap} into the given buffer.
+   *
+   * @param target the buffer to write to.
    */
   @Override
-  public IntStream stream() {
-    return bitSet.stream().map(bit -> bit + 1);
+  public void writeTo(ByteBuffer target) {
+    if (target.remaining() < bytes) {
+      throw new BufferOverflowException();
+    }
+    boolean bigEndian = target.order() == ByteOrder.BIG_ENDIAN;
+    int fullWords = bytes / Long.BYTES;
+    for (int index = 0; index < fullWords; index++) {
+      target.putLong(bigEndian ? words[index] : Long.reverseBytes(words[index]));
+    }
+    for (int index = fullWords * Long.BYTES; index < bytes; index++) {
+      target.put(byteAt(index));
+    }
   }
 
   /**
-   * Converts the {@link Bitmap} to a byte array.
+   * Writes the byte array representation of the {@link Bitmap} into the given stream.
    *
-   * @return the byte array representation of the {@link Bitmap}.
+   * @param output the stream to write to.
+   * @throws IOException if an I/O error occurs.
    */
   @Override
-  public byte[] toByteArray() {
-    byte[] packed = new byte[bytes];
-    bitSet.stream().forEach(bit -> packed[bit / Byte.SIZE] |= (byte) (1 << (7 - bit % Byte.SIZE)));
-    return packed;
+  public void writeTo(OutputStream output) throws IOException {
+    for (int index = 0; index < bytes; index++) {
+      output.write(byteAt(index));
+    }
+  }
+
+  /**
+   * @return a copy of the {@link FixedBitmap}.
+   */
+  public FixedBitmap copy() {
+    FixedBitmap copy = new FixedBitmap(bytes);
+    System.arraycopy(words, 0, copy.words, 0, words.length);
+    return copy;
+  }
+
+  /**
+   * @return a 64-bit fingerprint of the bits set in the {@link Bitmap}, mixed one word at a time.
+   */
+  @Override
+  public long fingerprint() {
+    long hash = bytes;
+    for (long word : words) {
+      hash = Fingerprints.add(hash, word);
+    }
+    return Fingerprints.finish(hash);
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    return this == other
+        || other instanceof FixedBitmap bitmap
+            && bytes == bitmap.bytes
+            && Arrays.equals(words, bitmap.words);
+  }
+
+  @Override
+  public int hashCode() {
+    return Long.hashCode(fingerprint());
+  }
+
+  void setWord(int index, long word) {
+    int tail = bytes * Byte.SIZE - index * Long.SIZE;
+    words[index] = tail < Long.SIZE ? word & ~(-1L >>> tail) : word;
+  }
+
+  private byte byteAt(int index) {
+    return (byte) (words[index / Long.BYTES] >>> shift(index));
   }
 
   private void checkBit(int bit) {
-    check(bit > 0, BIT_ERROR, capacity(), bit);
-    check(bit <= capacity(), BIT_ERROR, capacity(), bit);
+    Bitmap.checkBit(bit, capacity());
+  }
+
+  private static int shift(int index) {
+    return (Long.BYTES - 1 - index % Long.BYTES) * Byte.SIZE;
+  }
+
+  private static int wordIndex(int bit) {
+    return (bit - 1) / Long.SIZE;
+  }
+
+  private static long mask(int bit) {
+    return Long.MIN_VALUE >>> ((bit - 1) % Long.SIZE);
+  }
+
+  private static long readWord(byte[] source, int offset, int limit) {
+    if (limit - offset >= Long.BYTES) {
+      return (long) WORD.get(source, offset);
+    }
+    long word = 0;
+    for (int index = offset; index < limit; index++) {
+      word |= (source[index] & 0xFFL) << ((Long.BYTES - 1 - (index - offset)) * Byte.SIZE);
+    }
+    return word;
+  }
+
+  private static void writeWord(long word, byte[] target, int offset, int limit) {
+    if (limit - offset >= Long.BYTES) {
+      WORD.set(target, offset, word);
+      return;
+    }
+    for (int index = offset; index < limit; index++) {
+      target[index] = (byte) (word >>> ((Long.BYTES - 1 - (index - offset)) * Byte.SIZE));
+    }
   }
 }
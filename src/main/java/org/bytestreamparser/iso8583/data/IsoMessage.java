@@ -1,6 +1,16 @@
 package org.bytestreamparser.iso8583.data;
 
-/** Interface for ISO messages. */
+import org.bytestreamparser.composite.data.DataObject;
+
+/**
+ * Interface for ISO messages.
+ *
+ * <p>A field of a message parsed for pass-through may hold its encoded bytes as a {@link RawField}
+ * instead of its decoded value, under the same field ID. Such a field is only packed back, so check
+ * {@link #isRaw(int)} before reading it as its decoded type.
+ *
+ * @see org.bytestreamparser.iso8583.parser.IsoMessageParser#parsePassThrough
+ */
 public interface IsoMessage {
   /**
    * Returns whether the message has a data field with the given ID.
@@ -10,4 +20,26 @@ public interface IsoMessage {
    *     otherwise.
    */
   boolean hasDataField(int id);
+
+  /**
+   * Returns the bitmap of the data fields present in the message, for messages that keep one in
+   * sync as fields are set and cleared. Such a bitmap is packed as is instead of being recomputed.
+   *
+   * @return the bitmap, or {@code null} if the message does not keep one.
+   */
+  default ExtendableBitmap bitmap() {
+    return null;
+  }
+
+  /**
+   * Returns whether the given field holds its encoded bytes as a {@link RawField} rather than a
+   * decoded value.
+   *
+   * @param id the ID of the data field.
+   * @return {@code true} if the field is present and held as a {@link RawField}.
+   */
+  default boolean isRaw(int id) {
+    return this instanceof DataObject<?> message
+        && message.get(String.valueOf(id)) instanceof RawField;
+  }
 }
@@ -0,0 +1,110 @@
+package org.bytestreamparser.iso8583.data;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+import org.bytestreamparser.api.parser.DataParser;
+
+/**
+ * RawField is the encoded value of a field held as a slice of the frame it was read from, including
+ * any length prefix. It is packed back verbatim, so a field that is forwarded unchanged costs a copy
+ * of its bytes instead of a decode and encode.
+ *
+ * <p>The frame is not copied, so it must not be modified while the field is in use.
+ */
+public final class RawField {
+  private final byte[] frame;
+  private final int offset;
+  private final int length;
+
+  private RawField(byte[] frame, int offset, int length) {
+    Objects.checkFromIndexSize(offset, length, frame.length);
+    this.frame = frame;
+    this.offset = offset;
+    this.length = length;
+  }
+
+  /**
+   * Creates a RawField over a slice of the given frame.
+   *
+   * @param frame the frame containing the field.
+   * @param offset the offset of the field in the frame.
+   * @param length the number of bytes of the field.
+   * @return the RawField.
+   */
+  public static RawField of(byte[] frame, int offset, int length) {
+    return new RawField(frame, offset, length);
+  }
+
+  /**
+   * @return the number of bytes of the field.
+   */
+  public int length() {
+    return length;
+  }
+
+  /**
+   * Decodes the field with the given parser.
+   *
+   * @param parser the parser of the field.
+   * @return the decoded value.
+   * @param <V> the type of the value.
+   * @throws IOException if the field cannot be decoded.
+   */
+  public <V> V decode(DataParser<V> parser) throws IOException {
+    return parser.parse(new ByteArrayInputStream(frame, offset, length));
+  }
+
+  /**
+   * Writes the bytes of the field into the given stream.
+   *
+   * @param output the stream to write to.
+   * @throws IOException if an I/O error occurs.
+   */
+  public void writeTo(OutputStream output) throws IOException {
+    output.write(frame, offset, length);
+  }
+
+  /**
+   * Writes the bytes of the field into the given buffer.
+   *
+   * @param target the buffer to write to.
+   * @throws BufferOverflowException if the buffer has fewer bytes remaining than the field.
+   */
+  public void writeTo(ByteBuffer target) {
+    target.put(frame, offset, length);
+  }
+
+  /**
+   * @return a copy of the bytes of the field.
+   */
+  public byte[] toByteArray() {
+    return Arrays.copyOfRange(frame, offset, offset + length);
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    return this == other
+        || other instanceof RawField field
+            && Arrays.equals(
+                frame,
+                offset,
+                offset + length,
+                field.frame,
+                field.offset,
+                field.offset + field.length);
+  }
+
+  @Override
+  public int hashCode() {
+    int hash = 1;
+    for (int index = offset; index < offset + length; index++) {
+      hash = 31 * hash + frame[index];
+    }
+    return hash;
+  }
+}
@@ -0,0 +1,230 @@
+package org.bytestreamparser.iso8583.parser;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * Table-driven codec for packed BCD. Each byte holds two digits, most significant nibble first. A
+ * 256-entry table maps every byte straight to the value of its two digits, so numbers are decoded
+ * into primitives a byte at a time, and encoded from them through the reverse 100-entry table.
+ *
+ * <p>The padding nibble of an odd number of digits must be {@code 0} when it leads and {@code F}
+ * when it trails, as written when encoding; any other padding is rejected when decoding numbers.
+ */
+final class BcdCodec {
+  static final int MAX_LONG_DIGITS = 18;
+  private static final String DIGIT_ERROR_MESSAGE = "%s: invalid BCD byte [0x%02X]";
+  private static final String CHARACTER_ERROR_MESSAGE = "%s: invalid BCD character [%s]";
+  private static final String EOF_ERROR_MESSAGE =
+      "%s: end of stream reached after reading %d bytes, bytes expected [%d]";
+  private static final char[] CHARACTERS = "0123456789abcdef".toCharArray();
+  private static final long[] POWERS = new long[MAX_LONG_DIGITS + 1];
+  private static final byte[] PAIRS = new byte[1 << Byte.SIZE];
+  private static final byte[] PACKED = new byte[100];
+
+  static {
+    POWERS[0] = 1;
+    for (int index = 1; index < POWERS.length; index++) {
+      POWERS[index] = POWERS[index - 1] * 10;
+    }
+    Arrays.fill(PAIRS, (byte) -1);
+    for (int pair = 0; pair < PACKED.length; pair++) {
+      PACKED[pair] = (byte) (pair / 10 << 4 | pair % 10);
+      PAIRS[PACKED[pair] & 0xFF] = (byte) pair;
+    }
+  }
+
+  private BcdCodec() {}
+
+  /**
+   * @param digits the number of digits.
+   * @return the number of bytes of the given number of digits.
+   */
+  static int bytes(int digits) {
+    return (digits + 1) / 2;
+  }
+
+  /**
+   * @param digits the number of digits, up to {@link #MAX_LONG_DIGITS}.
+   * @return the largest value of the given number of digits.
+   */
+  static long max(int digits) {
+    return POWERS[digits] - 1;
+  }
+
+  /**
+   * Decodes a number from the given stream.
+   *
+   * @param id the ID of the parser, used in error messages.
+   * @param input the stream to read from.
+   * @param digits the number of digits, up to {@link #MAX_LONG_DIGITS}.
+   * @param padding the position of the padding nibble.
+   * @return the number.
+   * @throws EOFException if the stream ends before all digits are read.
+   * @throws IOException if an I/O error occurs.
+   */
+  static long decode(String id, InputStream input, int digits, BcdPadding padding)
+      throws IOException {
+    int bytes = bytes(digits);
+    boolean odd = digits % 2 != 0;
+    long value = 0;
+    for (int index = 0; index < bytes; index++) {
+      int packed = read(id, input, index, bytes);
+      if (odd && padding == BcdPadding.LEFT && index == 0) {
+        value = digit(id, packed, packed >>> 4 == 0 ? packed & 0xF : -1);
+      } else if (odd && padding == BcdPadding.RIGHT && index == bytes - 1) {
+        value = value * 10 + digit(id, packed, (packed & 0xF) == 0xF ? packed >>> 4 : -1);
+      } else {
+        value = value * 100 + pair(id, packed);
+      }
+    }
+    return value;
+  }
+
+  /**
+   * Decodes a number from the given array without throwing. The caller must ensure that all its
+   * bytes are available.
+   *
+   * @param source the array to read from.
+   * @param offset the offset of the first byte.
+   * @param digits the number of digits, up to {@link #MAX_LONG_DIGITS}.
+   * @param padding the position of the padding nibble.
+   * @return the number, or {@code -1} if a digit is invalid.
+   */
+  static long tryDecode(byte[] source, int offset, int digits, BcdPadding padding) {
+    int bytes = bytes(digits);
+    boolean odd = digits % 2 != 0;
+    long value = 0;
+    for (int index = 0; index < bytes; index++) {
+      int packed = source[offset + index] & 0xFF;
+      if (odd && padding == BcdPadding.LEFT && index == 0) {
+        if (packed > 9) {
+          return -1;
+        }
+        value = packed;
+      } else if (odd && padding == BcdPadding.RIGHT && index == bytes - 1) {
+        if (packed >>> 4 > 9 || (packed & 0xF) != 0xF) {
+          return -1;
+        }
+        value = value * 10 + (packed >>> 4);
+      } else {
+        if (PAIRS[packed] < 0) {
+          return -1;
+        }
+        value = value * 100 + PAIRS[packed];
+      }
+    }
+    return value;
+  }
+
+  /**
+   * Encodes a number into the given stream. The number must have at most the given number of
+   * digits.
+   *
+   * @param value the number to encode.
+   * @param digits the number of digits, up to {@link #MAX_LONG_DIGITS}.
+   * @param padding the position of the padding nibble.
+   * @param output the stream to write to.
+   * @throws IOException if an I/O error occurs.
+   */
+  static void encode(long value, int digits, BcdPadding padding, OutputStream output)
+      throws IOException {
+    int remaining = digits;
+    if (digits % 2 != 0 && padding == BcdPadding.LEFT) {
+      remaining--;
+      output.write((int) (value / POWERS[remaining] % 10));
+    }
+    for (; remaining >= 2; remaining -= 2) {
+      output.write(PACKED[(int) (value / POWERS[remaining - 2] % 100)]);
+    }
+    if (remaining == 1) {
+      output.write((int) (value % 10) << 4 | 0xF);
+    }
+  }
+
+  /**
+   * Decodes a string of digits from the given stream. Nibbles above {@code 9} are decoded as
+   * lower case hex digits.
+   *
+   * @param id the ID of the parser, used in error messages.
+   * @param input the stream to read from.
+   * @param digits the number of digits.
+   * @param padding the position of the padding nibble.
+   * @return the digits.
+   * @throws EOFException if the stream ends before all digits are read.
+   * @throws IOException if an I/O error occurs.
+   */
+  static String decodeString(String id, InputStream input, int digits, BcdPadding padding)
+      throws IOException {
+    char[] characters = new char[digits];
+    int bytes = bytes(digits);
+    int position = digits % 2 != 0 && padding == BcdPadding.LEFT ? -1 : 0;
+    for (int index = 0; index < bytes; index++) {
+      int packed = read(id, input, index, bytes);
+      if (position >= 0) {
+        characters[position] = CHARACTERS[packed >>> 4];
+      }
+      if (position + 1 < digits) {
+        characters[position + 1] = CHARACTERS[packed & 0xF];
+      }
+      position += 2;
+    }
+    return new String(characters);
+  }
+
+  /**
+   * Encodes a string of digits into the given stream. Hex digits above {@code 9} are accepted in
+   * either case.
+   *
+   * @param id the ID of the parser, used in error messages.
+   * @param value the digits to encode.
+   * @param padding the position of the padding nibble.
+   * @param output the stream to write to.
+   * @throws IOException if an I/O error occurs.
+   */
+  static void encodeString(String id, String value, BcdPadding padding, OutputStream output)
+      throws IOException {
+    int length = value.length();
+    int position = length % 2 != 0 && padding == BcdPadding.LEFT ? -1 : 0;
+    for (; position < length; position += 2) {
+      int high = position >= 0 ? nibble(id, value, position) : 0;
+      int low = position + 1 < length ? nibble(id, value, position + 1) : 0xF;
+      output.write(high << 4 | low);
+    }
+  }
+
+  private static int read(String id, InputStream input, int index, int bytes) throws IOException {
+    int value = input.read();
+    if (value < 0) {
+      throw new EOFException(String.format(EOF_ERROR_MESSAGE, id, index, bytes));
+    }
+    return value;
+  }
+
+  private static int pair(String id, int packed) {
+    int pair = PAIRS[packed];
+    if (pair < 0) {
+      throw new IllegalArgumentException(String.format(DIGIT_ERROR_MESSAGE, id, packed));
+    }
+    return pair;
+  }
+
+  private static int digit(String id, int packed, int nibble) {
+    if (nibble < 0 || nibble > 9) {
+      throw new IllegalArgumentException(String.format(DIGIT_ERROR_MESSAGE, id, packed));
+    }
+    return nibble;
+  }
+
+  private static int nibble(String id, String value, int position) {
+    char character = value.charAt(position);
+    int nibble = character < 0x80 ? Character.digit(character, 16) : -1;
+    if (nibble < 0) {
+      throw new IllegalArgumentException(String.format(CHARACTER_ERROR_MESSAGE, id, character));
+    }
+    return nibble;
+  }
+}
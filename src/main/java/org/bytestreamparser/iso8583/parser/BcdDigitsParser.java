@@ -0,0 +1,70 @@
+package org.bytestreamparser.iso8583.parser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import org.bytestreamparser.api.parser.DataParser;
+
+/**
+ * A parser for strings of digits encoded as packed BCD with a fixed number of digits. Nibbles above
+ * {@code 9} are decoded as lower case hex digits, so separators such as the {@code D} of track 2
+ * data pass through.
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Binary-coded_decimal">Binary Coded Decimal</a>
+ */
+public class BcdDigitsParser extends DataParser<String> implements Measurable {
+  private static final String LENGTH_ERROR_MESSAGE =
+      "%s: value should have %d digits, but got [%d]";
+  private final int digits;
+  private final BcdPadding padding;
+
+  /**
+   * Creates a new BcdDigitsParser. An odd number of digits is padded on the left.
+   *
+   * @param id the ID of the parser.
+   * @param digits the number of digits.
+   */
+  public BcdDigitsParser(String id, int digits) {
+    this(id, digits, BcdPadding.LEFT);
+  }
+
+  /**
+   * Creates a new BcdDigitsParser.
+   *
+   * @param id the ID of the parser.
+   * @param digits the number of digits.
+   * @param padding the position of the padding nibble of an odd number of digits.
+   */
+  public BcdDigitsParser(String id, int digits, BcdPadding padding) {
+    super(id);
+    this.digits = digits;
+    this.padding = padding;
+  }
+
+  @Override
+  public void pack(String value, OutputStream output) throws IOException {
+    if (value.length() != digits) {
+      throw new IllegalArgumentException(
+          String.format(LENGTH_ERROR_MESSAGE, getId(), digits, value.length()));
+    }
+    BcdCodec.encodeString(getId(), value, padding, output);
+  }
+
+  @Override
+  public String parse(InputStream input) throws IOException {
+    return BcdCodec.decodeString(getId(), input, digits, padding);
+  }
+
+  /**
+   * Measures the encoded value at the given offset of the frame.
+   *
+   * @param frame the frame containing the value.
+   * @param offset the offset of the value in the frame.
+   * @param limit the end of the bytes available for the value, exclusive.
+   * @return the number of bytes of the value, or {@link Measurable#TRUNCATED}.
+   */
+  @Override
+  public int measure(byte[] frame, int offset, int limit) {
+    return Measurable.fixed(BcdCodec.bytes(digits), offset, limit);
+  }
+}
@@ -0,0 +1,114 @@
+package org.bytestreamparser.iso8583.parser;
+
+import static org.bytestreamparser.scalar.util.Preconditions.check;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import org.bytestreamparser.api.parser.DataParser;
+
+/**
+ * A parser for {@link Integer} values encoded as packed BCD with a fixed number of digits. The
+ * digits are decoded straight into a {@code int} through lookup tables, without an
+ * intermediate {@link String}.
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Binary-coded_decimal">Binary Coded Decimal</a>
+ */
+public class BcdIntegerParser extends DataParser<Integer> implements IntFieldParser, Measurable {
+  private static final int MAX_DIGITS = 9;
+  private static final String DIGITS_ERROR_MESSAGE =
+      "%s: digits should be between 1 and %d, but got [%d]";
+  private static final String VALUE_ERROR_MESSAGE =
+      "%s: value should be between 0 and %d, but got [%d]";
+  private final int digits;
+  private final BcdPadding padding;
+  private final int max;
+
+  /**
+   * Creates a new BcdIntegerParser. An odd number of digits is padded on the left.
+   *
+   * @param id the ID of the parser.
+   * @param digits the number of digits, up to 9.
+   */
+  public BcdIntegerParser(String id, int digits) {
+    this(id, digits, BcdPadding.LEFT);
+  }
+
+  /**
+   * Creates a new BcdIntegerParser.
+   *
+   * @param id the ID of the parser.
+   * @param digits the number of digits, up to 9.
+   * @param padding the position of the padding nibble of an odd number of digits.
+   */
+  public BcdIntegerParser(String id, int digits, BcdPadding padding) {
+    super(id);
+    check(digits > 0 && digits <= MAX_DIGITS, DIGITS_ERROR_MESSAGE, id, MAX_DIGITS, digits);
+    this.digits = digits;
+    this.padding = padding;
+    this.max = (int) BcdCodec.max(digits);
+  }
+
+  @Override
+  public void pack(Integer value, OutputStream output) throws IOException {
+    packInt(value, output);
+  }
+
+  @Override
+  public void packInt(int value, OutputStream output) throws IOException {
+    if (value < 0 || value > max) {
+      throw new IllegalArgumentException(String.format(VALUE_ERROR_MESSAGE, getId(), max, value));
+    }
+    BcdCodec.encode(value, digits, padding, output);
+  }
+
+  @Override
+  public Integer parse(InputStream input) throws IOException {
+    return parseInt(input);
+  }
+
+  @Override
+  public int parseInt(InputStream input) throws IOException {
+    return (int) BcdCodec.decode(getId(), input, digits, padding);
+  }
+
+  /**
+   * Measures the encoded value at the given offset of the frame.
+   *
+   * @param frame the frame containing the value.
+   * @param offset the offset of the value in the frame.
+   * @param limit the end of the bytes available for the value, exclusive.
+   * @return the number of bytes of the value, or {@link Measurable#TRUNCATED}.
+   */
+  @Override
+  public int measure(byte[] frame, int offset, int limit) {
+    return Measurable.fixed(BcdCodec.bytes(digits), offset, limit);
+  }
+
+  /**
+   * Decodes the value at the given offset of the array without throwing. The caller must ensure
+   * that all its bytes are available.
+   *
+   * @param source the array to read from.
+   * @param offset the offset of the encoded value.
+   * @return the value, or {@code -1} if a digit or the padding is invalid.
+   */
+  public int tryParseInt(byte[] source, int offset) {
+    return (int) BcdCodec.tryDecode(source, offset, digits, padding);
+  }
+
+  /**
+   * Measures the encoded value at the given offset of the frame and checks its digits and padding.
+   *
+   * @param frame the frame containing the value.
+   * @param offset the offset of the value in the frame.
+   * @param limit the end of the bytes available for the value, exclusive.
+   * @return the number of bytes of the value, or {@link Measurable#TRUNCATED} or {@link
+   *     Measurable#INVALID}.
+   */
+  @Override
+  public int validate(byte[] frame, int offset, int limit) {
+    int measured = measure(frame, offset, limit);
+    return measured < 0 || tryParseInt(frame, offset) >= 0 ? measured : INVALID;
+  }
+}
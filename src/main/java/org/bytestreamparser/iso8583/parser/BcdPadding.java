@@ -0,0 +1,13 @@
+package org.bytestreamparser.iso8583.parser;
+
+/**
+ * The position of the padding nibble of a BCD value with an odd number of digits.
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Binary-coded_decimal">Binary Coded Decimal</a>
+ */
+public enum BcdPadding {
+  /** The padding nibble precedes the digits and is written as {@code 0}. */
+  LEFT,
+  /** The padding nibble follows the digits and is written as {@code F}. */
+  RIGHT
+}
@@ -0,0 +1,95 @@
+package org.bytestreamparser.iso8583.parser;
+
+import static org.bytestreamparser.scalar.util.Preconditions.check;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * An input stream that reads at most a given number of bytes from another stream, and reports the
+ * end of the stream once they are read. It is the byte budget of a message: {@link
+ * LengthPrefixedParser} rejects a declared length that exceeds the {@link #remaining() bytes left}
+ * before allocating anything for the value, as long as it reads from this stream directly rather
+ * than through another stream wrapping it.
+ */
+public final class BoundedInputStream extends FilterInputStream {
+  private static final String LIMIT_ERROR_MESSAGE = "limit should not be negative, but got [%d]";
+  private final int limit;
+  private int position;
+
+  /**
+   * Creates a new BoundedInputStream.
+   *
+   * @param input the stream to read from.
+   * @param limit the maximum number of bytes to read.
+   */
+  public BoundedInputStream(InputStream input, int limit) {
+    super(input);
+    check(limit >= 0, LIMIT_ERROR_MESSAGE, limit);
+    this.limit = limit;
+  }
+
+  /**
+   * @return the number of bytes read so far.
+   */
+  public int position() {
+    return position;
+  }
+
+  /**
+   * @return the number of bytes that can still be read.
+   */
+  public int remaining() {
+    return limit - position;
+  }
+
+  @Override
+  public int read() throws IOException {
+    if (position >= limit) {
+      return -1;
+    }
+    int value = in.read();
+    if (value >= 0) {
+      position++;
+    }
+    return value;
+  }
+
+  @Override
+  public int read(byte[] buffer, int offset, int length) throws IOException {
+    if (length > 0 && position >= limit) {
+      return -1;
+    }
+    int read = in.read(buffer, offset, Math.min(length, remaining()));
+    if (read > 0) {
+      position += read;
+    }
+    return read;
+  }
+
+  @Override
+  public long skip(long bytes) throws IOException {
+    long skipped = in.skip(Math.min(bytes, remaining()));
+    position += (int) skipped;
+    return skipped;
+  }
+
+  @Override
+  public int available() throws IOException {
+    return Math.min(in.available(), remaining());
+  }
+
+  @Override
+  public boolean markSupported() {
+    return false;
+  }
+
+  @Override
+  public synchronized void mark(int limit) {}
+
+  @Override
+  public synchronized void reset() throws IOException {
+    throw new IOException("mark/reset not supported");
+  }
+}
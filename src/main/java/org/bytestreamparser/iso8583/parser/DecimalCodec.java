@@ -0,0 +1,150 @@
+package org.bytestreamparser.iso8583.parser;
+
+import static org.bytestreamparser.scalar.util.Preconditions.check;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * Table-driven codec for signed decimal numbers encoded as fixed length text in a single-byte
+ * charset, e.g. ASCII or EBCDIC. Numbers are decoded straight into a {@code long} and encoded from
+ * it without an intermediate {@link String}. A leading sign is accepted when decoding, and positive
+ * numbers are padded with leading zeros when encoding.
+ */
+final class DecimalCodec {
+  private static final String CHARSET_ERROR_MESSAGE =
+      "%s does not encode decimal digits as single bytes";
+  private static final String DIGIT_ERROR_MESSAGE = "%s: invalid digit [0x%02X]";
+  private static final String RANGE_ERROR_MESSAGE = "%s: value out of range";
+  private static final String LENGTH_ERROR_MESSAGE = "%s: value [%d] does not fit in %d characters";
+  private static final String EOF_ERROR_MESSAGE =
+      "%s: end of stream reached after reading %d bytes, bytes expected [%d]";
+  private static final long[] POWERS = new long[19];
+  private final byte[] digits;
+  private final byte[] values;
+  private final int minus;
+  private final int plus;
+
+  static {
+    POWERS[0] = 1;
+    for (int index = 1; index < POWERS.length; index++) {
+      POWERS[index] = POWERS[index - 1] * 10;
+    }
+  }
+
+  DecimalCodec(Charset charset) {
+    byte[] encoded = "0123456789-+".getBytes(charset);
+    check(encoded.length == 12, CHARSET_ERROR_MESSAGE, charset);
+    this.digits = Arrays.copyOf(encoded, 10);
+    this.values = new byte[1 << Byte.SIZE];
+    Arrays.fill(values, (byte) -1);
+    for (int digit = 0; digit < digits.length; digit++) {
+      values[digits[digit] & 0xFF] = (byte) digit;
+    }
+    this.minus = encoded[10] & 0xFF;
+    this.plus = encoded[11] & 0xFF;
+  }
+
+  /**
+   * Decodes a number from the given stream.
+   *
+   * @param id the ID of the parser, used in error messages.
+   * @param input the stream to read from.
+   * @param length the number of characters.
+   * @return the number.
+   * @throws EOFException if the stream ends before all characters are read.
+   * @throws IOException if an I/O error occurs.
+   */
+  long decode(String id, InputStream input, int length) throws IOException {
+    boolean negative = false;
+    long value = 0;
+    for (int index = 0; index < length; index++) {
+      int character = input.read();
+      if (character < 0) {
+        throw new EOFException(String.format(EOF_ERROR_MESSAGE, id, index, length));
+      }
+      if (index == 0 && length > 1 && (character == minus || character == plus)) {
+        negative = character == minus;
+        continue;
+      }
+      int digit = values[character];
+      if (digit < 0) {
+        throw new IllegalArgumentException(String.format(DIGIT_ERROR_MESSAGE, id, character));
+      }
+      if (value < (Long.MIN_VALUE + digit) / 10) {
+        throw new IllegalArgumentException(String.format(RANGE_ERROR_MESSAGE, id));
+      }
+      value = value * 10 - digit;
+    }
+    if (!negative && value == Long.MIN_VALUE) {
+      throw new IllegalArgumentException(String.format(RANGE_ERROR_MESSAGE, id));
+    }
+    return negative ? value : -value;
+  }
+
+  /**
+   * Checks the number at the given offset of the array without throwing. The caller must ensure
+   * that all its characters are available.
+   *
+   * @param source the array to read from.
+   * @param offset the offset of the first character.
+   * @param length the number of characters.
+   * @param min the smallest valid number.
+   * @param max the largest valid number.
+   * @return {@code true} if the characters are a number between the given bounds.
+   */
+  boolean isValid(byte[] source, int offset, int length, long min, long max) {
+    boolean negative = false;
+    long value = 0;
+    for (int index = 0; index < length; index++) {
+      int character = source[offset + index] & 0xFF;
+      if (index == 0 && length > 1 && (character == minus || character == plus)) {
+        negative = character == minus;
+        continue;
+      }
+      int digit = values[character];
+      if (digit < 0 || value < (Long.MIN_VALUE + digit) / 10) {
+        return false;
+      }
+      value = value * 10 - digit;
+    }
+    if (!negative && value == Long.MIN_VALUE) {
+      return false;
+    }
+    value = negative ? value : -value;
+    return value >= min && value <= max;
+  }
+
+  /**
+   * Encodes a number into the given stream.
+   *
+   * @param id the ID of the parser, used in error messages.
+   * @param value the number to encode.
+   * @param length the number of characters.
+   * @param output the stream to write to.
+   * @throws IOException if an I/O error occurs.
+   */
+  void encode(String id, long value, int length, OutputStream output) throws IOException {
+    int sign = value < 0 ? 1 : 0;
+    int count = 1;
+    while (count < POWERS.length && Math.abs(value / POWERS[count]) > 0) {
+      count++;
+    }
+    if (count + sign > length) {
+      throw new IllegalArgumentException(String.format(LENGTH_ERROR_MESSAGE, id, value, length));
+    }
+    if (sign > 0) {
+      output.write(minus);
+    }
+    for (int index = count + sign; index < length; index++) {
+      output.write(digits[0]);
+    }
+    for (int index = count - 1; index >= 0; index--) {
+      output.write(digits[(int) Math.abs(value / POWERS[index] % 10)]);
+    }
+  }
+}
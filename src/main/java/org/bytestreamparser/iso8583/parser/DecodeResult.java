@@ -0,0 +1,75 @@
+package org.bytestreamparser.iso8583.parser;
+
+/**
+ * The result of decoding a message with {@link IsoMessageParser#decode}: a {@link DecodeStatus},
+ * the field and offset where decoding stopped, and the decoded message. A result is meant to be
+ * reused from one frame to the next, so that rejecting a frame does not allocate.
+ *
+ * @param <D> the type of the ISO message.
+ */
+public final class DecodeResult<D> {
+  /** The {@link #field() field} of a result that is not about a data field, e.g. the bitmap. */
+  public static final int NO_FIELD = -1;
+
+  private DecodeStatus status = DecodeStatus.OK;
+  private int field = NO_FIELD;
+  private int offset;
+  private D message;
+
+  /**
+   * @return the status of the last decode.
+   */
+  public DecodeStatus status() {
+    return status;
+  }
+
+  /**
+   * @return {@code true} if the last decode succeeded, {@code false} otherwise.
+   */
+  public boolean isOk() {
+    return status == DecodeStatus.OK;
+  }
+
+  /**
+   * @return the field that was rejected, or {@link #NO_FIELD}.
+   */
+  public int field() {
+    return field;
+  }
+
+  /**
+   * @return the offset in the frame of the rejected element, or of the end of the message if it was
+   *     decoded.
+   */
+  public int offset() {
+    return offset;
+  }
+
+  /**
+   * @return the decoded message, or {@code null} if it was rejected.
+   */
+  public D message() {
+    return message;
+  }
+
+  @Override
+  public String toString() {
+    return "DecodeResult[status=" + status + ", field=" + field + ", offset=" + offset + "]";
+  }
+
+  boolean accept(D message, int end) {
+    this.status = DecodeStatus.OK;
+    this.field = NO_FIELD;
+    this.offset = end;
+    this.message = message;
+    return true;
+  }
+
+  boolean reject(DecodeStatus status, int field, int offset) {
+    this.status = status;
+    this.field = field;
+    this.offset = offset;
+    this.message = null;
+    return false;
+  }
+}
@@ -0,0 +1,29 @@
+package org.bytestreamparser.iso8583.parser;
+
+/** The outcome of decoding a message with {@link IsoMessageParser#decode}. */
+public enum DecodeStatus {
+  /** The message was decoded. */
+  OK,
+
+  /** The frame ends before the end of the message. */
+  TRUNCATED,
+
+  /** The bitmap or the length prefix of a field is malformed. */
+  MALFORMED,
+
+  /** A field is present in the bitmap but has no parser. */
+  UNDEFINED_FIELD,
+
+  /** A field was delimited but its value could not be decoded. */
+  INVALID_VALUE;
+
+  static DecodeStatus of(int code) {
+    return switch (code) {
+      case Measurable.TRUNCATED -> TRUNCATED;
+      case Measurable.MALFORMED -> MALFORMED;
+      case Measurable.UNDEFINED -> UNDEFINED_FIELD;
+      case Measurable.INVALID -> INVALID_VALUE;
+      default -> throw new IllegalArgumentException(String.valueOf(code));
+    };
+  }
+}
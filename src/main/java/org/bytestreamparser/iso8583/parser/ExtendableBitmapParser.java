@@ -1,22 +1,24 @@
 package org.bytestreamparser.iso8583.parser;
 
-import static org.bytestreamparser.scalar.util.Preconditions.check;
-
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.util.ArrayList;
-import java.util.List;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.function.Supplier;
 import org.bytestreamparser.api.parser.DataParser;
+import org.bytestreamparser.iso8583.data.BitmapView;
 import org.bytestreamparser.iso8583.data.ExtendableBitmap;
-import org.bytestreamparser.iso8583.data.FixedBitmap;
 
 /** A parser for parsing an {@link ExtendableBitmap}. */
-public class ExtendableBitmapParser extends DataParser<ExtendableBitmap> {
+public class ExtendableBitmapParser extends DataParser<ExtendableBitmap> implements Measurable {
   private static final String ERROR_MESSAGE =
       "%s: value must be a multiple of %d bytes, but got [%d]";
+  private static final String BITMAP_ERROR_MESSAGE =
+      "%s: bitmap must be %d bytes per extension, but got [%d]";
   private final int bytes;
-  private final FixedBitmapParser bitmapParser;
+  private final Supplier<ExtendableBitmap> provider;
+  private final ThreadLocal<byte[]> buffers;
 
   /**
    * Creates a new ExtendableBitmapParser.
@@ -25,29 +27,159 @@ public class ExtendableBitmapParser extends DataParser<ExtendableBitmap> {
    * @param bytes the number of bytes per bitmap.
    */
   public ExtendableBitmapParser(String id, int bytes) {
+    this(id, bytes, () -> new ExtendableBitmap(bytes));
+  }
+
+  /**
+   * Creates a new ExtendableBitmapParser that parses into the bitmaps supplied by the given
+   * provider, e.g. a thread-local or pooled instance that is reused across messages.
+   *
+   * @param id the ID of the parser.
+   * @param bytes the number of bytes per bitmap.
+   * @param provider the provider of the bitmaps to parse into.
+   */
+  public ExtendableBitmapParser(String id, int bytes, Supplier<ExtendableBitmap> provider) {
     super(id);
     this.bytes = bytes;
-    bitmapParser = new FixedBitmapParser(id, bytes);
+    this.provider = provider;
+    this.buffers = ThreadLocal.withInitial(() -> new byte[bytes]);
+  }
+
+  /**
+   * @return the number of bytes per bitmap.
+   */
+  public int getBytes() {
+    return bytes;
   }
 
   @Override
   public void pack(ExtendableBitmap extendableBitmap, OutputStream output) throws IOException {
-    byte[] byteArray = extendableBitmap.toByteArray();
-    check(byteArray.length % bytes == 0, ERROR_MESSAGE, getId(), bytes, byteArray.length);
-    output.write(byteArray);
+    checkLength(extendableBitmap);
+    byte[] buffer = buffer(extendableBitmap.encodedLength());
+    output.write(buffer, 0, extendableBitmap.writeTo(buffer, 0));
+  }
+
+  /**
+   * Packs the bitmap into the given buffer, advancing its position.
+   *
+   * @param extendableBitmap the bitmap to pack.
+   * @param output the buffer to write to.
+   * @throws java.nio.BufferOverflowException if the buffer has insufficient space remaining.
+   */
+  public void pack(ExtendableBitmap extendableBitmap, ByteBuffer output) {
+    checkLength(extendableBitmap);
+    extendableBitmap.writeTo(output);
   }
 
   @Override
   public ExtendableBitmap parse(InputStream input) throws IOException {
-    ExtendableBitmap extendableBitmap = new ExtendableBitmap(bytes);
-    List<FixedBitmap> extensions = new ArrayList<>();
-    FixedBitmap bitmap = bitmapParser.parse(input);
-    extensions.add(bitmap);
-    while (bitmap.get(1)) {
-      bitmap = bitmapParser.parse(input);
-      extensions.add(bitmap);
+    return parseInto(input, provider.get());
+  }
+
+  /**
+   * Parses the bitmap into an existing {@link ExtendableBitmap}, replacing its content. The existing
+   * {@link org.bytestreamparser.iso8583.data.FixedBitmap} extensions are reused.
+   *
+   * @param input the stream to parse from.
+   * @param bitmap the bitmap to parse into.
+   * @return the given bitmap.
+   * @throws IOException if an I/O error occurs.
+   */
+  public ExtendableBitmap parseInto(InputStream input, ExtendableBitmap bitmap) throws IOException {
+    checkExtension(bitmap.reset(1));
+    return bitmap.readFrom(input);
+  }
+
+  /**
+   * Parses the bitmap at the current position of the buffer, advancing its position.
+   *
+   * @param input the buffer to parse from.
+   * @return the parsed bitmap.
+   * @throws java.nio.BufferUnderflowException if the buffer ends before the last extension.
+   */
+  public ExtendableBitmap parse(ByteBuffer input) {
+    return parseInto(input, provider.get());
+  }
+
+  /**
+   * Parses the bitmap at the current position of the buffer into an existing {@link
+   * ExtendableBitmap}, replacing its content.
+   *
+   * @param input the buffer to parse from.
+   * @param bitmap the bitmap to parse into.
+   * @return the given bitmap.
+   * @throws BufferUnderflowException if the buffer ends before the last extension. The position of
+   *     the buffer is left unchanged in that case.
+   */
+  public ExtendableBitmap parseInto(ByteBuffer input, ExtendableBitmap bitmap) {
+    checkExtension(bitmap.reset(1));
+    int position = input.position();
+    try {
+      return bitmap.readFrom(input);
+    } catch (BufferUnderflowException e) {
+      input.position(position);
+      throw e;
+    }
+  }
+
+  /**
+   * Parses the bitmap at the current position of the buffer as a read-only {@link BitmapView},
+   * without copying the bytes. The position of the buffer is advanced past the bitmap.
+   *
+   * @param input the buffer to parse from.
+   * @return a view over the bitmap.
+   * @throws IndexOutOfBoundsException if the buffer ends before the last extension.
+   */
+  public BitmapView parseView(ByteBuffer input) {
+    BitmapView view = BitmapView.wrap(input, input.position(), bytes);
+    input.position(input.position() + view.encodedLength());
+    return view;
+  }
+
+  /**
+   * Measures the bitmap at the given offset of the frame by following the first bit of each bitmap
+   * to the next extension.
+   *
+   * @param frame the frame containing the bitmap.
+   * @param offset the offset of the first bitmap in the frame.
+   * @param limit the end of the bytes available for the bitmap, exclusive.
+   * @return the number of bytes of the bitmap and its extensions, or {@link Measurable#TRUNCATED}.
+   */
+  @Override
+  public int measure(byte[] frame, int offset, int limit) {
+    int position = offset;
+    boolean extended;
+    do {
+      if (limit - position < bytes) {
+        return TRUNCATED;
+      }
+      extended = frame[position] < 0;
+      position += bytes;
+    } while (extended);
+    return position - offset;
+  }
+
+  private byte[] buffer(int length) {
+    byte[] buffer = buffers.get();
+    if (buffer.length < length) {
+      buffer = new byte[length];
+      buffers.set(buffer);
+    }
+    return buffer;
+  }
+
+  private void checkLength(ExtendableBitmap bitmap) {
+    int length = bitmap.encodedLength();
+    if (length % bytes != 0) {
+      throw new IllegalArgumentException(String.format(ERROR_MESSAGE, getId(), bytes, length));
+    }
+  }
+
+  private void checkExtension(ExtendableBitmap bitmap) {
+    int length = bitmap.capacity() / Byte.SIZE;
+    if (length != bytes) {
+      throw new IllegalArgumentException(
+          String.format(BITMAP_ERROR_MESSAGE, getId(), bytes, length));
     }
-    extendableBitmap.addExtensions(extensions);
-    return extendableBitmap;
   }
 }
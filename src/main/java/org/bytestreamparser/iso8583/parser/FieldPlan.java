@@ -0,0 +1,80 @@
+package org.bytestreamparser.iso8583.parser;
+
+import java.util.Arrays;
+import java.util.List;
+import org.bytestreamparser.composite.data.DataObject;
+import org.bytestreamparser.iso8583.data.IsoMessage;
+
+/**
+ * FieldPlan is the precomputed list of data fields present in a bitmap. It holds the parsers of the
+ * present fields in bitmap order, and the offsets of the leading fixed-length fields relative to
+ * the first data field, so a message with a known bitmap can be parsed without checking each field
+ * for presence.
+ *
+ * @param <D> the type of the ISO message.
+ */
+public final class FieldPlan<D extends DataObject<D> & IsoMessage> {
+  private final IsoFieldParser<D, ?>[] parsers;
+  private final int[] offsets;
+
+  private FieldPlan(IsoFieldParser<D, ?>[] parsers, int[] offsets) {
+    this.parsers = parsers;
+    this.offsets = offsets;
+  }
+
+  /**
+   * Creates a new FieldPlan from the given parsers, in bitmap order.
+   *
+   * @param parsers the parsers of the present fields.
+   * @return the FieldPlan.
+   * @param <D> the type of the ISO message.
+   */
+  public static <D extends DataObject<D> & IsoMessage> FieldPlan<D> of(
+      List<IsoFieldParser<D, ?>> parsers) {
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    IsoFieldParser<D, ?>[] fields = parsers.toArray(new IsoFieldParser[0]);
+    int[] offsets = new int[fields.length + 1];
+    int count = 0;
+    while (count < fields.length && fields[count].getLength() != IsoFieldParser.VARIABLE_LENGTH) {
+      offsets[count + 1] = offsets[count] + fields[count].getLength();
+      count++;
+    }
+    return new FieldPlan<>(fields, Arrays.copyOf(offsets, count + 1));
+  }
+
+  /**
+   * @return the number of fields in the plan.
+   */
+  public int size() {
+    return parsers.length;
+  }
+
+  /**
+   * Returns the parser of the field at the given position.
+   *
+   * @param index the position of the field in the plan.
+   * @return the parser of the field.
+   */
+  public IsoFieldParser<D, ?> parser(int index) {
+    return parsers[index];
+  }
+
+  /**
+   * @return the number of leading fixed-length fields, i.e. the position of the first variable
+   *     length field, or {@link #size()} if all fields have a fixed length.
+   */
+  public int fixedFields() {
+    return offsets.length - 1;
+  }
+
+  /**
+   * Returns the offset of the field at the given position, relative to the first data field.
+   *
+   * @param index the position of the field, up to {@link #fixedFields()}.
+   * @return the offset of the field. For {@link #fixedFields()}, this is the total length of the
+   *     leading fixed-length fields.
+   */
+  public int offset(int index) {
+    return offsets[index];
+  }
+}
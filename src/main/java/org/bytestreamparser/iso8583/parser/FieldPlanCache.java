@@ -0,0 +1,174 @@
+package org.bytestreamparser.iso8583.parser;
+
+import static org.bytestreamparser.scalar.util.Preconditions.check;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import org.bytestreamparser.composite.data.DataObject;
+import org.bytestreamparser.iso8583.data.Bitmap;
+import org.bytestreamparser.iso8583.data.ExtendableBitmap;
+import org.bytestreamparser.iso8583.data.IsoMessage;
+
+/**
+ * FieldPlanCache maps recurring bitmaps to precomputed {@link FieldPlan}s. Bitmaps are looked up by
+ * their {@link Bitmap#fingerprint() fingerprint} and then compared in full, so lookups do not
+ * allocate.
+ *
+ * <p>The cache is bounded and direct-mapped: each bitmap has a single slot chosen by its
+ * fingerprint, and a bitmap that lands on an occupied slot evicts the previous plan, so a burst of
+ * unusual bitmaps cannot keep out the recurring ones for good. Lookups and updates are lock-free,
+ * and it is safe to use from multiple threads.
+ *
+ * @param <D> the type of the ISO message.
+ */
+public class FieldPlanCache<D extends DataObject<D> & IsoMessage> {
+  /** The largest supported maximum size. */
+  public static final int MAXIMUM_SIZE = 1 << 16;
+
+  private static final String SIZE_ERROR_MESSAGE =
+      "maximum size should be between 1 and %d, but got [%d]";
+  private static final String FIELD_ERROR_MESSAGE = "duplicate parser for field [%d]";
+  private final IsoFieldParser<D, ?>[] parsers;
+  private final int bits;
+  private final AtomicReferenceArray<Entry<D>> entries;
+  private final AtomicInteger size;
+  private final LongAdder hits;
+  private final LongAdder misses;
+  private final LongAdder evictions;
+
+  /**
+   * Creates a new FieldPlanCache.
+   *
+   * @param parsers the parsers of the data fields. Fields without a parser are undefined.
+   * @param bytes the number of bytes per bitmap. The first bit of each bitmap is not a data field.
+   * @param maximumSize the maximum number of plans to keep. It is rounded up to a power of two.
+   */
+  public FieldPlanCache(List<IsoFieldParser<D, ?>> parsers, int bytes, int maximumSize) {
+    this(table(parsers), bytes, maximumSize);
+  }
+
+  /**
+   * Creates a new FieldPlanCache over a parser table indexed by field number, shared with the
+   * caller.
+   *
+   * @param parsers the parsers of the data fields, indexed by field number. Fields without a
+   *     parser are undefined.
+   * @param bytes the number of bytes per bitmap. The first bit of each bitmap is not a data field.
+   * @param maximumSize the maximum number of plans to keep. It is rounded up to a power of two.
+   */
+  FieldPlanCache(IsoFieldParser<D, ?>[] parsers, int bytes, int maximumSize) {
+    Bitmap.check(bytes);
+    check(
+        maximumSize > 0 && maximumSize <= MAXIMUM_SIZE,
+        SIZE_ERROR_MESSAGE,
+        MAXIMUM_SIZE,
+        maximumSize);
+    this.parsers = parsers;
+    this.bits = bytes * Byte.SIZE;
+    this.entries = new AtomicReferenceArray<>(Integer.highestOneBit(maximumSize * 2 - 1));
+    this.size = new AtomicInteger();
+    this.hits = new LongAdder();
+    this.misses = new LongAdder();
+    this.evictions = new LongAdder();
+  }
+
+  /**
+   * Returns the plan for the given bitmap, computing it if the bitmap has not been seen before.
+   *
+   * @param bitmap the bitmap of the message.
+   * @return the plan for the bitmap.
+   */
+  public FieldPlan<D> get(ExtendableBitmap bitmap) {
+    long fingerprint = bitmap.fingerprint();
+    int index = spread(fingerprint) & (entries.length() - 1);
+    Entry<D> entry = entries.get(index);
+    if (entry != null && entry.fingerprint() == fingerprint && entry.bitmap().equals(bitmap)) {
+      hits.increment();
+      return entry.plan();
+    }
+    misses.increment();
+    FieldPlan<D> plan = compile(bitmap);
+    if (entries.compareAndSet(index, entry, new Entry<>(fingerprint, bitmap.copy(), plan))) {
+      if (entry == null) {
+        size.incrementAndGet();
+      } else {
+        evictions.increment();
+      }
+    }
+    return plan;
+  }
+
+  /**
+   * @return the number of plans in the cache.
+   */
+  public int size() {
+    return size.get();
+  }
+
+  /**
+   * @return the number of slots in the cache.
+   */
+  public int capacity() {
+    return entries.length();
+  }
+
+  /**
+   * @return the number of lookups that found a cached plan.
+   */
+  public long hits() {
+    return hits.sum();
+  }
+
+  /**
+   * @return the number of lookups that had to compute a plan.
+   */
+  public long misses() {
+    return misses.sum();
+  }
+
+  /**
+   * @return the number of plans that replaced a previously cached plan.
+   */
+  public long evictions() {
+    return evictions.sum();
+  }
+
+  private FieldPlan<D> compile(Bitmap bitmap) {
+    List<IsoFieldParser<D, ?>> fields = new ArrayList<>(bitmap.cardinality());
+    for (int bit = bitmap.nextSetBit(1); bit > 0; bit = bitmap.nextSetBit(bit + 1)) {
+      if ((bit - 1) % bits != 0) {
+        fields.add(parser(bit));
+      }
+    }
+    return FieldPlan.of(fields);
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static <D extends DataObject<D> & IsoMessage> IsoFieldParser<D, ?>[] table(
+      List<IsoFieldParser<D, ?>> parsers) {
+    int fields = parsers.stream().mapToInt(IsoFieldParser::getFieldId).max().orElse(0) + 1;
+    IsoFieldParser<D, ?>[] table = new IsoFieldParser[fields];
+    for (IsoFieldParser<D, ?> parser : parsers) {
+      check(table[parser.getFieldId()] == null, FIELD_ERROR_MESSAGE, parser.getFieldId());
+      table[parser.getFieldId()] = parser;
+    }
+    return table;
+  }
+
+  private IsoFieldParser<D, ?> parser(int bit) {
+    if (bit < parsers.length && parsers[bit] != null) {
+      return parsers[bit];
+    }
+    return new IsoFieldParser<>(bit, new UndefinedDataFieldParser(String.valueOf(bit)));
+  }
+
+  private static int spread(long fingerprint) {
+    return (int) (fingerprint ^ (fingerprint >>> Integer.SIZE));
+  }
+
+  private record Entry<D extends DataObject<D> & IsoMessage>(
+      long fingerprint, ExtendableBitmap bitmap, FieldPlan<D> plan) {}
+}
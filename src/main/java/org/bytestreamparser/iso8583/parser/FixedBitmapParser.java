@@ -1,11 +1,9 @@
 package org.bytestreamparser.iso8583.parser;
 
-import static org.bytestreamparser.scalar.util.InputStreams.readFully;
-import static org.bytestreamparser.scalar.util.Preconditions.check;
-
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import org.bytestreamparser.api.parser.DataParser;
 import org.bytestreamparser.iso8583.data.FixedBitmap;
 
@@ -13,6 +11,7 @@ import org.bytestreamparser.iso8583.data.FixedBitmap;
 public class FixedBitmapParser extends DataParser<FixedBitmap> {
   private static final String ERROR_MESSAGE = "%s: value must be %d bytes, but got [%d]";
   private final int bytes;
+  private final ThreadLocal<byte[]> buffers;
 
   /**
    * Creates a new FixedBitmapParser.
@@ -23,17 +22,82 @@ public class FixedBitmapParser extends DataParser<FixedBitmap> {
   public FixedBitmapParser(String id, int bytes) {
     super(id);
     this.bytes = bytes;
+    this.buffers = ThreadLocal.withInitial(() -> new byte[bytes]);
+  }
+
+  /**
+   * @return the number of bytes in the bitmap.
+   */
+  public int getBytes() {
+    return bytes;
   }
 
   @Override
   public void pack(FixedBitmap bitmap, OutputStream output) throws IOException {
-    byte[] byteArray = bitmap.toByteArray();
-    check(byteArray.length == bytes, ERROR_MESSAGE, getId(), bytes, byteArray.length);
-    output.write(byteArray);
+    checkLength(bitmap);
+    byte[] buffer = buffers.get();
+    output.write(buffer, 0, bitmap.writeTo(buffer, 0));
   }
 
   @Override
   public FixedBitmap parse(InputStream input) throws IOException {
-    return FixedBitmap.valueOf(readFully(input, bytes));
+    return parseInto(input, new FixedBitmap(bytes));
+  }
+
+  /**
+   * Parses the bitmap into an existing {@link FixedBitmap}, replacing its content.
+   *
+   * @param input the stream to parse from.
+   * @param bitmap the bitmap to parse into.
+   * @return the given bitmap.
+   * @throws IOException if an I/O error occurs.
+   */
+  public FixedBitmap parseInto(InputStream input, FixedBitmap bitmap) throws IOException {
+    checkLength(bitmap);
+    return bitmap.readFrom(input);
+  }
+
+  /**
+   * Packs the bitmap into the given buffer, advancing its position.
+   *
+   * @param bitmap the bitmap to pack.
+   * @param output the buffer to write to.
+   * @throws java.nio.BufferOverflowException if the buffer has insufficient space remaining.
+   */
+  public void pack(FixedBitmap bitmap, ByteBuffer output) {
+    checkLength(bitmap);
+    bitmap.writeTo(output);
+  }
+
+  /**
+   * Parses the bitmap at the current position of the buffer, advancing its position.
+   *
+   * @param input the buffer to parse from.
+   * @return the parsed bitmap.
+   * @throws java.nio.BufferUnderflowException if the buffer ends before the bitmap.
+   */
+  public FixedBitmap parse(ByteBuffer input) {
+    return parseInto(input, new FixedBitmap(bytes));
+  }
+
+  /**
+   * Parses the bitmap at the current position of the buffer into an existing {@link FixedBitmap},
+   * replacing its content.
+   *
+   * @param input the buffer to parse from.
+   * @param bitmap the bitmap to parse into.
+   * @return the given bitmap.
+   * @throws java.nio.BufferUnderflowException if the buffer ends before the bitmap.
+   */
+  public FixedBitmap parseInto(ByteBuffer input, FixedBitmap bitmap) {
+    checkLength(bitmap);
+    return bitmap.readFrom(input);
+  }
+
+  private void checkLength(FixedBitmap bitmap) {
+    int length = bitmap.encodedLength();
+    if (length != bytes) {
+      throw new IllegalArgumentException(String.format(ERROR_MESSAGE, getId(), bytes, length));
+    }
   }
 }
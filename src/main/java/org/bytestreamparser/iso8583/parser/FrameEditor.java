@@ -0,0 +1,140 @@
+package org.bytestreamparser.iso8583.parser;
+
+import static org.bytestreamparser.scalar.util.Preconditions.check;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.function.IntFunction;
+import org.bytestreamparser.api.parser.DataParser;
+import org.bytestreamparser.iso8583.data.ExtendableBitmap;
+
+/**
+ * FrameEditor patches a parsed frame by splicing. Fields are replaced, added or removed, and the new
+ * frame is produced from the original bytes: only the bitmap and the replaced fields, with their
+ * length prefixes, are encoded again, and every other field is copied verbatim.
+ *
+ * <p>The frame is not copied, so it must not be modified while the editor is in use. A FrameEditor
+ * is not safe for concurrent use.
+ *
+ * @see IsoMessageParser#edit(byte[], int, int)
+ */
+public final class FrameEditor {
+  private static final String FIELD_ERROR_MESSAGE = "invalid field [%d]";
+  private static final String PARSER_ERROR_MESSAGE = "no parser for field [%d]";
+  private final LazyIsoMessage source;
+  private final ExtendableBitmap bitmap;
+  private final ExtendableBitmapParser bitmapParser;
+  private final IntFunction<DataParser<?>> parsers;
+  private final byte[][] replacements;
+
+  FrameEditor(
+      LazyIsoMessage source,
+      ExtendableBitmap bitmap,
+      ExtendableBitmapParser bitmapParser,
+      IntFunction<DataParser<?>> parsers) {
+    this.source = source;
+    this.bitmap = bitmap;
+    this.bitmapParser = bitmapParser;
+    this.parsers = parsers;
+    this.replacements = new byte[bitmap.capacity() + 1][];
+  }
+
+  /**
+   * Sets the given field to a value encoded by its parser, including any length prefix.
+   *
+   * @param field the field to set. Field {@code 0} is the message type indicator.
+   * @param value the value of the field.
+   * @return the FrameEditor.
+   * @param <V> the type of the value.
+   * @throws IOException if the value cannot be encoded.
+   */
+  @SuppressWarnings("unchecked")
+  public <V> FrameEditor set(int field, V value) throws IOException {
+    checkField(field);
+    DataParser<V> parser = (DataParser<V>) parsers.apply(field);
+    check(parser != null, PARSER_ERROR_MESSAGE, field);
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    parser.pack(value, output);
+    return replace(field, output.toByteArray());
+  }
+
+  /**
+   * Replaces the given field with already encoded bytes, including any length prefix.
+   *
+   * @param field the field to replace. Field {@code 0} is the message type indicator.
+   * @param encoded the encoded field. It is not copied.
+   * @return the FrameEditor.
+   */
+  public FrameEditor replace(int field, byte[] encoded) {
+    checkField(field);
+    check(field > 0 || source.hasDataField(0), PARSER_ERROR_MESSAGE, field);
+    replacements[field] = encoded;
+    if (field > 0) {
+      bitmap.set(field);
+    }
+    return this;
+  }
+
+  /**
+   * Removes the given field from the frame.
+   *
+   * @param field the field to remove.
+   * @return the FrameEditor.
+   */
+  public FrameEditor clear(int field) {
+    checkField(field);
+    check(field > 0, FIELD_ERROR_MESSAGE, field);
+    replacements[field] = null;
+    bitmap.clear(field);
+    return this;
+  }
+
+  /**
+   * Writes the edited frame into the given stream.
+   *
+   * @param output the stream to write to.
+   * @throws IOException if an I/O error occurs.
+   */
+  public void writeTo(OutputStream output) throws IOException {
+    if (source.hasDataField(0)) {
+      writeField(0, output);
+    }
+    bitmapParser.pack(bitmap, output);
+    int bits = bitmapParser.getBytes() * Byte.SIZE;
+    for (int bit = bitmap.nextSetBit(1); bit > 0; bit = bitmap.nextSetBit(bit + 1)) {
+      if ((bit - 1) % bits != 0) {
+        writeField(bit, output);
+      }
+    }
+  }
+
+  /**
+   * @return the edited frame.
+   */
+  public byte[] toByteArray() {
+    ByteArrayOutputStream output = new ByteArrayOutputStream(source.frame().length);
+    try {
+      writeTo(output);
+    } catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+    return output.toByteArray();
+  }
+
+  private void writeField(int field, OutputStream output) throws IOException {
+    if (replacements[field] != null) {
+      output.write(replacements[field]);
+    } else {
+      output.write(source.frame(), source.offset(field), source.length(field));
+    }
+  }
+
+  private void checkField(int field) {
+    int bits = bitmapParser.getBytes() * Byte.SIZE;
+    check(
+        field == 0 || field > 0 && field <= bitmap.capacity() && (field - 1) % bits != 0,
+        FIELD_ERROR_MESSAGE,
+        field);
+  }
+}
@@ -0,0 +1,138 @@
+package org.bytestreamparser.iso8583.parser;
+
+import static org.bytestreamparser.scalar.util.Preconditions.check;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+
+/**
+ * Table-driven codec for binary data encoded as hex text in a single-byte charset, e.g. ASCII or
+ * EBCDIC. Each byte is encoded as two characters, most significant nibble first. Upper and lower
+ * case digits are accepted when decoding, and upper case digits are written when encoding.
+ */
+final class HexCodec {
+  private static final String DIGITS = "0123456789ABCDEF";
+  private static final String CHARSET_ERROR_MESSAGE =
+      "%s does not encode hex digits as single bytes";
+  private static final String CHARACTER_ERROR_MESSAGE = "%s: invalid hex character [0x%02X]";
+  private final byte[] digits;
+  private final byte[] nibbles;
+
+  HexCodec(Charset charset) {
+    this.digits = new byte[DIGITS.length()];
+    this.nibbles = new byte[1 << Byte.SIZE];
+    Arrays.fill(nibbles, (byte) -1);
+    for (int nibble = 0; nibble < DIGITS.length(); nibble++) {
+      char digit = DIGITS.charAt(nibble);
+      digits[nibble] = encode(charset, digit);
+      nibbles[digits[nibble] & 0xFF] = (byte) nibble;
+      nibbles[encode(charset, Character.toLowerCase(digit)) & 0xFF] = (byte) nibble;
+    }
+  }
+
+  /**
+   * Returns a stream that decodes the hex text read from the given stream. The returned stream
+   * reports the end of the stream if the given stream ends within a pair of characters.
+   *
+   * @param id the ID of the parser, used in error messages.
+   * @param input the stream of hex text.
+   * @return the stream of decoded bytes.
+   */
+  InputStream decoding(String id, InputStream input) {
+    return new InputStream() {
+      @Override
+      public int read() throws IOException {
+        int high = input.read();
+        int low = high < 0 ? -1 : input.read();
+        if (low < 0) {
+          return -1;
+        }
+        return decode(id, high, low);
+      }
+    };
+  }
+
+  /**
+   * Returns a stream that decodes the hex text at the current position of the given buffer,
+   * advancing its position.
+   *
+   * @param id the ID of the parser, used in error messages.
+   * @param input the buffer of hex text.
+   * @return the stream of decoded bytes.
+   * @throws BufferUnderflowException from {@code read()} if fewer than two characters remain.
+   */
+  InputStream decoding(String id, ByteBuffer input) {
+    return new InputStream() {
+      @Override
+      public int read() {
+        if (input.remaining() < 2) {
+          throw new BufferUnderflowException();
+        }
+        return decode(id, input.get() & 0xFF, input.get() & 0xFF);
+      }
+    };
+  }
+
+  /**
+   * Returns a stream that encodes the bytes written to it as hex text into the given stream.
+   *
+   * @param output the stream of hex text.
+   * @return the stream to write bytes to.
+   */
+  OutputStream encoding(OutputStream output) {
+    return new OutputStream() {
+      @Override
+      public void write(int value) throws IOException {
+        output.write(digits[(value >>> 4) & 0xF]);
+        output.write(digits[value & 0xF]);
+      }
+    };
+  }
+
+  /**
+   * Returns a stream that encodes the bytes written to it as hex text into the given buffer,
+   * advancing its position.
+   *
+   * @param output the buffer of hex text.
+   * @return the stream to write bytes to.
+   */
+  OutputStream encoding(ByteBuffer output) {
+    return new OutputStream() {
+      @Override
+      public void write(int value) {
+        output.put(digits[(value >>> 4) & 0xF]).put(digits[value & 0xF]);
+      }
+    };
+  }
+
+  /**
+   * @param character the encoded character.
+   * @return the value of the hex digit, or {@code -1} if the character is not a hex digit.
+   */
+  int tryNibble(int character) {
+    return nibbles[character & 0xFF];
+  }
+
+  private int decode(String id, int high, int low) {
+    return nibble(id, high) << 4 | nibble(id, low);
+  }
+
+  private int nibble(String id, int character) {
+    int nibble = nibbles[character];
+    if (nibble < 0) {
+      throw new IllegalArgumentException(String.format(CHARACTER_ERROR_MESSAGE, id, character));
+    }
+    return nibble;
+  }
+
+  private static byte encode(Charset charset, char digit) {
+    byte[] encoded = String.valueOf(digit).getBytes(charset);
+    check(encoded.length == 1, CHARSET_ERROR_MESSAGE, charset);
+    return encoded[0];
+  }
+}
@@ -0,0 +1,137 @@
+package org.bytestreamparser.iso8583.parser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.function.Supplier;
+import org.bytestreamparser.iso8583.data.BitmapView;
+import org.bytestreamparser.iso8583.data.ExtendableBitmap;
+
+/**
+ * A parser for parsing an {@link ExtendableBitmap} encoded as hex text, two characters per byte.
+ * The hex digits are decoded with a lookup table straight into the bitmap, without an intermediate
+ * {@link String}.
+ */
+public class HexExtendableBitmapParser extends ExtendableBitmapParser {
+  private static final String VIEW_ERROR_MESSAGE = "%s: hex bitmaps cannot be viewed in place";
+  private final HexCodec codec;
+
+  /**
+   * Creates a new HexExtendableBitmapParser.
+   *
+   * @param id the ID of the parser.
+   * @param bytes the number of bytes per bitmap, i.e. half the number of characters.
+   * @param charset the single-byte charset of the hex text, e.g. ASCII or EBCDIC.
+   */
+  public HexExtendableBitmapParser(String id, int bytes, Charset charset) {
+    this(id, bytes, charset, () -> new ExtendableBitmap(bytes));
+  }
+
+  /**
+   * Creates a new HexExtendableBitmapParser that parses into the bitmaps supplied by the given
+   * provider.
+   *
+   * @param id the ID of the parser.
+   * @param bytes the number of bytes per bitmap, i.e. half the number of characters.
+   * @param charset the single-byte charset of the hex text, e.g. ASCII or EBCDIC.
+   * @param provider the provider of the bitmaps to parse into.
+   */
+  public HexExtendableBitmapParser(
+      String id, int bytes, Charset charset, Supplier<ExtendableBitmap> provider) {
+    super(id, bytes, provider);
+    this.codec = new HexCodec(charset);
+  }
+
+  @Override
+  public void pack(ExtendableBitmap extendableBitmap, OutputStream output) throws IOException {
+    super.pack(extendableBitmap, codec.encoding(output));
+  }
+
+  @Override
+  public ExtendableBitmap parseInto(InputStream input, ExtendableBitmap bitmap) throws IOException {
+    return super.parseInto(codec.decoding(getId(), input), bitmap);
+  }
+
+  /**
+   * Packs the bitmap into the given buffer as hex text, advancing its position.
+   *
+   * @param extendableBitmap the bitmap to pack.
+   * @param output the buffer to write to.
+   * @throws BufferOverflowException if the buffer has insufficient space remaining.
+   */
+  @Override
+  public void pack(ExtendableBitmap extendableBitmap, ByteBuffer output) {
+    if (output.remaining() < extendableBitmap.encodedLength() * 2) {
+      throw new BufferOverflowException();
+    }
+    try {
+      super.pack(extendableBitmap, codec.encoding(output));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Parses the hex text bitmap at the current position of the buffer into an existing {@link
+   * ExtendableBitmap}, advancing its position.
+   *
+   * @param input the buffer to parse from.
+   * @param bitmap the bitmap to parse into.
+   * @return the given bitmap.
+   * @throws BufferUnderflowException if the buffer ends before the bitmap. The position of the
+   *     buffer is left unchanged in that case.
+   */
+  @Override
+  public ExtendableBitmap parseInto(ByteBuffer input, ExtendableBitmap bitmap) {
+    int position = input.position();
+    try {
+      return super.parseInto(codec.decoding(getId(), input), bitmap);
+    } catch (BufferUnderflowException e) {
+      input.position(position);
+      throw e;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Measures the hex text bitmap at the given offset of the frame, checking that every character
+   * is a hex digit.
+   *
+   * @param frame the frame containing the bitmap.
+   * @param offset the offset of the first bitmap in the frame.
+   * @param limit the end of the bytes available for the bitmap, exclusive.
+   * @return the number of characters of the bitmap and its extensions, or one of the negative codes
+   *     of {@link Measurable}.
+   */
+  @Override
+  public int measure(byte[] frame, int offset, int limit) {
+    int characters = getBytes() * 2;
+    int position = offset;
+    boolean extended;
+    do {
+      if (limit - position < characters) {
+        return TRUNCATED;
+      }
+      for (int index = position; index < position + characters; index++) {
+        if (codec.tryNibble(frame[index]) < 0) {
+          return MALFORMED;
+        }
+      }
+      extended = (codec.tryNibble(frame[position]) & 0x8) != 0;
+      position += characters;
+    } while (extended);
+    return position - offset;
+  }
+
+  /** Throws an UnsupportedOperationException, as hex text is not the binary wire representation. */
+  @Override
+  public BitmapView parseView(ByteBuffer input) {
+    throw new UnsupportedOperationException(String.format(VIEW_ERROR_MESSAGE, getId()));
+  }
+}
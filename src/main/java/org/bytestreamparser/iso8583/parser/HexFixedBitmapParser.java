@@ -0,0 +1,83 @@
+package org.bytestreamparser.iso8583.parser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import org.bytestreamparser.iso8583.data.FixedBitmap;
+
+/**
+ * A parser for parsing a {@link FixedBitmap} encoded as hex text, two characters per byte. The hex
+ * digits are decoded with a lookup table straight into the bitmap, without an intermediate {@link
+ * String}.
+ */
+public class HexFixedBitmapParser extends FixedBitmapParser {
+  private final HexCodec codec;
+
+  /**
+   * Creates a new HexFixedBitmapParser.
+   *
+   * @param id the ID of the parser.
+   * @param bytes the number of bytes in the bitmap.
+   * @param charset the single-byte charset of the hex text, e.g. ASCII or EBCDIC.
+   */
+  public HexFixedBitmapParser(String id, int bytes, Charset charset) {
+    super(id, bytes);
+    this.codec = new HexCodec(charset);
+  }
+
+  @Override
+  public void pack(FixedBitmap bitmap, OutputStream output) throws IOException {
+    super.pack(bitmap, codec.encoding(output));
+  }
+
+  @Override
+  public FixedBitmap parseInto(InputStream input, FixedBitmap bitmap) throws IOException {
+    return super.parseInto(codec.decoding(getId(), input), bitmap);
+  }
+
+  /**
+   * Packs the bitmap into the given buffer as hex text, advancing its position.
+   *
+   * @param bitmap the bitmap to pack.
+   * @param output the buffer to write to.
+   * @throws BufferOverflowException if the buffer has insufficient space remaining.
+   */
+  @Override
+  public void pack(FixedBitmap bitmap, ByteBuffer output) {
+    if (output.remaining() < bitmap.encodedLength() * 2) {
+      throw new BufferOverflowException();
+    }
+    try {
+      super.pack(bitmap, codec.encoding(output));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Parses the hex text bitmap at the current position of the buffer into an existing {@link
+   * FixedBitmap}, advancing its position.
+   *
+   * @param input the buffer to parse from.
+   * @param bitmap the bitmap to parse into.
+   * @return the given bitmap.
+   * @throws BufferUnderflowException if the buffer ends before the bitmap. Nothing is read in that
+   *     case.
+   */
+  @Override
+  public FixedBitmap parseInto(ByteBuffer input, FixedBitmap bitmap) {
+    if (input.remaining() < getBytes() * 2) {
+      throw new BufferUnderflowException();
+    }
+    try {
+      return super.parseInto(codec.decoding(getId(), input), bitmap);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
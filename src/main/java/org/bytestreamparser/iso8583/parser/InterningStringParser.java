@@ -0,0 +1,34 @@
+package org.bytestreamparser.iso8583.parser;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * A {@link SingleByteStringParser} that looks the parsed bytes up in a {@link StringInterner}, so
+ * that recurring values share a single {@link String} instance. The bytes are read into a buffer
+ * reused per thread, so a value found in the interner is parsed without allocating.
+ */
+public class InterningStringParser extends SingleByteStringParser {
+  private final StringInterner interner;
+  private final ThreadLocal<byte[]> buffers;
+
+  /**
+   * Creates a new InterningStringParser.
+   *
+   * @param id the ID of the parser.
+   * @param length the number of characters in the string.
+   * @param interner the interner of the values. Its charset is the charset of the string.
+   */
+  public InterningStringParser(String id, int length, StringInterner interner) {
+    super(id, length, interner.charset());
+    this.interner = interner;
+    this.buffers = ThreadLocal.withInitial(() -> new byte[length]);
+  }
+
+  @Override
+  public String parse(InputStream input) throws IOException {
+    byte[] buffer = buffers.get();
+    read(input, buffer);
+    return interner.intern(buffer, 0, getLength());
+  }
+}
@@ -1,9 +1,14 @@
 package org.bytestreamparser.iso8583.parser;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import org.bytestreamparser.api.parser.DataParser;
 import org.bytestreamparser.composite.data.DataObject;
 import org.bytestreamparser.composite.parser.DataFieldParser;
+import org.bytestreamparser.iso8583.data.ArrayIsoMessage;
 import org.bytestreamparser.iso8583.data.IsoMessage;
+import org.bytestreamparser.iso8583.data.RawField;
 
 /**
  * Parser for ISO fields.
@@ -11,7 +16,18 @@ import org.bytestreamparser.iso8583.data.IsoMessage;
  * @param <D> the type of the ISO message.
  * @param <V> the type of the field value.
  */
-public class IsoFieldParser<D extends DataObject<D> & IsoMessage, V> extends DataFieldParser<D, V> {
+public class IsoFieldParser<D extends DataObject<D> & IsoMessage, V> extends DataFieldParser<D, V>
+    implements Measurable {
+  /** The {@link #getLength() length} of a field that does not always occupy the same bytes. */
+  public static final int VARIABLE_LENGTH = -1;
+
+  private final int fieldId;
+  private final int length;
+  private final Skippable skippable;
+  private final Measurable measurable;
+  private final LongFieldParser longParser;
+  private final IntFieldParser intParser;
+
   /**
    * Creates a new ISO field parser.
    *
@@ -19,6 +35,143 @@ public class IsoFieldParser<D extends DataObject<D> & IsoMessage, V> extends Dat
    * @param fieldParser the parser for the field value.
    */
   public IsoFieldParser(int id, DataParser<V> fieldParser) {
+    this(id, fieldParser, VARIABLE_LENGTH);
+  }
+
+  /**
+   * Creates a new ISO field parser for a field with a fixed encoded length.
+   *
+   * @param id the ID of the field.
+   * @param fieldParser the parser for the field value.
+   * @param length the number of bytes the field always occupies, or {@link #VARIABLE_LENGTH}.
+   */
+  public IsoFieldParser(int id, DataParser<V> fieldParser, int length) {
     super(String.valueOf(id), fieldParser, message -> message.hasDataField(id));
+    this.fieldId = id;
+    this.length = length;
+    this.skippable = fieldParser instanceof Skippable parser ? parser : null;
+    this.measurable = fieldParser instanceof Measurable parser ? parser : null;
+    this.longParser = fieldParser instanceof LongFieldParser parser ? parser : null;
+    this.intParser = fieldParser instanceof IntFieldParser parser ? parser : null;
+  }
+
+  /**
+   * @return the ID of the field.
+   */
+  public int getFieldId() {
+    return fieldId;
+  }
+
+  /**
+   * @return the number of bytes the field always occupies, or {@link #VARIABLE_LENGTH}.
+   */
+  public int getLength() {
+    return length;
+  }
+
+  /**
+   * Skips over the field at the current position of the stream. Fixed-length fields and fields
+   * whose parser is {@link Skippable} are skipped without decoding, other fields are parsed and the
+   * value discarded.
+   *
+   * @param input the stream to skip in.
+   * @throws java.io.EOFException if the stream ends before the end of the field.
+   * @throws IOException if an I/O error occurs.
+   */
+  public void skip(InputStream input) throws IOException {
+    if (length != VARIABLE_LENGTH) {
+      input.skipNBytes(length);
+    } else if (skippable != null) {
+      skippable.skip(input);
+    } else {
+      parse(input);
+    }
+  }
+
+  /**
+   * Measures the field at the given offset of the frame. Fixed-length fields are measured by their
+   * length, and other fields by their parser if it is {@link Measurable}.
+   *
+   * @param frame the frame containing the field.
+   * @param offset the offset of the field in the frame.
+   * @param limit the end of the bytes available for the field, exclusive.
+   * @return the number of bytes of the field, or one of the negative codes of {@link Measurable}.
+   */
+  @Override
+  public int measure(byte[] frame, int offset, int limit) {
+    if (length != VARIABLE_LENGTH) {
+      return Measurable.fixed(length, offset, limit);
+    }
+    return measurable != null ? measurable.measure(frame, offset, limit) : UNDELIMITED;
+  }
+
+  /**
+   * Measures the field at the given offset of the frame as by {@link #measure}, and checks its
+   * value if the parser is {@link Measurable}.
+   *
+   * @param frame the frame containing the field.
+   * @param offset the offset of the field in the frame.
+   * @param limit the end of the bytes available for the field, exclusive.
+   * @return the number of bytes of the field, or one of the negative codes of {@link Measurable}.
+   */
+  @Override
+  public int validate(byte[] frame, int offset, int limit) {
+    if (length == VARIABLE_LENGTH) {
+      return measurable != null ? measurable.validate(frame, offset, limit) : UNDELIMITED;
+    }
+    int measured = Measurable.fixed(length, offset, limit);
+    if (measured < 0 || measurable == null) {
+      return measured;
+    }
+    int validated = measurable.validate(frame, offset, offset + length);
+    return validated < 0 ? validated : measured;
+  }
+
+  /**
+   * Parses the field at the current position of the stream into the given message. Numeric fields
+   * whose parser is a {@link LongFieldParser} or {@link IntFieldParser} are stored in the primitive
+   * slots of an {@link ArrayIsoMessage} without boxing.
+   *
+   * @param message the message to parse into.
+   * @param input the stream to read from.
+   * @throws IOException if an I/O error occurs.
+   */
+  public void parseInto(D message, InputStream input) throws IOException {
+    if (message instanceof ArrayIsoMessage array && longParser != null) {
+      array.setLong(fieldId, longParser.parseLong(input));
+    } else if (message instanceof ArrayIsoMessage array && intParser != null) {
+      array.setInt(fieldId, intParser.parseInt(input));
+    } else {
+      message.set(getId(), parse(input));
+    }
+  }
+
+  /**
+   * Packs the field of the given message. Primitive slots of an {@link ArrayIsoMessage} are packed
+   * without boxing when the parser allows it, and fields held as a {@link RawField} are packed
+   * verbatim.
+   *
+   * @param message the message to pack the field of.
+   * @param output the stream to write to.
+   * @throws IOException if an I/O error occurs.
+   */
+  @SuppressWarnings("unchecked")
+  public void packFrom(D message, OutputStream output) throws IOException {
+    if (message instanceof ArrayIsoMessage array && array.hasPrimitive(fieldId)) {
+      if (longParser != null) {
+        longParser.packLong(array.getLong(fieldId), output);
+        return;
+      }
+      if (intParser != null) {
+        intParser.packInt(array.getInt(fieldId), output);
+        return;
+      }
+    }
+    Object value = message.get(getId());
+    if (value instanceof RawField field) {
+      field.writeTo(output);
+    } else {
+      pack((V) value, output);
+    }
   }
 }
@@ -0,0 +1,459 @@
+package org.bytestreamparser.iso8583.parser;
+
+import static org.bytestreamparser.scalar.util.Preconditions.check;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Supplier;
+import org.bytestreamparser.api.parser.DataParser;
+import org.bytestreamparser.composite.data.DataObject;
+import org.bytestreamparser.iso8583.data.Bitmap;
+import org.bytestreamparser.iso8583.data.ExtendableBitmap;
+import org.bytestreamparser.iso8583.data.IsoMessage;
+import org.bytestreamparser.iso8583.data.RawField;
+
+/**
+ * A parser for ISO messages driven by the bitmap. The field parsers are compiled into a table
+ * indexed by field number. Parsing walks only the set bits of the bitmap and dispatches straight to
+ * the parser of each field, so absent fields cost nothing. Optionally, the fields present in
+ * recurring bitmaps are kept in a {@link FieldPlanCache}, and a message whose bitmap is found there
+ * is parsed straight from its {@link FieldPlan} without walking the bitmap.
+ *
+ * <p>Field {@code 0} is the message type indicator: if defined, it is parsed before the bitmap.
+ * The first bit of each bitmap marks the next bitmap, so it cannot be defined as a field.
+ *
+ * <p>Fields held as a {@link RawField} are packed verbatim instead of through their parser.
+ *
+ * <p>When packing a message that keeps its own {@link IsoMessage#bitmap() bitmap}, that bitmap is
+ * packed as is, so it must use the same number of bytes per bitmap as the bitmap parser, and a
+ * field it marks without a parser is rejected as when parsing. Otherwise the bitmap is computed
+ * from the defined fields that are present in the message.
+ *
+ * @param <D> the type of the ISO message.
+ */
+public class IsoMessageParser<D extends DataObject<D> & IsoMessage> extends DataParser<D> {
+  private static final String FIELD_ERROR_MESSAGE = "%s: invalid field [%d]";
+  private static final String DUPLICATE_ERROR_MESSAGE = "%s: duplicate parser for field [%d]";
+  private static final String BUDGET_ERROR_MESSAGE =
+      "%s: maximum message bytes should be positive, but got [%d]";
+  private static final String PLANS_ERROR_MESSAGE =
+      "%s: maximum plans should not be negative, but got [%d]";
+  private final Supplier<D> supplier;
+  private final ExtendableBitmapParser bitmapParser;
+  private final int bits;
+  private final IsoFieldParser<D, ?>[] parsers;
+  private final List<IsoFieldParser<D, ?>> fields;
+  private final int maxMessageBytes;
+  private final FieldPlanCache<D> plans;
+
+  /**
+   * Creates a new IsoMessageParser.
+   *
+   * @param id the ID of the parser.
+   * @param supplier the supplier of the messages to parse into.
+   * @param bitmapParser the parser for the bitmap.
+   * @param fieldParsers the parsers of the data fields. Fields without a parser are undefined.
+   */
+  public IsoMessageParser(
+      String id,
+      Supplier<D> supplier,
+      ExtendableBitmapParser bitmapParser,
+      List<IsoFieldParser<D, ?>> fieldParsers) {
+    this(id, supplier, bitmapParser, fieldParsers, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Creates a new IsoMessageParser that reads at most the given number of bytes per message.
+   * Variable length fields whose declared length exceeds the bytes left in the budget, or in the
+   * frame, are rejected before their value is read. This early check only applies to {@link
+   * LengthPrefixedParser}s that are handed the bounded stream as is: a field parser that wraps the
+   * stream before passing it on hides the budget, and its values are then only stopped by the end
+   * of the budget.
+   *
+   * @param id the ID of the parser.
+   * @param supplier the supplier of the messages to parse into.
+   * @param bitmapParser the parser for the bitmap.
+   * @param fieldParsers the parsers of the data fields. Fields without a parser are undefined.
+   * @param maxMessageBytes the maximum number of bytes of a message.
+   */
+  public IsoMessageParser(
+      String id,
+      Supplier<D> supplier,
+      ExtendableBitmapParser bitmapParser,
+      List<IsoFieldParser<D, ?>> fieldParsers,
+      int maxMessageBytes) {
+    this(id, supplier, bitmapParser, fieldParsers, maxMessageBytes, 0);
+  }
+
+  /**
+   * Creates a new IsoMessageParser that reads at most the given number of bytes per message, and
+   * keeps the {@link FieldPlan}s of up to the given number of recurring bitmaps for {@link
+   * #parse(InputStream)} and {@link #parseLazy}.
+   *
+   * @param id the ID of the parser.
+   * @param supplier the supplier of the messages to parse into.
+   * @param bitmapParser the parser for the bitmap.
+   * @param fieldParsers the parsers of the data fields. Fields without a parser are undefined.
+   * @param maxMessageBytes the maximum number of bytes of a message.
+   * @param maxPlans the maximum number of plans to keep, or {@code 0} to walk every bitmap.
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public IsoMessageParser(
+      String id,
+      Supplier<D> supplier,
+      ExtendableBitmapParser bitmapParser,
+      List<IsoFieldParser<D, ?>> fieldParsers,
+      int maxMessageBytes,
+      int maxPlans) {
+    super(id);
+    check(maxMessageBytes > 0, BUDGET_ERROR_MESSAGE, id, maxMessageBytes);
+    check(maxPlans >= 0, PLANS_ERROR_MESSAGE, id, maxPlans);
+    this.supplier = supplier;
+    this.bitmapParser = bitmapParser;
+    this.bits = bitmapParser.getBytes() * Byte.SIZE;
+    int size = fieldParsers.stream().mapToInt(IsoFieldParser::getFieldId).max().orElse(0) + 1;
+    this.parsers = new IsoFieldParser[size];
+    for (IsoFieldParser<D, ?> parser : fieldParsers) {
+      int field = parser.getFieldId();
+      check(field >= 0 && (field == 0 || !isBitmapBit(field)), FIELD_ERROR_MESSAGE, id, field);
+      check(parsers[field] == null, DUPLICATE_ERROR_MESSAGE, id, field);
+      parsers[field] = parser;
+    }
+    this.fields = new ArrayList<>(fieldParsers);
+    this.fields.sort(Comparator.comparingInt(IsoFieldParser::getFieldId));
+    this.maxMessageBytes = maxMessageBytes;
+    for (int field = 1; field < size; field++) {
+      if (parsers[field] == null) {
+        parsers[field] = undefined(field);
+      }
+    }
+    this.plans =
+        maxPlans > 0 ? new FieldPlanCache<>(parsers, bitmapParser.getBytes(), maxPlans) : null;
+  }
+
+  @Override
+  public void pack(D message, OutputStream output) throws IOException {
+    if (parsers[0] != null) {
+      parsers[0].packFrom(message, output);
+    }
+    ExtendableBitmap bitmap = message.bitmap();
+    if (bitmap == null) {
+      bitmap = new ExtendableBitmap(bits / Byte.SIZE).reset(extensions());
+      for (IsoFieldParser<D, ?> parser : fields) {
+        if (parser.getFieldId() > 0 && parser.applicable(message)) {
+          bitmap.set(parser.getFieldId());
+        }
+      }
+    }
+    bitmapParser.pack(bitmap, output);
+    for (int bit = bitmap.nextSetBit(1); bit > 0; bit = bitmap.nextSetBit(bit + 1)) {
+      if (!isBitmapBit(bit)) {
+        IsoFieldParser<D, ?> parser = bit < parsers.length ? parsers[bit] : undefined(bit);
+        parser.packFrom(message, output);
+      }
+    }
+  }
+
+  @Override
+  public D parse(InputStream stream) throws IOException {
+    InputStream input = bounded(stream);
+    D message = supplier.get();
+    if (parsers[0] != null) {
+      parsers[0].parseInto(message, input);
+    }
+    ExtendableBitmap bitmap = bitmapParser.parse(input);
+    if (plans != null) {
+      FieldPlan<D> plan = plans.get(bitmap);
+      for (int index = 0; index < plan.size(); index++) {
+        plan.parser(index).parseInto(message, input);
+      }
+      return message;
+    }
+    for (int bit = bitmap.nextSetBit(1); bit > 0; bit = bitmap.nextSetBit(bit + 1)) {
+      if (!isBitmapBit(bit)) {
+        IsoFieldParser<D, ?> parser = bit < parsers.length ? parsers[bit] : undefined(bit);
+        parser.parseInto(message, input);
+      }
+    }
+    return message;
+  }
+
+  /**
+   * Parses only the projected fields of a message from the given stream. The message type
+   * indicator and the bitmap are always parsed; every other present field is decoded only if its
+   * bit is set in the projection, and skipped otherwise: fixed length fields by their length, and
+   * variable length fields by their length prefix where the parser supports it. The whole message
+   * is consumed either way.
+   *
+   * @param stream the stream to read from.
+   * @param projection the fields to decode. Bits beyond its capacity are not projected.
+   * @return the message holding the projected fields.
+   * @throws IOException if an I/O error occurs.
+   */
+  public D parse(InputStream stream, Bitmap projection) throws IOException {
+    InputStream input = bounded(stream);
+    D message = supplier.get();
+    if (parsers[0] != null) {
+      parsers[0].parseInto(message, input);
+    }
+    ExtendableBitmap bitmap = bitmapParser.parse(input);
+    for (int bit = bitmap.nextSetBit(1); bit > 0; bit = bitmap.nextSetBit(bit + 1)) {
+      if (!isBitmapBit(bit)) {
+        IsoFieldParser<D, ?> parser = bit < parsers.length ? parsers[bit] : undefined(bit);
+        if (projected(projection, bit)) {
+          parser.parseInto(message, input);
+        } else {
+          parser.skip(input);
+        }
+      }
+    }
+    return message;
+  }
+
+  /**
+   * Parses a message from the given frame for pass-through. The message type indicator, the bitmap
+   * and the present fields whose bit is set in the projection are decoded; every other present
+   * field is skipped and held as a {@link RawField} slice of the frame, which {@link #pack} writes
+   * back verbatim. Such fields are reported by {@link IsoMessage#isRaw(int)}, and reading them as
+   * their decoded type fails. Fields without a parser cannot be delimited, so they are still
+   * rejected.
+   *
+   * @param frame the frame containing the message.
+   * @param offset the offset of the message in the frame.
+   * @param length the number of bytes available for the message.
+   * @param projection the fields to decode. Bits beyond its capacity are not projected.
+   * @return the message holding the decoded and raw fields.
+   * @throws java.io.EOFException if the message is longer than the given length.
+   * @throws IOException if a field cannot be parsed or skipped.
+   */
+  public D parsePassThrough(byte[] frame, int offset, int length, Bitmap projection)
+      throws IOException {
+    BoundedInputStream input = frame(frame, offset, length);
+    D message = supplier.get();
+    if (parsers[0] != null) {
+      parsers[0].parseInto(message, input);
+    }
+    ExtendableBitmap bitmap = bitmapParser.parse(input);
+    for (int bit = bitmap.nextSetBit(1); bit > 0; bit = bitmap.nextSetBit(bit + 1)) {
+      if (!isBitmapBit(bit)) {
+        IsoFieldParser<D, ?> parser = bit < parsers.length ? parsers[bit] : undefined(bit);
+        if (projected(projection, bit)) {
+          parser.parseInto(message, input);
+        } else {
+          int start = offset + input.position();
+          parser.skip(input);
+          message.set(parser.getId(), RawField.of(frame, start, offset + input.position() - start));
+        }
+      }
+    }
+    return message;
+  }
+
+  /**
+   * Decodes a message from the given frame without throwing. The frame is first walked without
+   * decoding: the message type indicator, the bitmap and every present field are {@link
+   * Measurable#validate validated}, and a truncated frame, a malformed bitmap or length prefix, an
+   * undefined field or a value that cannot be decoded, e.g. an invalid BCD digit, is reported in the
+   * result without building an exception or formatting a message. Only a valid frame is then
+   * decoded.
+   *
+   * <p>Fields are measured by their fixed length or their {@link Measurable} parser, and their
+   * values are checked by their {@link Measurable} parser. Validation stops at the first field that
+   * cannot be delimited without decoding it: it and the fields after it are delimited by decoding
+   * them, and their failures are caught and reported like the others, with values that cannot be
+   * decoded reported as {@link DecodeStatus#INVALID_VALUE}.
+   *
+   * @param frame the frame containing the message.
+   * @param offset the offset of the message in the frame.
+   * @param length the number of bytes available for the message.
+   * @param result the result to fill in, reused from one frame to the next.
+   * @return {@code true} if the message was decoded, {@code false} if it was rejected.
+   */
+  public boolean decode(byte[] frame, int offset, int length, DecodeResult<D> result) {
+    int end = offset + Math.min(length, maxMessageBytes);
+    int position = offset;
+    if (parsers[0] != null) {
+      int measured = parsers[0].validate(frame, position, end);
+      if (measured == Measurable.UNDELIMITED) {
+        return decodeValidated(frame, offset, end, result);
+      }
+      if (measured < 0) {
+        return result.reject(DecodeStatus.of(measured), 0, position);
+      }
+      position += measured;
+    }
+    int measured = bitmapParser.measure(frame, position, end);
+    if (measured < 0) {
+      return result.reject(DecodeStatus.of(measured), DecodeResult.NO_FIELD, position);
+    }
+    ExtendableBitmap bitmap = bitmapParser.parse(ByteBuffer.wrap(frame, position, measured));
+    position += measured;
+    for (int bit = bitmap.nextSetBit(1); bit > 0; bit = bitmap.nextSetBit(bit + 1)) {
+      if (!isBitmapBit(bit)) {
+        measured =
+            bit < parsers.length
+                ? parsers[bit].validate(frame, position, end)
+                : Measurable.UNDEFINED;
+        if (measured == Measurable.UNDELIMITED) {
+          break;
+        }
+        if (measured < 0) {
+          return result.reject(DecodeStatus.of(measured), bit, position);
+        }
+        position += measured;
+      }
+    }
+    return decodeValidated(frame, offset, end, result);
+  }
+
+  /**
+   * Parses a message lazily from the given frame. The bitmap is parsed and every present field is
+   * skipped over to record its offset and length, but no value is decoded until it is read from the
+   * returned message. When plans are kept, the leading fixed-length fields of the plan are indexed
+   * straight from its offsets and skipped over at once.
+   *
+   * @param frame the frame containing the message.
+   * @param offset the offset of the message in the frame.
+   * @param length the number of bytes available for the message.
+   * @return the lazy message.
+   * @throws java.io.EOFException if the message is longer than the given length.
+   * @throws IOException if a field cannot be skipped.
+   */
+  public LazyIsoMessage parseLazy(byte[] frame, int offset, int length) throws IOException {
+    BoundedInputStream input = frame(frame, offset, length);
+    if (parsers[0] != null) {
+      parsers[0].skip(input);
+    }
+    int mtiLength = input.position();
+    ExtendableBitmap parsed = new ExtendableBitmap(bitmapParser.getBytes());
+    LazyIsoMessage message = new LazyIsoMessage(frame, bitmapParser.parseInto(input, parsed));
+    if (parsers[0] != null) {
+      message.index(0, parsers[0], offset, mtiLength);
+    }
+    ExtendableBitmap bitmap = message.bitmap();
+    if (plans != null) {
+      FieldPlan<D> plan = plans.get(bitmap);
+      int fixed = plan.fixedFields();
+      int start = offset + input.position();
+      input.skipNBytes(plan.offset(fixed));
+      for (int index = 0; index < fixed; index++) {
+        IsoFieldParser<D, ?> parser = plan.parser(index);
+        message.index(
+            parser.getFieldId(),
+            parser,
+            start + plan.offset(index),
+            plan.offset(index + 1) - plan.offset(index));
+      }
+      for (int index = fixed; index < plan.size(); index++) {
+        IsoFieldParser<D, ?> parser = plan.parser(index);
+        start = offset + input.position();
+        parser.skip(input);
+        message.index(parser.getFieldId(), parser, start, offset + input.position() - start);
+      }
+      return message;
+    }
+    for (int bit = bitmap.nextSetBit(1); bit > 0; bit = bitmap.nextSetBit(bit + 1)) {
+      if (!isBitmapBit(bit)) {
+        IsoFieldParser<D, ?> parser = bit < parsers.length ? parsers[bit] : undefined(bit);
+        int start = offset + input.position();
+        parser.skip(input);
+        message.index(bit, parser, start, offset + input.position() - start);
+      }
+    }
+    return message;
+  }
+
+  /**
+   * Opens an editor over a message in the given frame. The frame is indexed as by {@link
+   * #parseLazy}, and the editor produces the patched frame by splicing the original bytes.
+   *
+   * @param frame the frame containing the message.
+   * @param offset the offset of the message in the frame.
+   * @param length the number of bytes available for the message.
+   * @return the editor.
+   * @throws java.io.EOFException if the message is longer than the given length.
+   * @throws IOException if a field cannot be skipped.
+   */
+  public FrameEditor edit(byte[] frame, int offset, int length) throws IOException {
+    LazyIsoMessage source = parseLazy(frame, offset, length);
+    int extensions = Math.max(extensions(), source.bitmap().capacity() / bits);
+    ExtendableBitmap bitmap = new ExtendableBitmap(bits / Byte.SIZE).reset(extensions);
+    bitmap.or(source.bitmap());
+    return new FrameEditor(
+        source, bitmap, bitmapParser, field -> field < parsers.length ? parsers[field] : null);
+  }
+
+  /**
+   * @return the cache of field plans, or {@code null} if plans are not kept.
+   */
+  public FieldPlanCache<D> plans() {
+    return plans;
+  }
+
+  private boolean decodeValidated(byte[] frame, int offset, int end, DecodeResult<D> result) {
+    BoundedInputStream input = frame(frame, offset, end - offset);
+    D message = supplier.get();
+    int field = 0;
+    int start = offset;
+    try {
+      if (parsers[0] != null) {
+        parsers[0].parseInto(message, input);
+      }
+      field = DecodeResult.NO_FIELD;
+      start = offset + input.position();
+      ExtendableBitmap bitmap = bitmapParser.parse(input);
+      for (int bit = bitmap.nextSetBit(1); bit > 0; bit = bitmap.nextSetBit(bit + 1)) {
+        if (!isBitmapBit(bit)) {
+          field = bit;
+          start = offset + input.position();
+          if (bit >= parsers.length) {
+            return result.reject(DecodeStatus.UNDEFINED_FIELD, bit, start);
+          }
+          parsers[bit].parseInto(message, input);
+        }
+      }
+    } catch (EOFException e) {
+      return result.reject(DecodeStatus.TRUNCATED, field, start);
+    } catch (UnsupportedOperationException e) {
+      return result.reject(DecodeStatus.UNDEFINED_FIELD, field, start);
+    } catch (IOException | IllegalArgumentException e) {
+      return result.reject(DecodeStatus.INVALID_VALUE, field, start);
+    }
+    return result.accept(message, offset + input.position());
+  }
+
+  private BoundedInputStream frame(byte[] frame, int offset, int length) {
+    return new BoundedInputStream(
+        new ByteArrayInputStream(frame, offset, length), Math.min(length, maxMessageBytes));
+  }
+
+  private InputStream bounded(InputStream input) {
+    return maxMessageBytes < Integer.MAX_VALUE
+        ? new BoundedInputStream(input, maxMessageBytes)
+        : input;
+  }
+
+  private static boolean projected(Bitmap projection, int bit) {
+    return (projection.word((bit - 1) / Long.SIZE) & (Long.MIN_VALUE >>> ((bit - 1) % Long.SIZE)))
+        != 0;
+  }
+
+  private boolean isBitmapBit(int bit) {
+    return (bit - 1) % bits == 0;
+  }
+
+  private int extensions() {
+    return Math.max((parsers.length - 2) / bits + 1, 1);
+  }
+
+  private static <D extends DataObject<D> & IsoMessage> IsoFieldParser<D, ?> undefined(int field) {
+    return new IsoFieldParser<>(field, new UndefinedDataFieldParser(String.valueOf(field)));
+  }
+}
@@ -0,0 +1,106 @@
+package org.bytestreamparser.iso8583.parser;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import org.bytestreamparser.api.parser.DataParser;
+import org.bytestreamparser.iso8583.data.ExtendableBitmap;
+import org.bytestreamparser.iso8583.data.IsoMessage;
+
+/**
+ * LazyIsoMessage is an {@link IsoMessage} over a raw frame. Only the bitmap and the boundaries of
+ * the fields are parsed up front: the offset and length of each present field are recorded, and its
+ * value is decoded from the frame the first time it is read, then memoised.
+ *
+ * <p>The frame is not copied, so it must not be modified while the message is in use. A
+ * LazyIsoMessage is not safe for concurrent use.
+ *
+ * @see IsoMessageParser#parseLazy(byte[], int, int)
+ */
+public final class LazyIsoMessage implements IsoMessage {
+  private final byte[] frame;
+  private final ExtendableBitmap bitmap;
+  private final DataParser<?>[] parsers;
+  private final int[] offsets;
+  private final int[] lengths;
+  private final Object[] values;
+
+  LazyIsoMessage(byte[] frame, ExtendableBitmap bitmap) {
+    int fields = bitmap.capacity() + 1;
+    this.frame = frame;
+    this.bitmap = bitmap;
+    this.parsers = new DataParser<?>[fields];
+    this.offsets = new int[fields];
+    this.lengths = new int[fields];
+    this.values = new Object[fields];
+  }
+
+  void index(int id, DataParser<?> parser, int offset, int length) {
+    parsers[id] = parser;
+    offsets[id] = offset;
+    lengths[id] = length;
+  }
+
+  @Override
+  public boolean hasDataField(int id) {
+    return id >= 0 && id < parsers.length && parsers[id] != null;
+  }
+
+  /**
+   * Returns the value of the given field, decoding it on first access.
+   *
+   * @param id the ID of the field.
+   * @return the value, or {@code null} if the field is absent.
+   * @param <V> the type of the value.
+   * @throws UncheckedIOException if the field cannot be decoded.
+   */
+  @SuppressWarnings("unchecked")
+  public <V> V get(int id) {
+    if (!hasDataField(id)) {
+      return null;
+    }
+    if (values[id] == null) {
+      try {
+        values[id] = parsers[id].parse(new ByteArrayInputStream(frame, offsets[id], lengths[id]));
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+    return (V) values[id];
+  }
+
+  /**
+   * Returns the offset of the given field in the {@link #frame()}.
+   *
+   * @param id the ID of the field.
+   * @return the offset, or {@code -1} if the field is absent.
+   */
+  public int offset(int id) {
+    return hasDataField(id) ? offsets[id] : -1;
+  }
+
+  /**
+   * Returns the number of bytes the given field occupies in the {@link #frame()}.
+   *
+   * @param id the ID of the field.
+   * @return the length, or {@code -1} if the field is absent.
+   */
+  public int length(int id) {
+    return hasDataField(id) ? lengths[id] : -1;
+  }
+
+  /**
+   * @return the frame the message was parsed from.
+   */
+  public byte[] frame() {
+    return frame;
+  }
+
+  /**
+   * @return the bitmap parsed from the frame. It must not be modified.
+   */
+  @Override
+  public ExtendableBitmap bitmap() {
+    return bitmap;
+  }
+}
@@ -0,0 +1,173 @@
+package org.bytestreamparser.iso8583.parser;
+
+import static org.bytestreamparser.scalar.util.Preconditions.check;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import org.bytestreamparser.api.parser.DataParser;
+
+/**
+ * A parser for the decimal length prefix of variable length fields, e.g. the two digits of an LLVAR
+ * or the three digits of an LLLVAR field. The digits are decoded straight into an {@code int},
+ * either from text in a single-byte charset such as ASCII or EBCDIC, or from BCD, without any
+ * intermediate objects.
+ */
+public final class LengthParser extends DataParser<Integer> implements IntFieldParser {
+  private static final int MAX_DIGITS = 9;
+  private static final String DIGITS_ERROR_MESSAGE =
+      "%s: digits should be between 1 and %d, but got [%d]";
+  private static final String CHARSET_ERROR_MESSAGE =
+      "%s does not encode decimal digits as single bytes";
+  private static final String DIGIT_ERROR_MESSAGE = "%s: invalid digit [0x%02X]";
+  private static final String VALUE_ERROR_MESSAGE =
+      "%s: value should be between 0 and %d, but got [%d]";
+  private static final String EOF_ERROR_MESSAGE =
+      "%s: end of stream reached after reading %d bytes, bytes expected [%d]";
+  private final int digits;
+  private final int max;
+  private final byte[] encoded;
+  private final byte[] values;
+
+  private LengthParser(String id, int digits, byte[] encoded) {
+    super(id);
+    check(digits > 0 && digits <= MAX_DIGITS, DIGITS_ERROR_MESSAGE, id, MAX_DIGITS, digits);
+    this.digits = digits;
+    this.max = (int) BcdCodec.max(digits);
+    this.encoded = encoded;
+    this.values = new byte[1 << Byte.SIZE];
+    Arrays.fill(values, (byte) -1);
+    if (encoded != null) {
+      for (int digit = 0; digit < encoded.length; digit++) {
+        values[encoded[digit] & 0xFF] = (byte) digit;
+      }
+    }
+  }
+
+  /**
+   * Creates a LengthParser for digits encoded as text.
+   *
+   * @param id the ID of the parser.
+   * @param digits the number of digits.
+   * @param charset the charset of the text. It must encode each digit as a single byte.
+   * @return the LengthParser.
+   */
+  public static LengthParser text(String id, int digits, Charset charset) {
+    byte[] encoded = "0123456789".getBytes(charset);
+    check(encoded.length == 10, CHARSET_ERROR_MESSAGE, charset);
+    return new LengthParser(id, digits, encoded);
+  }
+
+  /**
+   * Creates a LengthParser for digits encoded as BCD. An odd number of digits is padded with a
+   * leading {@code 0} digit.
+   *
+   * @param id the ID of the parser.
+   * @param digits the number of digits.
+   * @return the LengthParser.
+   * @see <a href="https://en.wikipedia.org/wiki/Binary-coded_decimal">Binary Coded Decimal</a>
+   */
+  public static LengthParser bcd(String id, int digits) {
+    return new LengthParser(id, digits, null);
+  }
+
+  @Override
+  public void pack(Integer value, OutputStream output) throws IOException {
+    packInt(value, output);
+  }
+
+  @Override
+  public void packInt(int value, OutputStream output) throws IOException {
+    if (value < 0 || value > max) {
+      throw new IllegalArgumentException(String.format(VALUE_ERROR_MESSAGE, getId(), max, value));
+    }
+    if (encoded == null) {
+      BcdCodec.encode(value, digits, BcdPadding.LEFT, output);
+      return;
+    }
+    for (int divisor = divisor(digits); divisor > 0; divisor /= 10) {
+      output.write(encoded[value / divisor % 10]);
+    }
+  }
+
+  @Override
+  public Integer parse(InputStream input) throws IOException {
+    return parseInt(input);
+  }
+
+  @Override
+  public int parseInt(InputStream input) throws IOException {
+    if (encoded == null) {
+      return (int) BcdCodec.decode(getId(), input, digits, BcdPadding.LEFT);
+    }
+    int value = 0;
+    for (int index = 0; index < digits; index++) {
+      value = value * 10 + digit(read(input, index, digits));
+    }
+    return value;
+  }
+
+  /**
+   * Decodes the length at the given offset of the array without throwing. The caller must ensure
+   * that {@link #getBytes()} bytes are available.
+   *
+   * @param source the array to read from.
+   * @param offset the offset of the encoded length.
+   * @return the length, or {@code -1} if a digit is invalid.
+   */
+  public int tryParseInt(byte[] source, int offset) {
+    if (encoded == null) {
+      return (int) BcdCodec.tryDecode(source, offset, digits, BcdPadding.LEFT);
+    }
+    int value = 0;
+    for (int index = 0; index < digits; index++) {
+      int digit = values[source[offset + index] & 0xFF];
+      if (digit < 0) {
+        return -1;
+      }
+      value = value * 10 + digit;
+    }
+    return value;
+  }
+
+  /**
+   * @return the largest length that can be encoded.
+   */
+  public int getMax() {
+    return max;
+  }
+
+  /**
+   * @return the number of bytes of the encoded length.
+   */
+  public int getBytes() {
+    return encoded != null ? digits : BcdCodec.bytes(digits);
+  }
+
+  private int read(InputStream input, int index, int bytes) throws IOException {
+    int value = input.read();
+    if (value < 0) {
+      throw new EOFException(String.format(EOF_ERROR_MESSAGE, getId(), index, bytes));
+    }
+    return value;
+  }
+
+  private int digit(int character) {
+    int digit = values[character];
+    if (digit < 0) {
+      throw new IllegalArgumentException(String.format(DIGIT_ERROR_MESSAGE, getId(), character));
+    }
+    return digit;
+  }
+
+  private static int divisor(int digits) {
+    int divisor = 1;
+    for (int index = 1; index < digits; index++) {
+      divisor *= 10;
+    }
+    return divisor;
+  }
+}
@@ -0,0 +1,287 @@
+package org.bytestreamparser.iso8583.parser;
+
+import static org.bytestreamparser.scalar.util.Preconditions.check;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+import java.util.function.IntUnaryOperator;
+import org.bytestreamparser.api.parser.DataParser;
+import org.bytestreamparser.scalar.parser.UnsignedByteParser;
+import org.bytestreamparser.scalar.parser.UnsignedShortParser;
+
+/**
+ * A parser for values prefixed by their length. Values are packed and parsed by the parser for
+ * their length, as with a {@link org.bytestreamparser.composite.parser.VariableLengthParser}. When
+ * the number of bytes of a value can be derived from its declared length, the value can also be
+ * {@link #skip(InputStream) skipped} after reading only the prefix.
+ *
+ * <p>The parser for each length is created once, on first use, and reused by every later value of
+ * that length. Lengths below {@value #CACHED_LENGTHS} are cached, up to the maximum length of the
+ * parser or the largest length a {@link LengthParser} prefix can encode.
+ *
+ * <p>A declared length above the maximum length of the parser is rejected before the parser for
+ * that length is created, and so before anything is allocated for the value. When reading straight
+ * from a {@link BoundedInputStream}, a value that needs more bytes than are left in it is rejected
+ * the same way. The stream is not unwrapped: if any other stream wraps the bounded one, e.g. a
+ * {@link java.io.BufferedInputStream}, this early check is skipped, and such a value only fails
+ * once the bounded stream ends.
+ *
+ * <p>When an encoder is given, values are encoded once on pack and the bytes are written straight
+ * after the prefix, without going through the parser for their length. If the length of a value is
+ * its number of bytes, the prefix is then taken from the encoded bytes, so that it always matches
+ * them, e.g. when characters the charset cannot encode are replaced.
+ *
+ * @param <V> the type of the value.
+ */
+public class LengthPrefixedParser<V> extends DataParser<V> implements Skippable, Measurable {
+  /** The number of lengths, starting from {@code 0}, whose value parsers are cached. */
+  public static final int CACHED_LENGTHS = 1000;
+
+  private static final String LENGTH_ERROR_MESSAGE =
+      "%s: length should be between 0 and %d, but got [%d]";
+  private static final String MAX_LENGTH_ERROR_MESSAGE =
+      "%s: maximum length should not be negative, but got [%d]";
+  private static final String ENCODER_ERROR_MESSAGE =
+      "%s: an encoder is required to take the length of a value from its bytes";
+  private static final String REMAINING_ERROR_MESSAGE =
+      "%s: value needs %d bytes, but only %d bytes are left";
+
+  private final DataParser<Integer> lengthParser;
+  private final Function<Integer, DataParser<V>> valueParser;
+  private final AtomicReferenceArray<DataParser<V>> valueParsers;
+  private final Function<V, Integer> valueLength;
+  private final IntUnaryOperator encodedLength;
+  private final Function<V, byte[]> encoder;
+  private final int maxLength;
+
+  /**
+   * Creates a new LengthPrefixedParser.
+   *
+   * @param id the ID of the parser.
+   * @param lengthParser the parser for the length.
+   * @param valueParser the provider of the parser for a value of a given length.
+   * @param valueLength the function to get the length of a value.
+   * @param encodedLength the function to get the number of bytes of a value from its length, or
+   *     {@code null} if it can only be found by decoding the value.
+   */
+  public LengthPrefixedParser(
+      String id,
+      DataParser<Integer> lengthParser,
+      Function<Integer, DataParser<V>> valueParser,
+      Function<V, Integer> valueLength,
+      IntUnaryOperator encodedLength) {
+    this(id, lengthParser, valueParser, valueLength, encodedLength, null);
+  }
+
+  /**
+   * Creates a new LengthPrefixedParser that packs values through the given encoder.
+   *
+   * @param id the ID of the parser.
+   * @param lengthParser the parser for the length.
+   * @param valueParser the provider of the parser for a value of a given length.
+   * @param valueLength the function to get the length of a value, or {@code null} if the length
+   *     is the number of bytes of the encoded value.
+   * @param encodedLength the function to get the number of bytes of a value from its length, or
+   *     {@code null} if it can only be found by decoding the value.
+   * @param encoder the function to encode a value, or {@code null} to pack values through the
+   *     parser for their length.
+   */
+  public LengthPrefixedParser(
+      String id,
+      DataParser<Integer> lengthParser,
+      Function<Integer, DataParser<V>> valueParser,
+      Function<V, Integer> valueLength,
+      IntUnaryOperator encodedLength,
+      Function<V, byte[]> encoder) {
+    this(id, lengthParser, valueParser, valueLength, encodedLength, encoder, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Creates a new LengthPrefixedParser that packs values through the given encoder and rejects
+   * values longer than the given maximum length.
+   *
+   * @param id the ID of the parser.
+   * @param lengthParser the parser for the length.
+   * @param valueParser the provider of the parser for a value of a given length.
+   * @param valueLength the function to get the length of a value, or {@code null} if the length
+   *     is the number of bytes of the encoded value.
+   * @param encodedLength the function to get the number of bytes of a value from its length, or
+   *     {@code null} if it can only be found by decoding the value.
+   * @param encoder the function to encode a value, or {@code null} to pack values through the
+   *     parser for their length.
+   * @param maxLength the maximum length of a value.
+   * @throws IllegalArgumentException if the length of a value is its number of bytes but no
+   *     encoder is given.
+   */
+  public LengthPrefixedParser(
+      String id,
+      DataParser<Integer> lengthParser,
+      Function<Integer, DataParser<V>> valueParser,
+      Function<V, Integer> valueLength,
+      IntUnaryOperator encodedLength,
+      Function<V, byte[]> encoder,
+      int maxLength) {
+    super(id);
+    check(maxLength >= 0, MAX_LENGTH_ERROR_MESSAGE, id, maxLength);
+    check(valueLength != null || encoder != null, ENCODER_ERROR_MESSAGE, id);
+    this.lengthParser = lengthParser;
+    this.valueParser = valueParser;
+    int largest =
+        lengthParser instanceof LengthParser parser
+            ? Math.min(parser.getMax(), maxLength)
+            : maxLength;
+    this.valueParsers = new AtomicReferenceArray<>((int) Math.min(largest + 1L, CACHED_LENGTHS));
+    this.valueLength = valueLength;
+    this.encodedLength = encodedLength;
+    this.encoder = encoder;
+    this.maxLength = maxLength;
+  }
+
+  @Override
+  public void pack(V value, OutputStream output) throws IOException {
+    byte[] encoded = encoder != null ? encoder.apply(value) : null;
+    int length = valueLength != null ? valueLength.apply(value) : encoded.length;
+    checkLength(length);
+    if (lengthParser instanceof IntFieldParser parser) {
+      parser.packInt(length, output);
+    } else {
+      lengthParser.pack(length, output);
+    }
+    if (encoded != null) {
+      output.write(encoded);
+    } else {
+      valueParser(length).pack(value, output);
+    }
+  }
+
+  @Override
+  public V parse(InputStream input) throws IOException {
+    return valueParser(readLength(input)).parse(input);
+  }
+
+  /**
+   * Skips over the encoded value at the current position of the stream. Only the length prefix is
+   * decoded, unless the number of bytes of the value cannot be derived from its length.
+   *
+   * @param input the stream to skip in.
+   * @throws EOFException if the stream ends before the end of the value.
+   * @throws IOException if an I/O error occurs.
+   */
+  @Override
+  public void skip(InputStream input) throws IOException {
+    int length = readLength(input);
+    if (encodedLength == null) {
+      valueParser(length).parse(input);
+    } else {
+      input.skipNBytes(encodedLength.applyAsInt(length));
+    }
+  }
+
+  /**
+   * Measures the encoded value at the given offset of the frame from its length prefix. Only
+   * {@link LengthParser}, unsigned byte and unsigned short prefixes can be read without decoding,
+   * and only when the number of bytes of the value can be derived from its length.
+   *
+   * @param frame the frame containing the value.
+   * @param offset the offset of the length prefix in the frame.
+   * @param limit the end of the bytes available for the value, exclusive.
+   * @return the number of bytes of the prefix and the value, or one of the negative codes of
+   *     {@link Measurable}.
+   */
+  @Override
+  public int measure(byte[] frame, int offset, int limit) {
+    int prefix = prefixBytes();
+    if (prefix < 0 || encodedLength == null) {
+      return UNDELIMITED;
+    }
+    if (limit - offset < prefix) {
+      return TRUNCATED;
+    }
+    int length = tryLength(frame, offset, prefix);
+    if (length < 0 || length > maxLength) {
+      return MALFORMED;
+    }
+    int bytes = encodedLength.applyAsInt(length);
+    return limit - offset - prefix < bytes ? TRUNCATED : prefix + bytes;
+  }
+
+  /**
+   * Measures the encoded value at the given offset of the frame as by {@link #measure}, and checks
+   * the value through the parser for its length if that parser is {@link Measurable}.
+   *
+   * @param frame the frame containing the value.
+   * @param offset the offset of the length prefix in the frame.
+   * @param limit the end of the bytes available for the value, exclusive.
+   * @return the number of bytes of the prefix and the value, or one of the negative codes of
+   *     {@link Measurable}.
+   */
+  @Override
+  public int validate(byte[] frame, int offset, int limit) {
+    int measured = measure(frame, offset, limit);
+    if (measured < 0) {
+      return measured;
+    }
+    int prefix = prefixBytes();
+    if (valueParser(tryLength(frame, offset, prefix)) instanceof Measurable parser) {
+      int validated = parser.validate(frame, offset + prefix, offset + measured);
+      return validated < 0 ? validated : measured;
+    }
+    return measured;
+  }
+
+  private int readLength(InputStream input) throws IOException {
+    int length =
+        lengthParser instanceof LengthParser parser
+            ? parser.parseInt(input)
+            : lengthParser.parse(input);
+    checkLength(length);
+    if (input instanceof BoundedInputStream bounded) {
+      int bytes = encodedLength != null ? encodedLength.applyAsInt(length) : length;
+      if (bytes > bounded.remaining()) {
+        throw new EOFException(
+            String.format(REMAINING_ERROR_MESSAGE, getId(), bytes, bounded.remaining()));
+      }
+    }
+    return length;
+  }
+
+  private int tryLength(byte[] frame, int offset, int prefix) {
+    if (lengthParser instanceof LengthParser parser) {
+      return parser.tryParseInt(frame, offset);
+    }
+    if (prefix == 1) {
+      return frame[offset] & 0xFF;
+    }
+    return (frame[offset] & 0xFF) << Byte.SIZE | frame[offset + 1] & 0xFF;
+  }
+
+  private void checkLength(int length) {
+    check(length >= 0 && length <= maxLength, LENGTH_ERROR_MESSAGE, getId(), maxLength, length);
+  }
+
+  private int prefixBytes() {
+    if (lengthParser instanceof LengthParser parser) {
+      return parser.getBytes();
+    }
+    if (lengthParser instanceof UnsignedByteParser) {
+      return 1;
+    }
+    return lengthParser instanceof UnsignedShortParser ? 2 : -1;
+  }
+
+  private DataParser<V> valueParser(int length) {
+    if (length < 0 || length >= valueParsers.length()) {
+      return valueParser.apply(length);
+    }
+    DataParser<V> cached = valueParsers.get(length);
+    if (cached == null) {
+      cached = valueParser.apply(length);
+      valueParsers.set(length, cached);
+    }
+    return cached;
+  }
+}
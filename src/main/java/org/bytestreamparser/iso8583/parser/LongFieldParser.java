@@ -0,0 +1,30 @@
+package org.bytestreamparser.iso8583.parser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * A parser of {@code long} values that can be used without boxing. {@link IsoFieldParser} uses it
+ * to parse into and pack from the primitive slots of an {@link
+ * org.bytestreamparser.iso8583.data.ArrayIsoMessage}.
+ */
+public interface LongFieldParser {
+  /**
+   * Parses a value from the given stream.
+   *
+   * @param input the stream to read from.
+   * @return the value.
+   * @throws IOException if an I/O error occurs.
+   */
+  long parseLong(InputStream input) throws IOException;
+
+  /**
+   * Packs the given value into the given stream.
+   *
+   * @param value the value to pack.
+   * @param output the stream to write to.
+   * @throws IOException if an I/O error occurs.
+   */
+  void packLong(long value, OutputStream output) throws IOException;
+}
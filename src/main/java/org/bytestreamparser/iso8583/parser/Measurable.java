@@ -0,0 +1,61 @@
+package org.bytestreamparser.iso8583.parser;
+
+/**
+ * A parser that can measure an encoded value in a frame without decoding it. Measuring neither
+ * throws nor allocates, so that malformed frames can be rejected without building exceptions.
+ * Values can also be {@link #validate validated} the same way, so that values that cannot be
+ * decoded are rejected before decoding them.
+ */
+public interface Measurable {
+  /** The value does not fit in the bytes available. */
+  int TRUNCATED = -1;
+
+  /** The bytes that delimit the value, e.g. its length prefix, are malformed. */
+  int MALFORMED = -2;
+
+  /** The extent of the value cannot be found without decoding it. */
+  int UNDELIMITED = -3;
+
+  /** The value belongs to an undefined field. */
+  int UNDEFINED = -4;
+
+  /** The value is delimited, but its bytes cannot be decoded. */
+  int INVALID = -5;
+
+  /**
+   * Measures the encoded value at the given offset of the frame.
+   *
+   * @param frame the frame containing the value.
+   * @param offset the offset of the value in the frame.
+   * @param limit the end of the bytes available for the value, exclusive.
+   * @return the number of bytes of the encoded value, or one of the negative codes of this
+   *     interface.
+   */
+  int measure(byte[] frame, int offset, int limit);
+
+  /**
+   * Measures the encoded value at the given offset of the frame and checks that it can be decoded,
+   * still without decoding it. By default, the value is only measured.
+   *
+   * @param frame the frame containing the value.
+   * @param offset the offset of the value in the frame.
+   * @param limit the end of the bytes available for the value, exclusive.
+   * @return the number of bytes of the encoded value, or one of the negative codes of this
+   *     interface.
+   */
+  default int validate(byte[] frame, int offset, int limit) {
+    return measure(frame, offset, limit);
+  }
+
+  /**
+   * Measures a value that always occupies the given number of bytes.
+   *
+   * @param bytes the number of bytes of the value.
+   * @param offset the offset of the value in the frame.
+   * @param limit the end of the bytes available for the value, exclusive.
+   * @return the number of bytes, or {@link #TRUNCATED} if they are not available.
+   */
+  static int fixed(int bytes, int offset, int limit) {
+    return limit - offset >= bytes ? bytes : TRUNCATED;
+  }
+}
@@ -0,0 +1,173 @@
+package org.bytestreamparser.iso8583.parser;
+
+import static org.bytestreamparser.scalar.util.Preconditions.check;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Precomputed decode and encode tables for a single-byte charset, such as ASCII, ISO-8859-1 or the
+ * EBCDIC code pages used on ISO 8583 links. Decoding maps each byte straight to a {@code char}
+ * through a 256-entry table, and encoding maps each {@code char} back through a table per high
+ * byte, without any {@link java.nio.charset.CharsetDecoder} state. ASCII and ISO-8859-1 decode
+ * through {@link String#String(byte[], int, int, Charset)}, which the JDK already intrinsifies, and
+ * charsets that only decode to Latin-1 characters build a compact string straight from the
+ * translated bytes.
+ *
+ * <p>Bytes the charset cannot decode become {@code U+FFFD}, and characters it cannot encode become
+ * its replacement byte, as with {@link String#String(byte[], Charset)} and {@link
+ * String#getBytes(Charset)}.
+ */
+public final class SingleByteCharset {
+  /** US-ASCII. */
+  public static final SingleByteCharset ASCII = of(StandardCharsets.US_ASCII);
+
+  /** ISO-8859-1. */
+  public static final SingleByteCharset ISO_8859_1 = of(StandardCharsets.ISO_8859_1);
+
+  /** EBCDIC code page 037, US/Canada. */
+  public static final SingleByteCharset CP037 = of(Charset.forName("IBM037"));
+
+  /** EBCDIC code page 1047, Latin-1 open systems. */
+  public static final SingleByteCharset CP1047 = of(Charset.forName("IBM1047"));
+
+  private static final String CHARSET_ERROR_MESSAGE = "%s is not a single-byte charset";
+  private static final char REPLACEMENT = '\uFFFD';
+  private final Charset charset;
+  private final boolean intrinsic;
+  private final char[] characters;
+  private final byte[] latin1;
+  private final byte[][] pages;
+  private final byte replacement;
+
+  private SingleByteCharset(Charset charset) {
+    check(
+        charset.canEncode() && charset.newEncoder().maxBytesPerChar() == 1.0f,
+        CHARSET_ERROR_MESSAGE,
+        charset);
+    this.charset = charset;
+    this.characters = new char[1 << Byte.SIZE];
+    this.pages = new byte[1 << Byte.SIZE][];
+    this.replacement = charset.newEncoder().replacement()[0];
+    byte[] value = new byte[1];
+    for (int index = 0; index < characters.length; index++) {
+      value[0] = (byte) index;
+      String decoded = new String(value, charset);
+      characters[index] = decoded.length() == 1 ? decoded.charAt(0) : REPLACEMENT;
+    }
+    this.intrinsic =
+        charset.equals(StandardCharsets.US_ASCII) || charset.equals(StandardCharsets.ISO_8859_1);
+    this.latin1 = latin1(characters);
+    for (int index = characters.length - 1; index >= 0; index--) {
+      char character = characters[index];
+      if (character != REPLACEMENT) {
+        page(character)[character & 0xFF] = (byte) index;
+      }
+    }
+  }
+
+  /**
+   * Creates the tables of the given charset.
+   *
+   * @param charset the charset. It must encode every character as a single byte.
+   * @return the tables.
+   */
+  public static SingleByteCharset of(Charset charset) {
+    return new SingleByteCharset(charset);
+  }
+
+  /**
+   * @return the charset the tables were built from.
+   */
+  public Charset charset() {
+    return charset;
+  }
+
+  /**
+   * Decodes the given bytes.
+   *
+   * @param bytes the array containing the bytes.
+   * @param offset the offset of the first byte.
+   * @param length the number of bytes.
+   * @return the decoded string.
+   */
+  public String decode(byte[] bytes, int offset, int length) {
+    if (intrinsic) {
+      return new String(bytes, offset, length, charset);
+    }
+    if (latin1 != null) {
+      byte[] decoded = new byte[length];
+      for (int index = 0; index < length; index++) {
+        decoded[index] = latin1[bytes[offset + index] & 0xFF];
+      }
+      return new String(decoded, StandardCharsets.ISO_8859_1);
+    }
+    char[] decoded = new char[length];
+    for (int index = 0; index < length; index++) {
+      decoded[index] = characters[bytes[offset + index] & 0xFF];
+    }
+    return new String(decoded);
+  }
+
+  /**
+   * Decodes a single byte.
+   *
+   * @param value the byte, as an unsigned value.
+   * @return the character.
+   */
+  public char decode(int value) {
+    return characters[value & 0xFF];
+  }
+
+  /**
+   * Encodes the given string into the given array.
+   *
+   * @param value the string to encode.
+   * @param target the array to write to.
+   * @param offset the offset in the array to start writing at.
+   */
+  public void encode(String value, byte[] target, int offset) {
+    for (int index = 0; index < value.length(); index++) {
+      target[offset + index] = encode(value.charAt(index));
+    }
+  }
+
+  /**
+   * Encodes a single character.
+   *
+   * @param character the character.
+   * @return the byte.
+   */
+  public byte encode(char character) {
+    byte[] page = pages[character >>> Byte.SIZE];
+    if (page == null) {
+      return replacement;
+    }
+    byte value = page[character & 0xFF];
+    return value != 0 || characters[0] == character ? value : replacement;
+  }
+
+  @Override
+  public String toString() {
+    return charset.name();
+  }
+
+  private static byte[] latin1(char[] characters) {
+    byte[] latin1 = new byte[characters.length];
+    for (int index = 0; index < characters.length; index++) {
+      if (characters[index] > 0xFF) {
+        return null;
+      }
+      latin1[index] = (byte) characters[index];
+    }
+    return latin1;
+  }
+
+  private byte[] page(char character) {
+    int index = character >>> Byte.SIZE;
+    if (pages[index] == null) {
+      pages[index] = new byte[1 << Byte.SIZE];
+    }
+    return pages[index];
+  }
+}
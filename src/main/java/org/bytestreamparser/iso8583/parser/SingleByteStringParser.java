@@ -0,0 +1,86 @@
+package org.bytestreamparser.iso8583.parser;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import org.bytestreamparser.api.parser.DataParser;
+
+/**
+ * A parser for fixed length strings in a {@link SingleByteCharset}. Each byte is decoded to one
+ * character and back through the precomputed tables of the charset.
+ */
+public class SingleByteStringParser extends DataParser<String> implements Measurable {
+  private static final String LENGTH_ERROR_MESSAGE =
+      "%s: value should have %d characters, but got [%d]";
+  private static final String EOF_ERROR_MESSAGE =
+      "%s: end of stream reached after reading %d bytes, bytes expected [%d]";
+  private final int length;
+  private final SingleByteCharset charset;
+
+  /**
+   * Creates a new SingleByteStringParser.
+   *
+   * @param id the ID of the parser.
+   * @param length the number of characters in the string.
+   * @param charset the charset of the string.
+   */
+  public SingleByteStringParser(String id, int length, SingleByteCharset charset) {
+    super(id);
+    this.length = length;
+    this.charset = charset;
+  }
+
+  /**
+   * @return the number of characters in the string.
+   */
+  public int getLength() {
+    return length;
+  }
+
+  @Override
+  public void pack(String value, OutputStream output) throws IOException {
+    if (value.length() != length) {
+      throw new IllegalArgumentException(
+          String.format(LENGTH_ERROR_MESSAGE, getId(), length, value.length()));
+    }
+    byte[] encoded = new byte[length];
+    charset.encode(value, encoded, 0);
+    output.write(encoded);
+  }
+
+  @Override
+  public String parse(InputStream input) throws IOException {
+    byte[] bytes = new byte[length];
+    read(input, bytes);
+    return charset.decode(bytes, 0, length);
+  }
+
+  /**
+   * Reads the bytes of a value into the start of the given array.
+   *
+   * @param input the stream to read from.
+   * @param bytes the array to read into. It must hold at least {@link #getLength()} bytes.
+   * @throws EOFException if the stream ends before the end of the value.
+   * @throws IOException if an I/O error occurs.
+   */
+  protected void read(InputStream input, byte[] bytes) throws IOException {
+    int read = input.readNBytes(bytes, 0, length);
+    if (read < length) {
+      throw new EOFException(String.format(EOF_ERROR_MESSAGE, getId(), read, length));
+    }
+  }
+
+  /**
+   * Measures the encoded value at the given offset of the frame.
+   *
+   * @param frame the frame containing the value.
+   * @param offset the offset of the value in the frame.
+   * @param limit the end of the bytes available for the value, exclusive.
+   * @return the number of bytes of the value, or {@link Measurable#TRUNCATED}.
+   */
+  @Override
+  public int measure(byte[] frame, int offset, int limit) {
+    return Measurable.fixed(length, offset, limit);
+  }
+}
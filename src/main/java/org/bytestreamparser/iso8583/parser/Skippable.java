@@ -0,0 +1,16 @@
+package org.bytestreamparser.iso8583.parser;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/** A parser that can skip over an encoded value without decoding it. */
+public interface Skippable {
+  /**
+   * Skips over the encoded value at the current position of the stream.
+   *
+   * @param input the stream to skip in.
+   * @throws java.io.EOFException if the stream ends before the end of the value.
+   * @throws IOException if an I/O error occurs.
+   */
+  void skip(InputStream input) throws IOException;
+}
@@ -0,0 +1,131 @@
+package org.bytestreamparser.iso8583.parser;
+
+import static org.bytestreamparser.scalar.util.Preconditions.check;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * StringInterner maps the raw bytes of recurring text values, e.g. currency codes, response codes
+ * or merchant category codes, to shared {@link String} instances, so that parsing them does not
+ * allocate a new string for every message.
+ *
+ * <p>The cache is bounded and direct-mapped: each value has a single slot chosen by the hash of its
+ * bytes, and a value that lands on an occupied slot evicts the previous one. Lookups and updates are
+ * lock-free, and it is safe to share an interner between threads and parsers of the same charset.
+ */
+public class StringInterner {
+  /** The largest supported maximum size. */
+  public static final int MAXIMUM_SIZE = 1 << 16;
+
+  private static final String SIZE_ERROR_MESSAGE =
+      "maximum size should be between 1 and %d, but got [%d]";
+  private final SingleByteCharset charset;
+  private final AtomicReferenceArray<Entry> entries;
+  private final LongAdder hits;
+  private final LongAdder misses;
+  private final LongAdder evictions;
+
+  /**
+   * Creates a new StringInterner.
+   *
+   * @param charset the charset of the values.
+   * @param maximumSize the maximum number of values to keep. It is rounded up to a power of two.
+   */
+  public StringInterner(SingleByteCharset charset, int maximumSize) {
+    check(
+        maximumSize > 0 && maximumSize <= MAXIMUM_SIZE,
+        SIZE_ERROR_MESSAGE,
+        MAXIMUM_SIZE,
+        maximumSize);
+    this.charset = charset;
+    this.entries = new AtomicReferenceArray<>(Integer.highestOneBit(maximumSize * 2 - 1));
+    this.hits = new LongAdder();
+    this.misses = new LongAdder();
+    this.evictions = new LongAdder();
+  }
+
+  /**
+   * @return the charset of the values.
+   */
+  public SingleByteCharset charset() {
+    return charset;
+  }
+
+  /**
+   * Returns the shared string for the given bytes, decoding and caching it if it has not been seen
+   * before.
+   *
+   * @param bytes the array containing the bytes.
+   * @param offset the offset of the first byte.
+   * @param length the number of bytes.
+   * @return the decoded string.
+   */
+  public String intern(byte[] bytes, int offset, int length) {
+    int hash = hash(bytes, offset, length);
+    int index = hash & (entries.length() - 1);
+    Entry entry = entries.get(index);
+    if (entry != null
+        && entry.hash() == hash
+        && Arrays.equals(entry.bytes(), 0, entry.bytes().length, bytes, offset, offset + length)) {
+      hits.increment();
+      return entry.value();
+    }
+    misses.increment();
+    String value = charset.decode(bytes, offset, length);
+    byte[] key = Arrays.copyOfRange(bytes, offset, offset + length);
+    if (entries.getAndSet(index, new Entry(hash, key, value)) != null) {
+      evictions.increment();
+    }
+    return value;
+  }
+
+  /**
+   * @return the number of slots in the cache.
+   */
+  public int capacity() {
+    return entries.length();
+  }
+
+  /**
+   * @return the number of lookups that found a shared string.
+   */
+  public long hits() {
+    return hits.sum();
+  }
+
+  /**
+   * @return the number of lookups that had to decode the bytes.
+   */
+  public long misses() {
+    return misses.sum();
+  }
+
+  /**
+   * @return the number of values that replaced a previously cached value.
+   */
+  public long evictions() {
+    return evictions.sum();
+  }
+
+  /**
+   * @return the fraction of lookups that found a shared string, or {@code 0} if there were none.
+   */
+  public double hitRate() {
+    long hits = hits();
+    long total = hits + misses();
+    return total == 0 ? 0 : (double) hits / total;
+  }
+
+  private static int hash(byte[] bytes, int offset, int length) {
+    int hash = 1;
+    for (int index = offset; index < offset + length; index++) {
+      hash = 31 * hash + bytes[index];
+    }
+    hash *= 0x9E3779B9;
+    return hash ^ (hash >>> 16);
+  }
+
+  private record Entry(int hash, byte[] bytes, String value) {}
+}
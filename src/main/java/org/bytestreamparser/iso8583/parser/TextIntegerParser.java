@@ -0,0 +1,87 @@
+package org.bytestreamparser.iso8583.parser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import org.bytestreamparser.api.parser.DataParser;
+
+/**
+ * A parser for {@link Integer} values encoded as fixed length decimal text in a single-byte
+ * charset. The characters are decoded straight into an {@code int} through lookup tables, without
+ * an intermediate {@link String}.
+ */
+public class TextIntegerParser extends DataParser<Integer> implements IntFieldParser, Measurable {
+  private static final String RANGE_ERROR_MESSAGE = "%s: value out of range";
+  private final int length;
+  private final DecimalCodec codec;
+
+  /**
+   * Creates a new TextIntegerParser.
+   *
+   * @param id the ID of the parser.
+   * @param length the number of characters.
+   * @param charset the charset of the text. It must encode each digit and sign as a single byte.
+   */
+  public TextIntegerParser(String id, int length, Charset charset) {
+    super(id);
+    this.length = length;
+    this.codec = new DecimalCodec(charset);
+  }
+
+  @Override
+  public void pack(Integer value, OutputStream output) throws IOException {
+    packInt(value, output);
+  }
+
+  @Override
+  public void packInt(int value, OutputStream output) throws IOException {
+    codec.encode(getId(), value, length, output);
+  }
+
+  @Override
+  public Integer parse(InputStream input) throws IOException {
+    return parseInt(input);
+  }
+
+  @Override
+  public int parseInt(InputStream input) throws IOException {
+    long value = codec.decode(getId(), input, length);
+    if (value != (int) value) {
+      throw new IllegalArgumentException(String.format(RANGE_ERROR_MESSAGE, getId()));
+    }
+    return (int) value;
+  }
+
+  /**
+   * Measures the encoded value at the given offset of the frame.
+   *
+   * @param frame the frame containing the value.
+   * @param offset the offset of the value in the frame.
+   * @param limit the end of the bytes available for the value, exclusive.
+   * @return the number of bytes of the value, or {@link Measurable#TRUNCATED}.
+   */
+  @Override
+  public int measure(byte[] frame, int offset, int limit) {
+    return Measurable.fixed(length, offset, limit);
+  }
+
+  /**
+   * Measures the encoded value at the given offset of the frame and checks that it is a number in
+   * the range of an {@code int}.
+   *
+   * @param frame the frame containing the value.
+   * @param offset the offset of the value in the frame.
+   * @param limit the end of the bytes available for the value, exclusive.
+   * @return the number of bytes of the value, or {@link Measurable#TRUNCATED} or {@link
+   *     Measurable#INVALID}.
+   */
+  @Override
+  public int validate(byte[] frame, int offset, int limit) {
+    int measured = measure(frame, offset, limit);
+    return measured < 0
+            || codec.isValid(frame, offset, length, Integer.MIN_VALUE, Integer.MAX_VALUE)
+        ? measured
+        : INVALID;
+  }
+}
@@ -0,0 +1,81 @@
+package org.bytestreamparser.iso8583.parser;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import org.bytestreamparser.api.parser.DataParser;
+
+/**
+ * A parser for {@link Long} values encoded as fixed length decimal text in a single-byte charset.
+ * The characters are decoded straight into a {@code long} through lookup tables, without an
+ * intermediate {@link String}.
+ */
+public class TextLongParser extends DataParser<Long> implements LongFieldParser, Measurable {
+  private final int length;
+  private final DecimalCodec codec;
+
+  /**
+   * Creates a new TextLongParser.
+   *
+   * @param id the ID of the parser.
+   * @param length the number of characters.
+   * @param charset the charset of the text. It must encode each digit and sign as a single byte.
+   */
+  public TextLongParser(String id, int length, Charset charset) {
+    super(id);
+    this.length = length;
+    this.codec = new DecimalCodec(charset);
+  }
+
+  @Override
+  public void pack(Long value, OutputStream output) throws IOException {
+    packLong(value, output);
+  }
+
+  @Override
+  public void packLong(long value, OutputStream output) throws IOException {
+    codec.encode(getId(), value, length, output);
+  }
+
+  @Override
+  public Long parse(InputStream input) throws IOException {
+    return parseLong(input);
+  }
+
+  @Override
+  public long parseLong(InputStream input) throws IOException {
+    return codec.decode(getId(), input, length);
+  }
+
+  /**
+   * Measures the encoded value at the given offset of the frame.
+   *
+   * @param frame the frame containing the value.
+   * @param offset the offset of the value in the frame.
+   * @param limit the end of the bytes available for the value, exclusive.
+   * @return the number of bytes of the value, or {@link Measurable#TRUNCATED}.
+   */
+  @Override
+  public int measure(byte[] frame, int offset, int limit) {
+    return Measurable.fixed(length, offset, limit);
+  }
+
+  /**
+   * Measures the encoded value at the given offset of the frame and checks that it is a number in
+   * the range of a {@code long}.
+   *
+   * @param frame the frame containing the value.
+   * @param offset the offset of the value in the frame.
+   * @param limit the end of the bytes available for the value, exclusive.
+   * @return the number of bytes of the value, or {@link Measurable#TRUNCATED} or {@link
+   *     Measurable#INVALID}.
+   */
+  @Override
+  public int validate(byte[] frame, int offset, int limit) {
+    int measured = measure(frame, offset, limit);
+    return measured < 0 || codec.isValid(frame, offset, length, Long.MIN_VALUE, Long.MAX_VALUE)
+        ? measured
+        : INVALID;
+  }
+}
@@ -6,7 +6,7 @@ import java.io.OutputStream;
 import org.bytestreamparser.api.parser.DataParser;
 
 /** A parser for undefined data fields. */
-public class UndefinedDataFieldParser extends DataParser<Object> {
+public class UndefinedDataFieldParser extends DataParser<Object> implements Measurable {
   public UndefinedDataFieldParser(String id) {
     super(id);
   }
@@ -23,6 +23,12 @@ public class UndefinedDataFieldParser extends DataParser<Object> {
     throw getException();
   }
 
+  /** Returns {@link Measurable#UNDEFINED}. */
+  @Override
+  public int measure(byte[] frame, int offset, int limit) {
+    return UNDEFINED;
+  }
+
   private UnsupportedOperationException getException() {
     return new UnsupportedOperationException(String.format("%s: Undefined data field", getId()));
   }
@@ -1,11 +1,15 @@
 package org.bytestreamparser.iso8583.util;
 
+import java.nio.charset.Charset;
+import java.util.function.IntUnaryOperator;
 import org.bytestreamparser.api.parser.DataParser;
-import org.bytestreamparser.composite.parser.VariableLengthParser;
 import org.bytestreamparser.iso8583.data.ExtendableBitmap;
 import org.bytestreamparser.iso8583.data.FixedBitmap;
 import org.bytestreamparser.iso8583.parser.ExtendableBitmapParser;
 import org.bytestreamparser.iso8583.parser.FixedBitmapParser;
+import org.bytestreamparser.iso8583.parser.HexExtendableBitmapParser;
+import org.bytestreamparser.iso8583.parser.HexFixedBitmapParser;
+import org.bytestreamparser.iso8583.parser.LengthPrefixedParser;
 import org.bytestreamparser.scalar.parser.BinaryParser;
 
 /** Utility class for creating binary data parsers. */
@@ -40,13 +44,24 @@ public final class BinaryParsers {
     return variableLength(id, IntegerParsers.ushort(id));
   }
 
+  /**
+   * Creates a variable length parser where the length is encoded in unsigned short, and values
+   * longer than the given maximum are rejected before they are read.
+   *
+   * @param id the ID of the parser.
+   * @param maxLength the maximum number of bytes of a value.
+   */
+  public static DataParser<byte[]> binaryLLVar(String id, int maxLength) {
+    return variableLength(id, IntegerParsers.ushort(id), maxLength);
+  }
+
   /**
    * Creates a variable length parser where the length is encoded in two digits text.
    *
    * @param id the ID of the parser.
    */
   public static DataParser<byte[]> textLLVar(String id) {
-    return variableLength(id, IntegerParsers.text(id, 2));
+    return variableLength(id, IntegerParsers.textLength(id, 2));
   }
 
   /**
@@ -55,7 +70,7 @@ public final class BinaryParsers {
    * @param id the ID of the parser.
    */
   public static DataParser<byte[]> textLLLVar(String id) {
-    return variableLength(id, IntegerParsers.text(id, 3));
+    return variableLength(id, IntegerParsers.textLength(id, 3));
   }
 
   /**
@@ -65,8 +80,27 @@ public final class BinaryParsers {
    * @param lengthParser the parser for the length.
    */
   public static DataParser<byte[]> variableLength(String id, DataParser<Integer> lengthParser) {
-    return new VariableLengthParser<>(
-        id, lengthParser, length -> fixedLength(id, length), bytes -> bytes.length);
+    return variableLength(id, lengthParser, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Creates a variable length parser using a {@code DataParser<Integer>} parser. Values longer than
+   * the given maximum are rejected before they are read.
+   *
+   * @param id the ID of the parser.
+   * @param lengthParser the parser for the length.
+   * @param maxLength the maximum number of bytes of a value.
+   */
+  public static DataParser<byte[]> variableLength(
+      String id, DataParser<Integer> lengthParser, int maxLength) {
+    return new LengthPrefixedParser<>(
+        id,
+        lengthParser,
+        length -> fixedLength(id, length),
+        bytes -> bytes.length,
+        IntUnaryOperator.identity(),
+        null,
+        maxLength);
   }
 
   /**
@@ -76,6 +110,17 @@ public final class BinaryParsers {
    * @param bytes the number of bytes in the bitmap.
    */
   public static DataParser<FixedBitmap> fixedBitmap(String id, int bytes) {
+    return fixedBitmapParser(id, bytes);
+  }
+
+  /**
+   * Creates a new fixed bitmap parser, typed to expose its {@link java.nio.ByteBuffer} entry
+   * points.
+   *
+   * @param id the ID of the parser.
+   * @param bytes the number of bytes in the bitmap.
+   */
+  public static FixedBitmapParser fixedBitmapParser(String id, int bytes) {
     return new FixedBitmapParser(id, bytes);
   }
 
@@ -86,6 +131,54 @@ public final class BinaryParsers {
    * @param bytes the number of bytes per bitmap.
    */
   public static DataParser<ExtendableBitmap> extendableBitmap(String id, int bytes) {
+    return extendableBitmapParser(id, bytes);
+  }
+
+  /**
+   * Creates a new extendable bitmap parser, typed to expose its {@link java.nio.ByteBuffer} entry
+   * points and to be used by an {@link org.bytestreamparser.iso8583.parser.IsoMessageParser}.
+   *
+   * @param id the ID of the parser.
+   * @param bytes the number of bytes per bitmap.
+   */
+  public static ExtendableBitmapParser extendableBitmapParser(String id, int bytes) {
     return new ExtendableBitmapParser(id, bytes);
   }
+
+  /**
+   * Creates a new fixed bitmap parser for bitmaps encoded as hex text.
+   *
+   * @param id the ID of the parser.
+   * @param bytes the number of bytes in the bitmap, i.e. half the number of characters.
+   * @param charset the single-byte charset of the hex text, e.g. ASCII or EBCDIC.
+   */
+  public static FixedBitmapParser hexFixedBitmap(String id, int bytes, Charset charset) {
+    return new HexFixedBitmapParser(id, bytes, charset);
+  }
+
+  /**
+   * Creates a new extendable bitmap parser for bitmaps encoded as hex text.
+   *
+   * @param id the ID of the parser.
+   * @param bytes the number of bytes per bitmap, i.e. half the number of characters.
+   * @param charset the single-byte charset of the hex text, e.g. ASCII or EBCDIC.
+   */
+  public static ExtendableBitmapParser hexExtendableBitmap(String id, int bytes, Charset charset) {
+    return new HexExtendableBitmapParser(id, bytes, charset);
+  }
+
+  /**
+   * Creates a new extendable bitmap parser that reuses one {@link ExtendableBitmap} per thread. The
+   * parsed bitmap is only valid until the next parse on the same thread, so it must not be retained.
+   * {@link org.bytestreamparser.iso8583.parser.IsoMessageParser#parseLazy(byte[], int, int)}, which
+   * keeps the bitmap in the message, always parses into a bitmap of its own.
+   *
+   * @param id the ID of the parser.
+   * @param bytes the number of bytes per bitmap.
+   */
+  public static ExtendableBitmapParser recyclingExtendableBitmap(String id, int bytes) {
+    ThreadLocal<ExtendableBitmap> bitmaps =
+        ThreadLocal.withInitial(() -> new ExtendableBitmap(bytes));
+    return new ExtendableBitmapParser(id, bytes, bitmaps::get);
+  }
 }
@@ -2,6 +2,11 @@ package org.bytestreamparser.iso8583.util;
 
 import java.nio.charset.Charset;
 import org.bytestreamparser.api.parser.DataParser;
+import org.bytestreamparser.iso8583.parser.BcdIntegerParser;
+import org.bytestreamparser.iso8583.parser.BcdPadding;
+import org.bytestreamparser.iso8583.parser.LengthParser;
+import org.bytestreamparser.iso8583.parser.SingleByteCharset;
+import org.bytestreamparser.iso8583.parser.TextIntegerParser;
 import org.bytestreamparser.scalar.parser.StringIntegerParser;
 import org.bytestreamparser.scalar.parser.UnsignedByteParser;
 import org.bytestreamparser.scalar.parser.UnsignedShortParser;
@@ -48,10 +53,25 @@ public final class IntegerParsers {
    * @param charset the charset of the text.
    */
   public static DataParser<Integer> text(String id, int length, int radix, Charset charset) {
+    if (radix == 10 && StringParsers.encodesDecimalAsSingleBytes(charset)) {
+      return new TextIntegerParser(id, length, charset);
+    }
     return new StringIntegerParser(
         id, StringParsers.fixedLength(id, length, charset), length, radix);
   }
 
+  /**
+   * Creates a new decimal text parser for parsing an {@link Integer} in a single-byte charset. The
+   * digits are decoded straight into an {@code int} through lookup tables.
+   *
+   * @param id the ID of the parser.
+   * @param length the length of the text.
+   * @param charset the charset of the text.
+   */
+  public static DataParser<Integer> text(String id, int length, SingleByteCharset charset) {
+    return new TextIntegerParser(id, length, charset.charset());
+  }
+
   /**
    * Creates a new BCD parser for parsing an {@link Integer}.
    *
@@ -60,6 +80,63 @@ public final class IntegerParsers {
    * @see <a href="https://en.wikipedia.org/wiki/Binary-coded_decimal">Binary Coded Decimal</a>
    */
   public static DataParser<Integer> bcd(String id, int length) {
-    return new StringIntegerParser(id, StringParsers.fixedLengthBcd(id, length), length, 10);
+    return new BcdIntegerParser(id, length);
+  }
+
+  /**
+   * Creates a new BCD parser for parsing an {@link Integer}.
+   *
+   * @param id the ID of the parser.
+   * @param length the number of digits in the BCD.
+   * @param padding the position of the padding nibble of an odd number of digits.
+   * @see <a href="https://en.wikipedia.org/wiki/Binary-coded_decimal">Binary Coded Decimal</a>
+   */
+  public static DataParser<Integer> bcd(String id, int length, BcdPadding padding) {
+    return new BcdIntegerParser(id, length, padding);
+  }
+
+  /**
+   * Creates a new parser for a decimal length prefix encoded as text, e.g. of an LLVAR or LLLVAR
+   * field. The charset of the text is the {@link Charset#defaultCharset()}.
+   *
+   * @param id the ID of the parser.
+   * @param digits the number of digits.
+   */
+  public static LengthParser textLength(String id, int digits) {
+    return textLength(id, digits, Charset.defaultCharset());
+  }
+
+  /**
+   * Creates a new parser for a decimal length prefix encoded as text, e.g. of an LLVAR or LLLVAR
+   * field.
+   *
+   * @param id the ID of the parser.
+   * @param digits the number of digits.
+   * @param charset the charset of the text. It must encode each digit as a single byte.
+   */
+  public static LengthParser textLength(String id, int digits, Charset charset) {
+    return LengthParser.text(id, digits, charset);
+  }
+
+  /**
+   * Creates a new parser for a decimal length prefix encoded as text in a single-byte charset.
+   *
+   * @param id the ID of the parser.
+   * @param digits the number of digits.
+   * @param charset the charset of the text.
+   */
+  public static LengthParser textLength(String id, int digits, SingleByteCharset charset) {
+    return LengthParser.text(id, digits, charset.charset());
+  }
+
+  /**
+   * Creates a new parser for a decimal length prefix encoded as BCD.
+   *
+   * @param id the ID of the parser.
+   * @param digits the number of digits.
+   * @see <a href="https://en.wikipedia.org/wiki/Binary-coded_decimal">Binary Coded Decimal</a>
+   */
+  public static LengthParser bcdLength(String id, int digits) {
+    return LengthParser.bcd(id, digits);
   }
 }
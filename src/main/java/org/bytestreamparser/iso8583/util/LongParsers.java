@@ -2,6 +2,10 @@ package org.bytestreamparser.iso8583.util;
 
 import java.nio.charset.Charset;
 import org.bytestreamparser.api.parser.DataParser;
+import org.bytestreamparser.iso8583.parser.BcdLongParser;
+import org.bytestreamparser.iso8583.parser.BcdPadding;
+import org.bytestreamparser.iso8583.parser.SingleByteCharset;
+import org.bytestreamparser.iso8583.parser.TextLongParser;
 import org.bytestreamparser.scalar.parser.StringLongParser;
 
 /** A utility class for creating {@link Long} parsers. */
@@ -28,9 +32,24 @@ public final class LongParsers {
    * @param charset the charset of the text.
    */
   public static DataParser<Long> text(String id, int length, int radix, Charset charset) {
+    if (radix == 10 && StringParsers.encodesDecimalAsSingleBytes(charset)) {
+      return new TextLongParser(id, length, charset);
+    }
     return new StringLongParser(id, StringParsers.fixedLength(id, length, charset), length, radix);
   }
 
+  /**
+   * Creates a new decimal text parser for parsing a {@link Long} in a single-byte charset. The
+   * digits are decoded straight into a {@code long} through lookup tables.
+   *
+   * @param id the ID of the parser.
+   * @param length the length of the text.
+   * @param charset the charset of the text.
+   */
+  public static DataParser<Long> text(String id, int length, SingleByteCharset charset) {
+    return new TextLongParser(id, length, charset.charset());
+  }
+
   /**
    * Creates a new BCD parser for parsing a {@link Long}.
    *
@@ -39,6 +58,18 @@ public final class LongParsers {
    * @see <a href="https://en.wikipedia.org/wiki/Binary-coded_decimal">Binary Coded Decimal</a>
    */
   public static DataParser<Long> bcd(String id, int length) {
-    return new StringLongParser(id, StringParsers.fixedLengthBcd(id, length), length, 10);
+    return new BcdLongParser(id, length);
+  }
+
+  /**
+   * Creates a new BCD parser for parsing a {@link Long}.
+   *
+   * @param id the ID of the parser.
+   * @param length the number of digits in the BCD.
+   * @param padding the position of the padding nibble of an odd number of digits.
+   * @see <a href="https://en.wikipedia.org/wiki/Binary-coded_decimal">Binary Coded Decimal</a>
+   */
+  public static DataParser<Long> bcd(String id, int length, BcdPadding padding) {
+    return new BcdLongParser(id, length, padding);
   }
 }
@@ -1,9 +1,15 @@
 package org.bytestreamparser.iso8583.util;
 
 import java.nio.charset.Charset;
+import java.util.function.IntUnaryOperator;
 import org.bytestreamparser.api.parser.DataParser;
-import org.bytestreamparser.composite.parser.VariableLengthParser;
-import org.bytestreamparser.scalar.parser.BcdStringParser;
+import org.bytestreamparser.iso8583.parser.BcdDigitsParser;
+import org.bytestreamparser.iso8583.parser.BcdPadding;
+import org.bytestreamparser.iso8583.parser.InterningStringParser;
+import org.bytestreamparser.iso8583.parser.LengthPrefixedParser;
+import org.bytestreamparser.iso8583.parser.SingleByteCharset;
+import org.bytestreamparser.iso8583.parser.SingleByteStringParser;
+import org.bytestreamparser.iso8583.parser.StringInterner;
 import org.bytestreamparser.scalar.parser.CharStringParser;
 import org.bytestreamparser.scalar.parser.HexStringParser;
 
@@ -33,6 +39,30 @@ public final class StringParsers {
     return new CharStringParser(id, length, charset);
   }
 
+  /**
+   * Creates a new fixed length {@link String} parser that decodes and encodes through the
+   * precomputed tables of a single-byte charset.
+   *
+   * @param id the ID of the parser.
+   * @param length the number of characters in the string.
+   * @param charset the charset of the string.
+   */
+  public static DataParser<String> fixedLength(String id, int length, SingleByteCharset charset) {
+    return new SingleByteStringParser(id, length, charset);
+  }
+
+  /**
+   * Creates a new fixed length {@link String} parser that shares the parsed values through the
+   * given interner. It suits fields with few distinct values, such as currency or response codes.
+   *
+   * @param id the ID of the parser.
+   * @param length the number of characters in the string.
+   * @param interner the interner of the values. Its charset is the charset of the string.
+   */
+  public static DataParser<String> fixedLength(String id, int length, StringInterner interner) {
+    return new InterningStringParser(id, length, interner);
+  }
+
   /**
    * Creates a variable length parser where the length is encoded in a single unsigned byte.
    *
@@ -53,6 +83,18 @@ public final class StringParsers {
     return variableLength(id, IntegerParsers.ushort(id), charset);
   }
 
+  /**
+   * Creates a variable length parser where the length is encoded in unsigned short, and values
+   * longer than the given maximum are rejected before they are read.
+   *
+   * @param id the ID of the parser.
+   * @param charset the charset of the text.
+   * @param maxLength the maximum number of characters of a value.
+   */
+  public static DataParser<String> binaryLLVar(String id, Charset charset, int maxLength) {
+    return variableLength(id, IntegerParsers.ushort(id), charset, maxLength);
+  }
+
   /**
    * Creates a variable length parser where the length is encoded in two digits text. The charset of
    * the text is the {@link Charset#defaultCharset()}.
@@ -60,7 +102,7 @@ public final class StringParsers {
    * @param id the ID of the parser.
    */
   public static DataParser<String> textLLVar(String id) {
-    return variableLength(id, IntegerParsers.text(id, 2), Charset.defaultCharset());
+    return variableLength(id, IntegerParsers.textLength(id, 2), Charset.defaultCharset());
   }
 
   /**
@@ -70,11 +112,13 @@ public final class StringParsers {
    * @param id the ID of the parser.
    */
   public static DataParser<String> textLLLVar(String id) {
-    return variableLength(id, IntegerParsers.text(id, 3), Charset.defaultCharset());
+    return variableLength(id, IntegerParsers.textLength(id, 3), Charset.defaultCharset());
   }
 
   /**
-   * Creates a variable length parser using a {@code DataParser<Integer>} parser.
+   * Creates a variable length parser using a {@code DataParser<Integer>} parser. The length is the
+   * number of bytes of the encoded text in a single-byte charset, or of code points otherwise, and the
+   * text is encoded once on pack.
    *
    * @param id the ID of the parser.
    * @param lengthParser the parser for the length.
@@ -82,11 +126,68 @@ public final class StringParsers {
    */
   public static DataParser<String> variableLength(
       String id, DataParser<Integer> lengthParser, Charset charset) {
-    return new VariableLengthParser<>(
+    return variableLength(id, lengthParser, charset, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Creates a variable length parser using a {@code DataParser<Integer>} parser. The length is the
+   * number of bytes of the encoded text in a single-byte charset, or of code points otherwise, and
+   * values longer than the given maximum are rejected before they are read.
+   *
+   * @param id the ID of the parser.
+   * @param lengthParser the parser for the length.
+   * @param charset the charset of the text.
+   * @param maxLength the maximum number of characters of a value.
+   */
+  public static DataParser<String> variableLength(
+      String id, DataParser<Integer> lengthParser, Charset charset, int maxLength) {
+    boolean singleByte = isSingleByte(charset);
+    return new LengthPrefixedParser<>(
         id,
         lengthParser,
         length -> fixedLength(id, length, charset),
-        string -> (int) string.codePoints().count());
+        singleByte ? null : StringParsers::codePoints,
+        singleByte ? IntUnaryOperator.identity() : null,
+        string -> string.getBytes(charset),
+        maxLength);
+  }
+
+  /**
+   * Creates a variable length parser using a {@code DataParser<Integer>} parser. The text
+   * decodes and encodes through the precomputed tables of a single-byte charset.
+   *
+   * @param id the ID of the parser.
+   * @param lengthParser the parser for the length.
+   * @param charset the charset of the text.
+   */
+  public static DataParser<String> variableLength(
+      String id, DataParser<Integer> lengthParser, SingleByteCharset charset) {
+    return new LengthPrefixedParser<>(
+        id,
+        lengthParser,
+        length -> fixedLength(id, length, charset),
+        null,
+        IntUnaryOperator.identity(),
+        string -> encode(string, charset));
+  }
+
+  /**
+   * Creates a variable length parser using a {@code DataParser<Integer>} parser. The text is
+   * shared through the given interner.
+   *
+   * @param id the ID of the parser.
+   * @param lengthParser the parser for the length.
+   * @param interner the interner of the values. Its charset is the charset of the text.
+   */
+  public static DataParser<String> variableLength(
+      String id, DataParser<Integer> lengthParser, StringInterner interner) {
+    return new LengthPrefixedParser<>(
+        id,
+        lengthParser,
+        length -> fixedLength(id, length, interner),
+        null,
+        IntUnaryOperator.identity(),
+        string -> encode(string, interner.charset()));
   }
 
   /**
@@ -107,7 +208,19 @@ public final class StringParsers {
    * @see <a href="https://en.wikipedia.org/wiki/Binary-coded_decimal">Binary Coded Decimal</a>
    */
   public static DataParser<String> fixedLengthBcd(String id, int length) {
-    return new BcdStringParser(id, length);
+    return new BcdDigitsParser(id, length);
+  }
+
+  /**
+   * Creates a new fixed length BCD {@link String} parser.
+   *
+   * @param id the ID of the parser.
+   * @param length the number of characters in the string.
+   * @param padding the position of the padding nibble of an odd number of characters.
+   * @see <a href="https://en.wikipedia.org/wiki/Binary-coded_decimal">Binary Coded Decimal</a>
+   */
+  public static DataParser<String> fixedLengthBcd(String id, int length, BcdPadding padding) {
+    return new BcdDigitsParser(id, length, padding);
   }
 
   /**
@@ -118,10 +231,29 @@ public final class StringParsers {
    * @see <a href="https://en.wikipedia.org/wiki/Binary-coded_decimal">Binary Coded Decimal</a>
    */
   public static DataParser<String> binaryLVarBcd(String id) {
-    return new VariableLengthParser<>(
+    return new LengthPrefixedParser<>(
         id,
         IntegerParsers.ubyte(id),
         length -> fixedLengthBcd(id, length),
-        string -> (int) string.codePoints().count());
+        String::length,
+        digits -> (digits + 1) / 2);
+  }
+
+  static boolean encodesDecimalAsSingleBytes(Charset charset) {
+    return "0123456789-+".getBytes(charset).length == 12;
+  }
+
+  private static int codePoints(String value) {
+    return value.codePointCount(0, value.length());
+  }
+
+  private static byte[] encode(String value, SingleByteCharset charset) {
+    byte[] encoded = new byte[value.length()];
+    charset.encode(value, encoded, 0);
+    return encoded;
+  }
+
+  private static boolean isSingleByte(Charset charset) {
+    return charset.canEncode() && charset.newEncoder().maxBytesPerChar() == 1.0f;
   }
 }
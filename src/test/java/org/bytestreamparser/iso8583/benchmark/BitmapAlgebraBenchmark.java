@@ -0,0 +1,96 @@
+package org.bytestreamparser.iso8583.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+import org.bytestreamparser.iso8583.data.ExtendableBitmap;
+import org.bytestreamparser.iso8583.data.FixedBitmap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares validating a message bitmap against mandatory and forbidden field masks one bit at a
+ * time with the word-wise bulk operations.
+ *
+ * <p>Benchmarks are compiled with the tests and can be run with:
+ *
+ * <pre>{@code
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/classpath.txt
+ * java -cp target/test-classes:target/classes:$(cat target/classpath.txt) \
+ *     org.openjdk.jmh.Main BitmapAlgebraBenchmark -prof gc
+ * }</pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BitmapAlgebraBenchmark {
+  @Param({"8", "30"})
+  private int mandatoryFields;
+
+  private ExtendableBitmap bitmap;
+  private FixedBitmap mandatory;
+  private FixedBitmap forbidden;
+  private int[] mandatoryBits;
+  private int[] forbiddenBits;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    bitmap = new ExtendableBitmap(8).addExtensions(List.of(new FixedBitmap(8), new FixedBitmap(8)));
+    mandatory = new FixedBitmap(16);
+    forbidden = new FixedBitmap(16);
+    RandomGenerator random = RandomGenerator.getDefault();
+    while (mandatory.cardinality() < mandatoryFields) {
+      int bit = random.nextInt(2, bitmap.capacity() + 1);
+      if (bit != 65) {
+        mandatory.set(bit);
+        bitmap.set(bit);
+      }
+    }
+    while (forbidden.cardinality() < 8) {
+      int bit = random.nextInt(2, bitmap.capacity() + 1);
+      if (bit != 65 && !bitmap.get(bit)) {
+        forbidden.set(bit);
+      }
+    }
+    mandatoryBits = mandatory.stream().toArray();
+    forbiddenBits = forbidden.stream().toArray();
+  }
+
+  @Benchmark
+  public boolean perBit() {
+    for (int bit : mandatoryBits) {
+      if (!bitmap.get(bit)) {
+        return false;
+      }
+    }
+    for (int bit : forbiddenBits) {
+      if (bitmap.get(bit)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Benchmark
+  public boolean bulk() {
+    return bitmap.containsAll(mandatory) && !bitmap.intersects(forbidden);
+  }
+
+  @Benchmark
+  public int firstMissing() {
+    return bitmap.firstMissing(mandatory);
+  }
+}
@@ -0,0 +1,85 @@
+package org.bytestreamparser.iso8583.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
+import org.bytestreamparser.iso8583.data.BitmapCursor;
+import org.bytestreamparser.iso8583.data.ExtendableBitmap;
+import org.bytestreamparser.iso8583.data.FixedBitmap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares {@link ExtendableBitmap#stream()} with the allocation-free iteration methods.
+ *
+ * <p>Benchmarks are compiled with the tests and can be run with:
+ *
+ * <pre>{@code
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/classpath.txt
+ * java -cp target/test-classes:target/classes:$(cat target/classpath.txt) \
+ *     org.openjdk.jmh.Main BitmapIterationBenchmark -prof gc
+ * }</pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BitmapIterationBenchmark {
+  @Param({"8", "30", "60"})
+  private int fields;
+
+  private ExtendableBitmap bitmap;
+  private BitmapCursor cursor;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    bitmap = new ExtendableBitmap(8).addExtensions(List.of(new FixedBitmap(8), new FixedBitmap(8)));
+    RandomGenerator random = RandomGenerator.getDefault();
+    while (bitmap.cardinality() < fields) {
+      bitmap.set(random.nextInt(2, bitmap.capacity() + 1));
+    }
+    cursor = new BitmapCursor();
+  }
+
+  @Benchmark
+  public int stream() {
+    return bitmap.stream().sum();
+  }
+
+  @Benchmark
+  public void forEachSetBit(Blackhole blackhole) {
+    bitmap.forEachSetBit(blackhole::consume);
+  }
+
+  @Benchmark
+  public int nextSetBit() {
+    int sum = 0;
+    for (int bit = bitmap.nextSetBit(1); bit > 0; bit = bitmap.nextSetBit(bit + 1)) {
+      sum += bit;
+    }
+    return sum;
+  }
+
+  @Benchmark
+  public int cursor() {
+    int sum = 0;
+    cursor.reset(bitmap);
+    while (cursor.hasNext()) {
+      sum += cursor.nextInt();
+    }
+    return sum;
+  }
+}
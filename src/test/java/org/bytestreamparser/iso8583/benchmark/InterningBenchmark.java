@@ -0,0 +1,79 @@
+package org.bytestreamparser.iso8583.benchmark;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.bytestreamparser.api.parser.DataParser;
+import org.bytestreamparser.iso8583.parser.SingleByteCharset;
+import org.bytestreamparser.iso8583.parser.StringInterner;
+import org.bytestreamparser.iso8583.util.StringParsers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares parsing low-cardinality fields, a currency code, a merchant category code and a response
+ * code, with and without a {@link StringInterner}. Run it with {@code -prof gc} to see the
+ * allocation rate per operation.
+ *
+ * <p>Benchmarks are compiled with the tests and can be run with:
+ *
+ * <pre>{@code
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/classpath.txt
+ * java -cp target/test-classes:target/classes:$(cat target/classpath.txt) \
+ *     org.openjdk.jmh.Main InterningBenchmark -prof gc
+ * }</pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InterningBenchmark {
+  private static final byte[] FIELDS = "840541100".getBytes(US_ASCII);
+
+  private DataParser<String> currency;
+  private DataParser<String> category;
+  private DataParser<String> response;
+  private DataParser<String> internedCurrency;
+  private DataParser<String> internedCategory;
+  private DataParser<String> internedResponse;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    currency = StringParsers.fixedLength("49", 3, SingleByteCharset.ASCII);
+    category = StringParsers.fixedLength("18", 4, SingleByteCharset.ASCII);
+    response = StringParsers.fixedLength("39", 2, SingleByteCharset.ASCII);
+    StringInterner interner = new StringInterner(SingleByteCharset.ASCII, 1024);
+    internedCurrency = StringParsers.fixedLength("49", 3, interner);
+    internedCategory = StringParsers.fixedLength("18", 4, interner);
+    internedResponse = StringParsers.fixedLength("39", 2, interner);
+  }
+
+  @Benchmark
+  public int parse() throws IOException {
+    ByteArrayInputStream input = new ByteArrayInputStream(FIELDS);
+    return currency.parse(input).length()
+        + category.parse(input).length()
+        + response.parse(input).length();
+  }
+
+  @Benchmark
+  public int parseInterned() throws IOException {
+    ByteArrayInputStream input = new ByteArrayInputStream(FIELDS);
+    return internedCurrency.parse(input).length()
+        + internedCategory.parse(input).length()
+        + internedResponse.parse(input).length();
+  }
+}
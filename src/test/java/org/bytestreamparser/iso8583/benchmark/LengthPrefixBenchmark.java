@@ -0,0 +1,80 @@
+package org.bytestreamparser.iso8583.benchmark;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.bytestreamparser.api.parser.DataParser;
+import org.bytestreamparser.iso8583.parser.LengthParser;
+import org.bytestreamparser.iso8583.parser.LengthPrefixedParser;
+import org.bytestreamparser.iso8583.util.BinaryParsers;
+import org.bytestreamparser.iso8583.util.IntegerParsers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares decoding a three digit LLLVAR length prefix through {@link IntegerParsers#text(String,
+ * int, int, java.nio.charset.Charset)} with the dedicated {@link LengthParser}, and parsing a
+ * whole LLLVAR field through the {@link LengthPrefixedParser} built by {@link
+ * BinaryParsers#textLLLVar(String)}.
+ *
+ * <p>Benchmarks are compiled with the tests and can be run with:
+ *
+ * <pre>{@code
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/classpath.txt
+ * java -cp target/test-classes:target/classes:$(cat target/classpath.txt) \
+ *     org.openjdk.jmh.Main LengthPrefixBenchmark -prof gc
+ * }</pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LengthPrefixBenchmark {
+  private DataParser<Integer> text;
+  private LengthParser length;
+  private DataParser<byte[]> field;
+  private ByteArrayInputStream input;
+  private ByteArrayInputStream fieldInput;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    text = IntegerParsers.text("length", 3, 10, US_ASCII);
+    length = IntegerParsers.textLength("length", 3, US_ASCII);
+    field = BinaryParsers.textLLLVar("field");
+    input = new ByteArrayInputStream("128".getBytes(US_ASCII));
+    byte[] encoded = new byte[131];
+    System.arraycopy("128".getBytes(US_ASCII), 0, encoded, 0, 3);
+    fieldInput = new ByteArrayInputStream(encoded);
+  }
+
+  @Benchmark
+  public Integer text() throws IOException {
+    input.reset();
+    return text.parse(input);
+  }
+
+  @Benchmark
+  public int lengthParser() throws IOException {
+    input.reset();
+    return length.parseInt(input);
+  }
+
+  @Benchmark
+  public byte[] field() throws IOException {
+    fieldInput.reset();
+    return field.parse(fieldInput);
+  }
+}
@@ -0,0 +1,131 @@
+package org.bytestreamparser.iso8583.benchmark;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.bytestreamparser.iso8583.data.ArrayIsoMessage;
+import org.bytestreamparser.iso8583.parser.BcdIntegerParser;
+import org.bytestreamparser.iso8583.parser.BcdLongParser;
+import org.bytestreamparser.iso8583.parser.IsoFieldParser;
+import org.bytestreamparser.iso8583.parser.IsoMessageParser;
+import org.bytestreamparser.iso8583.parser.TextIntegerParser;
+import org.bytestreamparser.iso8583.parser.TextLongParser;
+import org.bytestreamparser.iso8583.util.BinaryParsers;
+import org.bytestreamparser.scalar.parser.BcdStringParser;
+import org.bytestreamparser.scalar.parser.CharStringParser;
+import org.bytestreamparser.scalar.parser.StringIntegerParser;
+import org.bytestreamparser.scalar.parser.StringLongParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares parsing the numeric fields of a message through the {@link String} based parsers, which
+ * box every value, with the primitive parsers storing into the primitive slots of an {@link
+ * ArrayIsoMessage}. Both parse into a reused message, so the difference is the cost of the values.
+ *
+ * <p>Benchmarks are compiled with the tests and can be run with:
+ *
+ * <pre>{@code
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/classpath.txt
+ * java -cp target/test-classes:target/classes:$(cat target/classpath.txt) \
+ *     org.openjdk.jmh.Main PrimitiveFieldBenchmark -prof gc
+ * }</pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimitiveFieldBenchmark {
+  private IsoMessageParser<ArrayIsoMessage> boxed;
+  private IsoMessageParser<ArrayIsoMessage> primitive;
+  private byte[] frame;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    ArrayIsoMessage message = new ArrayIsoMessage();
+    boxed =
+        new IsoMessageParser<>(
+            "message",
+            reusing(message),
+            BinaryParsers.extendableBitmapParser("bitmap", 8),
+            List.of(
+                new IsoFieldParser<>(3, text(3, 6), 6),
+                new IsoFieldParser<>(4, new StringLongParser("4", chars(4, 12), 12, 10), 12),
+                new IsoFieldParser<>(
+                    7, new StringLongParser("7", new BcdStringParser("7", 10), 10, 10), 5),
+                new IsoFieldParser<>(11, bcd(11, 6), 3),
+                new IsoFieldParser<>(12, bcd(12, 6), 3),
+                new IsoFieldParser<>(13, bcd(13, 4), 2),
+                new IsoFieldParser<>(49, text(49, 3), 3)));
+    primitive =
+        new IsoMessageParser<>(
+            "message",
+            reusing(message),
+            BinaryParsers.extendableBitmapParser("bitmap", 8),
+            List.of(
+                new IsoFieldParser<>(3, new TextIntegerParser("3", 6, US_ASCII), 6),
+                new IsoFieldParser<>(4, new TextLongParser("4", 12, US_ASCII), 12),
+                new IsoFieldParser<>(7, new BcdLongParser("7", 10), 5),
+                new IsoFieldParser<>(11, new BcdIntegerParser("11", 6), 3),
+                new IsoFieldParser<>(12, new BcdIntegerParser("12", 6), 3),
+                new IsoFieldParser<>(13, new BcdIntegerParser("13", 4), 2),
+                new IsoFieldParser<>(49, new TextIntegerParser("49", 3, US_ASCII), 3)));
+    message
+        .setInt(3, 3000)
+        .setLong(4, 150_000L)
+        .setLong(7, 1_018_120_000L)
+        .setInt(11, 123_456)
+        .setInt(12, 120_000)
+        .setInt(13, 1018)
+        .setInt(49, 978);
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    primitive.pack(message, output);
+    frame = output.toByteArray();
+  }
+
+  @Benchmark
+  public ArrayIsoMessage boxed() throws IOException {
+    return boxed.parse(new ByteArrayInputStream(frame));
+  }
+
+  @Benchmark
+  public ArrayIsoMessage primitive() throws IOException {
+    return primitive.parse(new ByteArrayInputStream(frame));
+  }
+
+  private static Supplier<ArrayIsoMessage> reusing(ArrayIsoMessage message) {
+    return () -> {
+      message.reset();
+      return message;
+    };
+  }
+
+  private static CharStringParser chars(int field, int length) {
+    return new CharStringParser(String.valueOf(field), length, US_ASCII);
+  }
+
+  private static StringIntegerParser text(int field, int length) {
+    return new StringIntegerParser(String.valueOf(field), chars(field, length), length, 10);
+  }
+
+  private static StringIntegerParser bcd(int field, int digits) {
+    return new StringIntegerParser(
+        String.valueOf(field), new BcdStringParser(String.valueOf(field), digits), digits, 10);
+  }
+}
@@ -0,0 +1,107 @@
+package org.bytestreamparser.iso8583.benchmark;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.bytestreamparser.iso8583.data.ArrayIsoMessage;
+import org.bytestreamparser.iso8583.data.FixedBitmap;
+import org.bytestreamparser.iso8583.parser.IsoFieldParser;
+import org.bytestreamparser.iso8583.parser.IsoMessageParser;
+import org.bytestreamparser.iso8583.util.BinaryParsers;
+import org.bytestreamparser.iso8583.util.IntegerParsers;
+import org.bytestreamparser.iso8583.util.StringParsers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares a full parse of a typical authorisation request with a projected parse of the fields
+ * needed for routing: DE 2, 3, 4, 11, 32, 37 and 41.
+ *
+ * <p>Benchmarks are compiled with the tests and can be run with:
+ *
+ * <pre>{@code
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/classpath.txt
+ * java -cp target/test-classes:target/classes:$(cat target/classpath.txt) \
+ *     org.openjdk.jmh.Main ProjectionBenchmark -prof gc
+ * }</pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProjectionBenchmark {
+  private static final int[][] FIXED = {
+    {3, 6}, {4, 12}, {7, 10}, {11, 6}, {12, 6}, {13, 4}, {14, 4}, {18, 4}, {22, 3}, {25, 2},
+    {37, 12}, {41, 8}, {42, 15}, {43, 40}, {49, 3}, {90, 42}
+  };
+
+  private IsoMessageParser<ArrayIsoMessage> parser;
+  private FixedBitmap projection;
+  private byte[] frame;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    List<IsoFieldParser<ArrayIsoMessage, ?>> fields = new ArrayList<>();
+    ArrayIsoMessage message = new ArrayIsoMessage();
+    fields.add(new IsoFieldParser<>(0, StringParsers.fixedLength("0", 4, US_ASCII), 4));
+    message.set(0, "0100");
+    for (int[] field : FIXED) {
+      String id = String.valueOf(field[0]);
+      fields.add(
+          new IsoFieldParser<>(
+              field[0], StringParsers.fixedLength(id, field[1], US_ASCII), field[1]));
+      message.set(field[0], "7".repeat(field[1]));
+    }
+    for (int field : new int[] {2, 32, 35}) {
+      String id = String.valueOf(field);
+      fields.add(
+          new IsoFieldParser<>(
+              field, StringParsers.variableLength(id, IntegerParsers.text(id, 2), US_ASCII)));
+    }
+    message.set(2, "4111111111111111");
+    message.set(32, "123456");
+    message.set(35, "4111111111111111=2512101000000000000");
+    fields.add(
+        new IsoFieldParser<>(55, BinaryParsers.variableLength("55", IntegerParsers.text("55", 3))));
+    message.set(55, new byte[200]);
+    parser =
+        new IsoMessageParser<>(
+            "message",
+            ArrayIsoMessage::new,
+            BinaryParsers.extendableBitmapParser("bitmap", 8),
+            fields);
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    parser.pack(message, output);
+    frame = output.toByteArray();
+    projection = new FixedBitmap(8);
+    for (int field : new int[] {2, 3, 4, 11, 32, 37, 41}) {
+      projection.set(field);
+    }
+  }
+
+  @Benchmark
+  public ArrayIsoMessage full() throws IOException {
+    return parser.parse(new ByteArrayInputStream(frame));
+  }
+
+  @Benchmark
+  public ArrayIsoMessage projected() throws IOException {
+    return parser.parse(new ByteArrayInputStream(frame), projection);
+  }
+}
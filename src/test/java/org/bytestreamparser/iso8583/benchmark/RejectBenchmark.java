@@ -0,0 +1,102 @@
+package org.bytestreamparser.iso8583.benchmark;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.bytestreamparser.iso8583.data.ArrayIsoMessage;
+import org.bytestreamparser.iso8583.parser.DecodeResult;
+import org.bytestreamparser.iso8583.parser.IsoFieldParser;
+import org.bytestreamparser.iso8583.parser.IsoMessageParser;
+import org.bytestreamparser.iso8583.parser.SingleByteCharset;
+import org.bytestreamparser.iso8583.util.BinaryParsers;
+import org.bytestreamparser.iso8583.util.IntegerParsers;
+import org.bytestreamparser.iso8583.util.LongParsers;
+import org.bytestreamparser.iso8583.util.StringParsers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares rejecting a truncated frame by catching the exception thrown by {@link
+ * IsoMessageParser#parse(java.io.InputStream)} with the status returned by {@link
+ * IsoMessageParser#decode}.
+ *
+ * <p>Benchmarks are compiled with the tests and can be run with:
+ *
+ * <pre>{@code
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/classpath.txt
+ * java -cp target/test-classes:target/classes:$(cat target/classpath.txt) \
+ *     org.openjdk.jmh.Main RejectBenchmark -prof gc
+ * }</pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RejectBenchmark {
+  private static final String MESSAGE =
+      "0200"
+          + "\u0070\u0020\u0000\u0000\u0000\u0000\u0080\u0000"
+          + "164111111111111111"
+          + "000000"
+          + "000000001000"
+          + "000123"
+          + "840";
+
+  private IsoMessageParser<ArrayIsoMessage> parser;
+  private DecodeResult<ArrayIsoMessage> result;
+  private byte[] frame;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    SingleByteCharset ascii = SingleByteCharset.ASCII;
+    List<IsoFieldParser<ArrayIsoMessage, ?>> fields =
+        List.of(
+            new IsoFieldParser<>(0, StringParsers.fixedLength("0", 4, ascii)),
+            new IsoFieldParser<>(
+                2,
+                StringParsers.variableLength("2", IntegerParsers.textLength("2", 2, ascii), ascii)),
+            new IsoFieldParser<>(3, StringParsers.fixedLength("3", 6, ascii)),
+            new IsoFieldParser<>(4, LongParsers.text("4", 12, ascii)),
+            new IsoFieldParser<>(11, StringParsers.fixedLength("11", 6, ascii)),
+            new IsoFieldParser<>(49, StringParsers.fixedLength("49", 3, ascii)));
+    parser =
+        new IsoMessageParser<>(
+            "message",
+            ArrayIsoMessage::new,
+            BinaryParsers.extendableBitmapParser("bitmap", 8),
+            fields);
+    result = new DecodeResult<>();
+    byte[] message = MESSAGE.getBytes(ISO_8859_1);
+    frame = Arrays.copyOf(message, message.length - 2);
+  }
+
+  @Benchmark
+  public boolean parseAndCatch() {
+    try {
+      parser.parse(new ByteArrayInputStream(frame));
+      return true;
+    } catch (IOException | RuntimeException e) {
+      return false;
+    }
+  }
+
+  @Benchmark
+  public boolean decode() {
+    return parser.decode(frame, 0, frame.length, result);
+  }
+}
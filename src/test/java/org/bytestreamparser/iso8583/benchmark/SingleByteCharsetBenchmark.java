@@ -0,0 +1,76 @@
+package org.bytestreamparser.iso8583.benchmark;
+
+import java.nio.charset.Charset;
+import java.util.concurrent.TimeUnit;
+import org.bytestreamparser.iso8583.parser.SingleByteCharset;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares decoding and encoding a 40 character field, e.g. the card acceptor name and location,
+ * through the {@link Charset} with the precomputed {@link SingleByteCharset} tables.
+ *
+ * <p>Benchmarks are compiled with the tests and can be run with:
+ *
+ * <pre>{@code
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/classpath.txt
+ * java -cp target/test-classes:target/classes:$(cat target/classpath.txt) \
+ *     org.openjdk.jmh.Main SingleByteCharsetBenchmark -prof gc
+ * }</pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SingleByteCharsetBenchmark {
+  private static final String VALUE = "ACME STORE 042          SPRINGFIELD   US";
+
+  @Param({"US-ASCII", "ISO-8859-1", "IBM037", "IBM1047"})
+  private String charsetName;
+
+  private Charset charset;
+  private SingleByteCharset tables;
+  private byte[] encoded;
+  private byte[] target;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    charset = Charset.forName(charsetName);
+    tables = SingleByteCharset.of(charset);
+    encoded = VALUE.getBytes(charset);
+    target = new byte[encoded.length];
+  }
+
+  @Benchmark
+  public String charsetDecode() {
+    return new String(encoded, 0, encoded.length, charset);
+  }
+
+  @Benchmark
+  public String tableDecode() {
+    return tables.decode(encoded, 0, encoded.length);
+  }
+
+  @Benchmark
+  public byte[] charsetEncode() {
+    return VALUE.getBytes(charset);
+  }
+
+  @Benchmark
+  public byte[] tableEncode() {
+    tables.encode(VALUE, target, 0);
+    return target;
+  }
+}
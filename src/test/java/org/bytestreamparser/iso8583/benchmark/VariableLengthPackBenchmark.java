@@ -0,0 +1,80 @@
+package org.bytestreamparser.iso8583.benchmark;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntUnaryOperator;
+import org.bytestreamparser.api.parser.DataParser;
+import org.bytestreamparser.iso8583.parser.LengthPrefixedParser;
+import org.bytestreamparser.iso8583.util.IntegerParsers;
+import org.bytestreamparser.iso8583.util.StringParsers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares packing an LLLVAR text field when its length is counted with a code point stream and
+ * the value is packed through the parser for its length, with {@link
+ * StringParsers#variableLength(String, DataParser, java.nio.charset.Charset)}, which counts code
+ * points without a stream and encodes the value once.
+ *
+ * <p>Benchmarks are compiled with the tests and can be run with:
+ *
+ * <pre>{@code
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/classpath.txt
+ * java -cp target/test-classes:target/classes:$(cat target/classpath.txt) \
+ *     org.openjdk.jmh.Main VariableLengthPackBenchmark -prof gc
+ * }</pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VariableLengthPackBenchmark {
+  private static final String VALUE =
+      "ACME STORE 042 / 1200 MAIN STREET / SPRINGFIELD / IL / US 62701";
+
+  private DataParser<String> streamed;
+  private DataParser<String> encodedOnce;
+  private ByteArrayOutputStream output;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    streamed =
+        new LengthPrefixedParser<>(
+            "field",
+            IntegerParsers.textLength("field", 3),
+            length -> StringParsers.fixedLength("field", length, ISO_8859_1),
+            string -> (int) string.codePoints().count(),
+            IntUnaryOperator.identity());
+    encodedOnce =
+        StringParsers.variableLength("field", IntegerParsers.textLength("field", 3), ISO_8859_1);
+    output = new ByteArrayOutputStream(VALUE.length() + 3);
+  }
+
+  @Benchmark
+  public int streamed() throws IOException {
+    output.reset();
+    streamed.pack(VALUE, output);
+    return output.size();
+  }
+
+  @Benchmark
+  public int encodedOnce() throws IOException {
+    output.reset();
+    encodedOnce.pack(VALUE, output);
+    return output.size();
+  }
+}
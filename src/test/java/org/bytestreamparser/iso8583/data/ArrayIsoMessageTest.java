@@ -0,0 +1,151 @@
+package org.bytestreamparser.iso8583.data;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.lyang.randomparamsresolver.RandomParametersExtension;
+import io.github.lyang.randomparamsresolver.RandomParametersExtension.Randomize;
+import java.util.Iterator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(RandomParametersExtension.class)
+class ArrayIsoMessageTest {
+  private ArrayIsoMessage message;
+
+  @BeforeEach
+  void setUp() {
+    message = new ArrayIsoMessage();
+  }
+
+  @Test
+  void set_and_get(@Randomize String value) {
+    message.set(0, "0200").set(70, value);
+    assertThat(message.<String>get(0)).isEqualTo("0200");
+    assertThat(message.<String>get(70)).isEqualTo(value);
+    assertThat(message.<String>get("70")).isEqualTo(value);
+    assertThat(message.<String>get(2)).isNull();
+    assertThat(message.hasDataField(0)).isTrue();
+    assertThat(message.hasDataField(70)).isTrue();
+    assertThat(message.hasDataField(2)).isFalse();
+    assertThat(message.hasDataField(129)).isFalse();
+    assertThat(message.hasDataField(-1)).isFalse();
+  }
+
+  @Test
+  void bitmap_in_sync(@Randomize String value) {
+    message.set(0, "0200").set(3, value).set("70", value);
+    assertThat(message.bitmap().stream().toArray()).containsExactly(1, 3, 70);
+
+    message.clear(70);
+    assertThat(message.bitmap().stream().toArray()).containsExactly(3);
+    assertThat(message.bitmap().encodedLength()).isEqualTo(8);
+
+    message.set(3, null).clear("0");
+    assertThat(message.bitmap().cardinality()).isZero();
+    assertThat(message.fields()).isEmpty();
+  }
+
+  @Test
+  void fields_in_order(@Randomize String value) {
+    message.set(128, value).set(2, value).set(0, value).set(65 + 1, value);
+    assertThat(message.fields()).containsExactly("0", "2", "66", "128");
+
+    Iterator<String> iterator = message.fields().iterator();
+    iterator.next();
+    iterator.remove();
+    assertThat(message.hasDataField(0)).isFalse();
+    assertThat(message.fields()).containsExactly("2", "66", "128");
+  }
+
+  @Test
+  void string_keys(@Randomize String value) {
+    message.set("11", value);
+    assertThat(message.hasDataField(11)).isTrue();
+    assertThat(message.fields()).containsExactly("11");
+    assertThat(message.<String>get("011")).isEqualTo(value);
+    assertThat(message.<String>get("x")).isNull();
+    assertThatThrownBy(() -> message.set("x", value))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("invalid field [x]");
+  }
+
+  @Test
+  void invalid_field(@Randomize String value) {
+    assertThatThrownBy(() -> message.set(129, value))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("field should be between 0 and 128, but got [129]");
+    assertThatThrownBy(() -> message.set(65, value))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("field [65] is reserved for the bitmap");
+    assertThatThrownBy(() -> message.get(-1))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("field should be between 0 and 128, but got [-1]");
+  }
+
+  @Test
+  void custom_bitmaps(@Randomize String value) {
+    ArrayIsoMessage tertiary = new ArrayIsoMessage(8, 3).set(192, value);
+    assertThat(tertiary.bitmap().stream().toArray()).containsExactly(1, 65, 192);
+  }
+
+  @Test
+  void reset(@Randomize String value) {
+    message.set(0, value).set(2, value).set(100, value);
+    message.reset();
+    assertThat(message.fields()).isEmpty();
+    assertThat(message.bitmap().cardinality()).isZero();
+    assertThat(message.hasDataField(0)).isFalse();
+  }
+
+  @Test
+  void primitive_slots(@Randomize long amount, @Randomize int stan) {
+    message.setLong(4, amount).setInt(11, stan).set(12, 120000L);
+
+    assertThat(message.getLong(4)).isEqualTo(amount);
+    assertThat(message.getInt(11)).isEqualTo(stan);
+    assertThat(message.getLong(11)).isEqualTo(stan);
+    assertThat(message.getLong(12)).isEqualTo(120000L);
+    assertThat(message.<Long>get(4)).isEqualTo(amount);
+    assertThat(message.<Integer>get("11")).isEqualTo(stan);
+    assertThat(message.hasPrimitive(4)).isTrue();
+    assertThat(message.hasPrimitive(11)).isTrue();
+    assertThat(message.hasPrimitive(12)).isFalse();
+    assertThat(message.hasPrimitive(2)).isFalse();
+    assertThat(message.bitmap().stream().toArray()).containsExactly(4, 11, 12);
+    assertThat(message.fields()).containsExactly("4", "11", "12");
+
+    message.set(4, "replaced");
+    assertThat(message.hasPrimitive(4)).isFalse();
+    assertThat(message.<String>get(4)).isEqualTo("replaced");
+
+    message.clear(11);
+    assertThat(message.hasDataField(11)).isFalse();
+    assertThat(message.bitmap().stream().toArray()).containsExactly(4, 12);
+  }
+
+  @Test
+  void raw_fields(@Randomize String value) {
+    message.set(2, RawField.of(new byte[] {1, 2, 3}, 0, 3)).set(3, value);
+    assertThat(message.isRaw(2)).isTrue();
+    assertThat(message.isRaw(3)).isFalse();
+    assertThat(message.isRaw(4)).isFalse();
+    assertThat(message.isRaw(-1)).isFalse();
+    assertThat(message.isRaw(129)).isFalse();
+  }
+
+  @Test
+  void invalid_primitive(@Randomize String value) {
+    message.set(2, value);
+    assertThatThrownBy(() -> message.getLong(2))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("field [2] is not a number");
+    assertThatThrownBy(() -> message.getInt(3))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("field [3] is absent");
+    assertThatThrownBy(() -> message.setLong(65, 1))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("field [65] is reserved for the bitmap");
+  }
+}
@@ -5,9 +5,21 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.github.lyang.randomparamsresolver.RandomParametersExtension;
 import io.github.lyang.randomparamsresolver.RandomParametersExtension.Randomize;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.IntConsumer;
 import java.util.random.RandomGenerator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 @ExtendWith(RandomParametersExtension.class)
 abstract class BitmapTestBase<T extends Bitmap> {
@@ -122,9 +134,189 @@ abstract class BitmapTestBase<T extends Bitmap> {
     assertThat(bitmap.stream().boxed().toList()).contains(bit);
   }
 
+  @Test
+  void next_set_bit(@Randomize RandomGenerator generator) {
+    int bit = randomDataBit(generator, bitmap);
+    assertThat(bitmap.nextSetBit(1)).isEqualTo(-1);
+
+    bitmap.set(bit);
+    assertThat(bitmap.nextSetBit(bit)).isEqualTo(bit);
+    assertThat(bitmap.nextSetBit(bit + 1)).isEqualTo(-1);
+    assertThat(bitmap.nextSetBit(bitmap.capacity() + 1)).isEqualTo(-1);
+  }
+
+  @Test
+  void next_set_bit_out_of_bounds(@Randomize RandomGenerator generator) {
+    int negative = generator.nextInt(Integer.MIN_VALUE, 1);
+    assertThatThrownBy(() -> bitmap.nextSetBit(negative))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("bit should be between 1 and %d, but got [%d]", bitmap.capacity(), negative);
+  }
+
+  @Test
+  void for_each_set_bit(@Randomize RandomGenerator generator) {
+    int bit = randomDataBit(generator, bitmap);
+    bitmap.set(bit);
+    List<Integer> bits = new ArrayList<>();
+    bitmap.forEachSetBit(bits::add);
+    assertThat(bits).isEqualTo(bitmap.stream().boxed().toList()).contains(bit);
+  }
+
+  @Test
+  void cursor(@Randomize RandomGenerator generator) {
+    BitmapCursor cursor = bitmap.cursor();
+    assertThat(cursor.hasNext()).isFalse();
+    assertThatThrownBy(cursor::nextInt).isInstanceOf(NoSuchElementException.class);
+
+    int bit = randomDataBit(generator, bitmap);
+    bitmap.set(bit);
+    List<Integer> bits = new ArrayList<>();
+    cursor.reset(bitmap).forEachRemaining((IntConsumer) bits::add);
+    assertThat(bits).isEqualTo(bitmap.stream().boxed().toList()).contains(bit);
+  }
+
+  @Test
+  void write_to_byte_array(@Randomize RandomGenerator generator) {
+    bitmap.set(randomDataBit(generator, bitmap));
+    byte[] expected = bitmap.toByteArray();
+    assertThat(bitmap.encodedLength()).isEqualTo(expected.length);
+
+    byte[] target = new byte[expected.length + 2];
+    assertThat(bitmap.writeTo(target, 1)).isEqualTo(expected.length);
+    assertThat(Arrays.copyOfRange(target, 1, expected.length + 1)).isEqualTo(expected);
+    assertThat(target[0]).isZero();
+    assertThat(target[target.length - 1]).isZero();
+  }
+
+  @Test
+  void write_to_byte_array_out_of_bounds() {
+    byte[] target = new byte[bitmap.encodedLength()];
+    assertThatThrownBy(() -> bitmap.writeTo(target, 1))
+        .isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  void write_to_byte_buffer(boolean bigEndian, @Randomize RandomGenerator generator) {
+    bitmap.set(randomDataBit(generator, bitmap));
+    ByteBuffer target =
+        ByteBuffer.allocate(bitmap.encodedLength() + 1)
+            .order(bigEndian ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN);
+    target.put((byte) 1);
+    bitmap.writeTo(target);
+    assertThat(target.position()).isEqualTo(target.capacity());
+    assertThat(Arrays.copyOfRange(target.array(), 1, target.capacity()))
+        .isEqualTo(bitmap.toByteArray());
+  }
+
+  @Test
+  void write_to_byte_buffer_overflow() {
+    ByteBuffer target = ByteBuffer.allocate(bitmap.encodedLength() - 1);
+    assertThatThrownBy(() -> bitmap.writeTo(target)).isInstanceOf(BufferOverflowException.class);
+    assertThat(target.position()).isZero();
+  }
+
+  @Test
+  void write_to_output_stream(@Randomize RandomGenerator generator) throws IOException {
+    bitmap.set(randomDataBit(generator, bitmap));
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    bitmap.writeTo(output);
+    assertThat(output.toByteArray()).isEqualTo(bitmap.toByteArray());
+  }
+
+  @Test
+  void reset(@Randomize RandomGenerator generator) {
+    int capacity = bitmap.capacity();
+    bitmap.set(randomDataBit(generator, bitmap));
+    bitmap.reset();
+    assertThat(bitmap.cardinality()).isZero();
+    assertThat(bitmap.nextSetBit(1)).isEqualTo(-1);
+    assertThat(bitmap.capacity()).isEqualTo(capacity);
+  }
+
+  @Test
+  void word(@Randomize RandomGenerator generator) {
+    int bit = randomDataBit(generator, bitmap);
+    bitmap.set(bit);
+    long word = bitmap.word((bit - 1) / Long.SIZE);
+    assertThat(word & (Long.MIN_VALUE >>> ((bit - 1) % Long.SIZE))).isNotZero();
+    assertThat(bitmap.word((bitmap.capacity() + Long.SIZE - 1) / Long.SIZE)).isZero();
+  }
+
+  @Test
+  void and(@Randomize RandomGenerator generator) {
+    int kept = randomDataBit(generator, bitmap);
+    int dropped = otherDataBit(generator, kept);
+    bitmap.set(kept);
+    bitmap.set(dropped);
+    bitmap.and(mask(kept));
+    assertThat(bitmap.stream().filter(bit -> bit == kept || bit == dropped)).containsExactly(kept);
+  }
+
+  @Test
+  void or(@Randomize RandomGenerator generator) {
+    int existing = randomDataBit(generator, bitmap);
+    int added = otherDataBit(generator, existing);
+    bitmap.set(existing);
+    bitmap.or(mask(added));
+    assertThat(bitmap.get(existing)).isTrue();
+    assertThat(bitmap.get(added)).isTrue();
+  }
+
+  @Test
+  void and_not(@Randomize RandomGenerator generator) {
+    int kept = randomDataBit(generator, bitmap);
+    int dropped = otherDataBit(generator, kept);
+    bitmap.set(kept);
+    bitmap.set(dropped);
+    bitmap.andNot(mask(dropped));
+    assertThat(bitmap.get(kept)).isTrue();
+    assertThat(bitmap.get(dropped)).isFalse();
+  }
+
+  @Test
+  void intersects(@Randomize RandomGenerator generator) {
+    int bit = randomDataBit(generator, bitmap);
+    int other = otherDataBit(generator, bit);
+    bitmap.set(bit);
+    assertThat(bitmap.intersects(mask(bit, other))).isTrue();
+    assertThat(bitmap.intersects(mask(other))).isFalse();
+  }
+
+  @Test
+  void contains_all_and_first_missing(@Randomize RandomGenerator generator) {
+    int bit = randomDataBit(generator, bitmap);
+    int other = otherDataBit(generator, bit);
+    bitmap.set(bit);
+    assertThat(bitmap.containsAll(mask(bit))).isTrue();
+    assertThat(bitmap.firstMissing(mask(bit))).isEqualTo(-1);
+    assertThat(bitmap.containsAll(mask(bit, other))).isFalse();
+    assertThat(bitmap.firstMissing(mask(bit, other))).isEqualTo(other);
+
+    FixedBitmap larger = new FixedBitmap(bitmap.capacity() / Byte.SIZE + 1);
+    larger.set(larger.capacity());
+    assertThat(bitmap.firstMissing(larger)).isEqualTo(larger.capacity());
+  }
+
   @Test
   abstract void to_byte_array(@Randomize RandomGenerator generator);
 
+  private int otherDataBit(RandomGenerator generator, int bit) {
+    int other = randomDataBit(generator, bitmap);
+    while (other == bit) {
+      other = randomDataBit(generator, bitmap);
+    }
+    return other;
+  }
+
+  private FixedBitmap mask(int... bits) {
+    FixedBitmap mask = new FixedBitmap(bitmap.capacity() / Byte.SIZE);
+    for (int bit : bits) {
+      mask.set(bit);
+    }
+    return mask;
+  }
+
   protected abstract void createBitmap(int bytes);
 
   protected abstract int expectedCapacity();
@@ -0,0 +1,141 @@
+package org.bytestreamparser.iso8583.data;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.lyang.randomparamsresolver.RandomParametersExtension;
+import io.github.lyang.randomparamsresolver.RandomParametersExtension.Randomize;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.List;
+import org.bytestreamparser.iso8583.helper.TestHelper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@ExtendWith(RandomParametersExtension.class)
+class BitmapViewTest {
+
+  @Test
+  void single_bitmap(@Randomize(length = 8) byte[] content) {
+    content[0] = (byte) (0b01111111 & content[0]);
+    BitmapView view = BitmapView.wrap(content, 0, content.length);
+    assertThat(view.capacity()).isEqualTo(64);
+    assertThat(view.encodedLength()).isEqualTo(8);
+    assertMatches(view, content);
+  }
+
+  @Test
+  void with_extensions(@Randomize(length = 26) byte[] content) {
+    content[1] = (byte) (0b10000000 | content[1]);
+    content[9] = (byte) (0b10000000 | content[9]);
+    content[17] = (byte) (0b01111111 & content[17]);
+    BitmapView view = BitmapView.wrap(content, 1, 8);
+    assertThat(view.capacity()).isEqualTo(192);
+    assertThat(view.encodedLength()).isEqualTo(24);
+    assertMatches(view, Arrays.copyOfRange(content, 1, 25));
+  }
+
+  @Test
+  void follows_extensions_lazily(@Randomize(length = 8) byte[] content) {
+    content[0] = (byte) (0b10000000 | content[0]);
+    ByteBuffer buffer = ByteBuffer.wrap(content);
+    BitmapView view = BitmapView.wrap(buffer, 0, 8);
+    assertThat(view.get(2)).isEqualTo((content[0] & 0b01000000) != 0);
+    assertThatThrownBy(view::capacity).isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
+  @Test
+  void get_out_of_bounds(@Randomize(length = 8) byte[] content) {
+    content[0] = (byte) (0b01111111 & content[0]);
+    BitmapView view = BitmapView.wrap(content, 0, content.length);
+    assertThatThrownBy(() -> view.get(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("bit should be between 1 and 64, but got [0]");
+    assertThatThrownBy(() -> view.get(65))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("bit should be between 1 and 64, but got [65]");
+  }
+
+  @Test
+  void read_only(@Randomize(length = 8) byte[] content) {
+    BitmapView view = BitmapView.wrap(ByteBuffer.wrap(content), 0, 1);
+    assertThatThrownBy(() -> view.set(2))
+        .isInstanceOf(UnsupportedOperationException.class)
+        .hasMessage("BitmapView is read-only");
+    assertThatThrownBy(() -> view.clear(2))
+        .isInstanceOf(UnsupportedOperationException.class)
+        .hasMessage("BitmapView is read-only");
+    FixedBitmap mask = new FixedBitmap(1);
+    assertThatThrownBy(() -> view.and(mask)).isInstanceOf(UnsupportedOperationException.class);
+    assertThatThrownBy(() -> view.or(mask)).isInstanceOf(UnsupportedOperationException.class);
+    assertThatThrownBy(() -> view.andNot(mask)).isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  void word(boolean bigEndian, @Randomize(length = 10) byte[] content) {
+    content[1] = (byte) (0b01111111 & content[1]);
+    ByteBuffer buffer =
+        ByteBuffer.wrap(content).order(bigEndian ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN);
+    BitmapView view = BitmapView.wrap(buffer, 1, 8);
+    FixedBitmap expected = FixedBitmap.valueOf(Arrays.copyOfRange(content, 1, 9));
+    assertThat(view.word(0)).isEqualTo(expected.word(0));
+    assertThat(view.word(1)).isZero();
+    assertThat(view.containsAll(expected)).isTrue();
+    expected.set(1);
+    assertThat(view.firstMissing(expected)).isEqualTo(1);
+
+    BitmapView partial = BitmapView.wrap(buffer, 1, 3);
+    assertThat(partial.word(0))
+        .isEqualTo(FixedBitmap.valueOf(Arrays.copyOfRange(content, 1, 4)).word(0));
+  }
+
+  @Test
+  void write_to(@Randomize(length = 17) byte[] content) throws IOException {
+    content[0] = (byte) (0b10000000 | content[0]);
+    content[8] = (byte) (0b01111111 & content[8]);
+    byte[] expected = Arrays.copyOfRange(content, 0, 16);
+    BitmapView view = BitmapView.wrap(content, 0, 8);
+
+    assertThat(view.toByteArray()).isEqualTo(expected);
+
+    ByteBuffer buffer = ByteBuffer.allocate(16);
+    view.writeTo(buffer);
+    assertThat(buffer.array()).isEqualTo(expected);
+
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    view.writeTo(output);
+    assertThat(output.toByteArray()).isEqualTo(expected);
+  }
+
+  @Test
+  void write_to_from_offset(@Randomize(length = 20) byte[] content) throws IOException {
+    content[2] = (byte) (0b01111111 & content[2]);
+    byte[] expected = Arrays.copyOfRange(content, 2, 10);
+    ByteBuffer direct = ByteBuffer.allocateDirect(content.length).put(content);
+    for (BitmapView view : List.of(BitmapView.wrap(content, 2, 8), BitmapView.wrap(direct, 2, 8))) {
+      ByteBuffer buffer = ByteBuffer.allocate(9).put((byte) 1);
+      view.writeTo(buffer);
+      assertThat(buffer.position()).isEqualTo(9);
+      assertThat(Arrays.copyOfRange(buffer.array(), 1, 9)).isEqualTo(expected);
+
+      ByteArrayOutputStream output = new ByteArrayOutputStream();
+      view.writeTo(output);
+      assertThat(output.toByteArray()).isEqualTo(expected);
+    }
+  }
+
+  private static void assertMatches(BitmapView view, byte[] expected) {
+    String binaryString = TestHelper.toBinaryString(expected);
+    for (int index = 0; index < binaryString.length(); index++) {
+      assertThat(view.get(index + 1)).isEqualTo(binaryString.charAt(index) == '1');
+    }
+    assertThat(view.cardinality()).isEqualTo(binaryString.replace("0", "").length());
+    assertThat(view.stream().toArray()).isEqualTo(FixedBitmap.valueOf(expected).stream().toArray());
+  }
+}
@@ -4,6 +4,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.github.lyang.randomparamsresolver.RandomParametersExtension.Randomize;
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.List;
 import java.util.random.RandomGenerator;
 import java.util.stream.IntStream;
@@ -65,6 +71,171 @@ class ExtendableBitmapTest extends BitmapTestBase<ExtendableBitmap> {
     assertThat(bitmap.get(extensionBit)).isFalse();
   }
 
+  @Test
+  void recalibrate_across_extensions() {
+    int lastDataBit = (extensions - 1) * bytes * Byte.SIZE + 2;
+    bitmap.set(lastDataBit);
+    bitmap.set(2);
+    for (int extension = 0; extension < extensions - 1; extension++) {
+      assertThat(bitmap.get(extension * bytes * Byte.SIZE + 1)).isTrue();
+    }
+    assertThat(bitmap.cardinality()).isEqualTo(extensions + 1);
+
+    bitmap.clear(lastDataBit);
+    for (int extension = 0; extension < extensions; extension++) {
+      assertThat(bitmap.get(extension * bytes * Byte.SIZE + 1)).isFalse();
+    }
+    assertThat(bitmap.cardinality()).isEqualTo(1);
+  }
+
+  @Test
+  void set_and_clear_are_idempotent(@Randomize RandomGenerator generator) {
+    int bit = randomDataBit(generator, bitmap);
+    bitmap.set(bit);
+    bitmap.set(bit);
+    assertThat(bitmap.cardinality()).isEqualTo(1 + (bit - 1) / (bytes * Byte.SIZE));
+
+    bitmap.clear(bit);
+    bitmap.clear(bit);
+    assertThat(bitmap.cardinality()).isZero();
+  }
+
+  @Test
+  void add_extensions_recalibrates() {
+    byte[] content = new byte[bytes];
+    content[0] = (byte) 0b11000000;
+    ExtendableBitmap extendable =
+        new ExtendableBitmap(bytes).addExtensions(List.of(FixedBitmap.valueOf(content)));
+    assertThat(extendable.get(1)).isFalse();
+    assertThat(extendable.get(2)).isTrue();
+    assertThat(extendable.cardinality()).isEqualTo(1);
+
+    extendable.addExtensions(List.of(FixedBitmap.valueOf(content)));
+    assertThat(extendable.get(1)).isTrue();
+    assertThat(extendable.get(bytes * Byte.SIZE + 1)).isFalse();
+    assertThat(extendable.capacity()).isEqualTo(2 * bytes * Byte.SIZE);
+    assertThat(extendable.cardinality()).isEqualTo(3);
+  }
+
+  @Test
+  void reset_extensions(@Randomize RandomGenerator generator) {
+    bitmap.set(randomDataBit(generator, bitmap));
+    bitmap.reset(1);
+    assertThat(bitmap.capacity()).isEqualTo(bytes * Byte.SIZE);
+    assertThat(bitmap.cardinality()).isZero();
+
+    bitmap.reset(extensions + 1);
+    assertThat(bitmap.capacity()).isEqualTo((extensions + 1) * bytes * Byte.SIZE);
+    assertThat(bitmap.cardinality()).isZero();
+
+    int lastDataBit = extensions * bytes * Byte.SIZE + 2;
+    bitmap.set(lastDataBit);
+    assertThat(bitmap.get(lastDataBit)).isTrue();
+    assertThat(bitmap.cardinality()).isEqualTo(extensions + 1);
+  }
+
+  @Test
+  void reset_negative_extensions() {
+    assertThatThrownBy(() -> bitmap.reset(-1))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("extensions should not be negative, but got [-1]");
+  }
+
+  @Test
+  void read_from(@Randomize RandomGenerator generator) throws IOException {
+    ExtendableBitmap source = new ExtendableBitmap(bytes).reset(extensions);
+    int bit = randomDataBit(generator, source);
+    source.set(bit);
+    bitmap.set(randomDataBit(generator, bitmap));
+
+    bitmap.readFrom(new ByteArrayInputStream(source.toByteArray()));
+    assertThat(bitmap.toByteArray()).isEqualTo(source.toByteArray());
+    assertThat(bitmap.stream().toArray()).isEqualTo(source.stream().toArray());
+    assertThat(bitmap.capacity()).isEqualTo(source.encodedLength() * Byte.SIZE);
+  }
+
+  @Test
+  void read_from_truncated_input() {
+    ExtendableBitmap source = new ExtendableBitmap(bytes).reset(extensions);
+    source.set(2);
+    source.set(source.capacity());
+    byte[] truncated = Arrays.copyOf(source.toByteArray(), source.encodedLength() - 1);
+
+    assertThatThrownBy(() -> bitmap.readFrom(new ByteArrayInputStream(truncated)))
+        .isInstanceOf(EOFException.class);
+    assertThat(bitmap.cardinality()).isZero();
+    assertThat(bitmap.encodedLength()).isEqualTo(bytes);
+    assertThat(bitmap.stream().toArray()).isEmpty();
+
+    assertThatThrownBy(() -> bitmap.readFrom(ByteBuffer.wrap(truncated)))
+        .isInstanceOf(BufferUnderflowException.class);
+    assertThat(bitmap.cardinality()).isZero();
+    bitmap.set(2);
+    assertThat(bitmap.cardinality()).isEqualTo(1);
+    assertThat(bitmap.toByteArray()).hasSize(bytes);
+  }
+
+  @Test
+  void equals_ignores_trailing_empty_extensions(@Randomize RandomGenerator generator) {
+    int dataBit = generator.nextInt(2, bytes * Byte.SIZE + 1);
+    bitmap.set(dataBit);
+    ExtendableBitmap other = new ExtendableBitmap(bytes).reset(1);
+    other.set(dataBit);
+
+    assertThat(other).isEqualTo(bitmap).hasSameHashCodeAs(bitmap);
+    assertThat(other.fingerprint()).isEqualTo(bitmap.fingerprint());
+
+    other.reset(extensions).set(dataBit + bytes * Byte.SIZE);
+    assertThat(other).isNotEqualTo(bitmap);
+    assertThat(new ExtendableBitmap(bytes + 1).reset(1)).isNotEqualTo(new ExtendableBitmap(bytes));
+  }
+
+  @Test
+  void bulk_operations_recalibrate_extensions(@Randomize RandomGenerator generator) {
+    int extensionBit = randomExtensionBit(generator, bitmap);
+    int dataBit = extensionBit + bytes * Byte.SIZE + 1;
+    FixedBitmap mask = new FixedBitmap(bitmap.capacity() / Byte.SIZE);
+    mask.set(dataBit);
+
+    bitmap.or(mask);
+    assertThat(bitmap.get(dataBit)).isTrue();
+    assertThat(bitmap.get(extensionBit)).isTrue();
+    assertThat(bitmap.cardinality()).isEqualTo(1 + (dataBit - 1) / (bytes * Byte.SIZE));
+
+    bitmap.andNot(mask);
+    assertThat(bitmap.cardinality()).isZero();
+    assertThat(bitmap.encodedLength()).isEqualTo(bytes);
+
+    mask.set(1);
+    bitmap.or(mask);
+    bitmap.and(new FixedBitmap(bitmap.capacity() / Byte.SIZE));
+    assertThat(bitmap.cardinality()).isZero();
+  }
+
+  @Test
+  void copy(@Randomize RandomGenerator generator) {
+    int dataBit = randomDataBit(generator, bitmap);
+    bitmap.set(dataBit);
+    ExtendableBitmap copy = bitmap.copy();
+    assertThat(copy).isEqualTo(bitmap).isNotSameAs(bitmap);
+    assertThat(copy.toByteArray()).isEqualTo(bitmap.toByteArray());
+
+    bitmap.clear(dataBit);
+    assertThat(copy.get(dataBit)).isTrue();
+  }
+
+  @Test
+  void read_from_byte_buffer(@Randomize RandomGenerator generator) {
+    ExtendableBitmap source = new ExtendableBitmap(bytes).reset(extensions);
+    source.set(randomDataBit(generator, source));
+    ByteBuffer input = ByteBuffer.allocate(source.encodedLength() + 1).put(source.toByteArray());
+    input.flip();
+
+    assertThat(bitmap.readFrom(input)).isEqualTo(source);
+    assertThat(bitmap.stream().toArray()).isEqualTo(source.stream().toArray());
+    assertThat(input.position()).isEqualTo(source.encodedLength());
+  }
+
   @Override
   @Test
   void to_byte_array(@Randomize RandomGenerator generator) {
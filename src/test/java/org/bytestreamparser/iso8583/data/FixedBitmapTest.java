@@ -1,12 +1,23 @@
 package org.bytestreamparser.iso8583.data;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.github.lyang.randomparamsresolver.RandomParametersExtension.Randomize;
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
 import java.util.random.RandomGenerator;
+import java.util.stream.IntStream;
 import org.bytestreamparser.iso8583.helper.TestHelper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 class FixedBitmapTest extends BitmapTestBase<FixedBitmap> {
   private int bytes;
@@ -25,6 +36,63 @@ class FixedBitmapTest extends BitmapTestBase<FixedBitmap> {
     assertThat(bitmap.get(1)).isFalse();
   }
 
+  @Test
+  void value_of_multiple_words(@Randomize(length = 19) byte[] content) {
+    FixedBitmap bitmap = FixedBitmap.valueOf(content);
+    char[] chars = TestHelper.toBinaryString(content).toCharArray();
+    for (int index = 0; index < chars.length; index++) {
+      assertThat(bitmap.get(index + 1)).isEqualTo(chars[index] == '1');
+    }
+    assertThat(bitmap.toByteArray()).isEqualTo(content);
+  }
+
+  @Test
+  void stream_in_ascending_order(@Randomize(length = 19) byte[] content) {
+    FixedBitmap bitmap = FixedBitmap.valueOf(content);
+    String binaryString = TestHelper.toBinaryString(content);
+    int[] expected =
+        IntStream.range(0, binaryString.length())
+            .filter(index -> binaryString.charAt(index) == '1')
+            .map(index -> index + 1)
+            .toArray();
+    assertThat(bitmap.stream().toArray()).containsExactly(expected);
+    assertThat(bitmap.cardinality()).isEqualTo(expected.length);
+  }
+
+  @Test
+  void read_from(@Randomize(length = 11) byte[] content) throws IOException {
+    FixedBitmap bitmap = FixedBitmap.valueOf(new byte[] {-1, -1, -1, -1, -1, -1, -1, -1, -1, -1});
+    bitmap.readFrom(new ByteArrayInputStream(content));
+    assertThat(bitmap.toByteArray()).isEqualTo(Arrays.copyOf(content, 10));
+  }
+
+  @Test
+  void read_from_insufficient_data(@Randomize byte[] content) {
+    FixedBitmap bitmap = new FixedBitmap(content.length + 1);
+    ByteArrayInputStream input = new ByteArrayInputStream(content);
+    assertThatThrownBy(() -> bitmap.readFrom(input))
+        .isInstanceOf(EOFException.class)
+        .hasMessage(
+            "End of stream reached after reading %d bytes, bytes expected [%d]",
+            content.length, content.length + 1);
+  }
+
+  @Test
+  void copy_and_equals(@Randomize(length = 11) byte[] content) {
+    FixedBitmap bitmap = FixedBitmap.valueOf(content);
+    FixedBitmap copy = bitmap.copy();
+    assertThat(copy).isEqualTo(bitmap).hasSameHashCodeAs(bitmap).isNotSameAs(bitmap);
+    assertThat(copy.fingerprint()).isEqualTo(bitmap.fingerprint());
+
+    if (bitmap.get(1)) {
+      copy.clear(1);
+    } else {
+      copy.set(1);
+    }
+    assertThat(copy).isNotEqualTo(bitmap);
+    assertThat(FixedBitmap.valueOf(Arrays.copyOf(content, 12))).isNotEqualTo(bitmap);
+  }
+
   @Override
   @Test
   void to_byte_array(@Randomize RandomGenerator generator) {
@@ -48,4 +116,25 @@ class FixedBitmapTest extends BitmapTestBase<FixedBitmap> {
   protected int randomDataBit(RandomGenerator generator, Bitmap bitmap) {
     return generator.nextInt(1, bitmap.capacity() + 1);
   }
+
+  @ParameterizedTest
+  @ValueSource(booleans = {true, false})
+  void read_from_byte_buffer(boolean bigEndian, @Randomize(length = 12) byte[] content) {
+    ByteBuffer input =
+        ByteBuffer.wrap(content).order(bigEndian ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN);
+    input.get();
+    FixedBitmap bitmap = new FixedBitmap(10);
+    bitmap.set(80);
+
+    assertThat(bitmap.readFrom(input).toByteArray()).isEqualTo(Arrays.copyOfRange(content, 1, 11));
+    assertThat(input.position()).isEqualTo(11);
+  }
+
+  @Test
+  void read_from_byte_buffer_underflow(@Randomize(length = 9) byte[] content) {
+    ByteBuffer input = ByteBuffer.wrap(content);
+    FixedBitmap bitmap = new FixedBitmap(10);
+    assertThatThrownBy(() -> bitmap.readFrom(input)).isInstanceOf(BufferUnderflowException.class);
+    assertThat(input.position()).isZero();
+  }
 }
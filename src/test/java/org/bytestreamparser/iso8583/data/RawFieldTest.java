@@ -0,0 +1,66 @@
+package org.bytestreamparser.iso8583.data;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.lyang.randomparamsresolver.RandomParametersExtension;
+import io.github.lyang.randomparamsresolver.RandomParametersExtension.Randomize;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import org.bytestreamparser.scalar.parser.CharStringParser;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(RandomParametersExtension.class)
+class RawFieldTest {
+
+  @Test
+  void write_to_stream(@Randomize(length = 20) byte[] frame) throws IOException {
+    RawField field = RawField.of(frame, 5, 10);
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    field.writeTo(output);
+    assertThat(field.length()).isEqualTo(10);
+    assertThat(output.toByteArray()).isEqualTo(Arrays.copyOfRange(frame, 5, 15));
+    assertThat(field.toByteArray()).isEqualTo(Arrays.copyOfRange(frame, 5, 15));
+  }
+
+  @Test
+  void write_to_buffer(@Randomize(length = 20) byte[] frame) {
+    RawField field = RawField.of(frame, 5, 10);
+    ByteBuffer buffer = ByteBuffer.allocate(12);
+    field.writeTo(buffer);
+    assertThat(buffer.position()).isEqualTo(10);
+    assertThat(Arrays.copyOf(buffer.array(), 10)).isEqualTo(Arrays.copyOfRange(frame, 5, 15));
+    assertThatThrownBy(() -> field.writeTo(buffer)).isInstanceOf(BufferOverflowException.class);
+  }
+
+  @Test
+  void decode() throws IOException {
+    RawField field = RawField.of("xx0200yy".getBytes(US_ASCII), 2, 4);
+    assertThat(field.decode(new CharStringParser("mti", 4, US_ASCII))).isEqualTo("0200");
+  }
+
+  @Test
+  void invalid_slice(@Randomize(length = 20) byte[] frame) {
+    assertThatThrownBy(() -> RawField.of(frame, 15, 10))
+        .isInstanceOf(IndexOutOfBoundsException.class);
+    assertThatThrownBy(() -> RawField.of(frame, -1, 10))
+        .isInstanceOf(IndexOutOfBoundsException.class);
+  }
+
+  @Test
+  void equality(@Randomize(length = 20) byte[] frame) {
+    byte[] copy = new byte[30];
+    System.arraycopy(frame, 5, copy, 12, 10);
+    RawField field = RawField.of(frame, 5, 10);
+    RawField other = RawField.of(copy, 12, 10);
+    assertThat(field).isEqualTo(other).hasSameHashCodeAs(other);
+    assertThat(field).isNotEqualTo(RawField.of(frame, 5, 9));
+    copy[12]++;
+    assertThat(field).isNotEqualTo(other);
+  }
+}
@@ -0,0 +1,128 @@
+package org.bytestreamparser.iso8583.parser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.lyang.randomparamsresolver.RandomParametersExtension;
+import io.github.lyang.randomparamsresolver.RandomParametersExtension.Randomize;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.HexFormat;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@ExtendWith(RandomParametersExtension.class)
+class BcdCodecTest {
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 2, 3, 12, 17, 18})
+  void left_padding(int digits, @Randomize(longMin = 0, longMax = Long.MAX_VALUE) long seed)
+      throws IOException {
+    long value = seed % (BcdCodec.max(digits) + 1);
+    String text = String.format("%0" + (digits + digits % 2) + "d", value);
+    byte[] encoded = HexFormat.of().parseHex(text);
+
+    assertThat(encode(value, digits, BcdPadding.LEFT)).isEqualTo(encoded);
+    assertThat(BcdCodec.decode("bcd", new ByteArrayInputStream(encoded), digits, BcdPadding.LEFT))
+        .isEqualTo(value);
+    assertThat(BcdCodec.bytes(digits)).isEqualTo(encoded.length);
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 3, 17})
+  void right_padding(int digits, @Randomize(longMin = 0, longMax = Long.MAX_VALUE) long seed)
+      throws IOException {
+    long value = seed % (BcdCodec.max(digits) + 1);
+    String text = String.format("%0" + digits + "d", value) + "f";
+    byte[] encoded = HexFormat.of().parseHex(text);
+
+    assertThat(encode(value, digits, BcdPadding.RIGHT)).isEqualTo(encoded);
+    assertThat(BcdCodec.decode("bcd", new ByteArrayInputStream(encoded), digits, BcdPadding.RIGHT))
+        .isEqualTo(value);
+  }
+
+  @Test
+  void invalid_padding() {
+    byte[] encoded = {(byte) 0x91, 0x23};
+    assertThatThrownBy(
+            () -> BcdCodec.decode("bcd", new ByteArrayInputStream(encoded), 3, BcdPadding.LEFT))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("bcd: invalid BCD byte [0x91]");
+    assertThatThrownBy(
+            () -> BcdCodec.decode("bcd", new ByteArrayInputStream(encoded), 3, BcdPadding.RIGHT))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("bcd: invalid BCD byte [0x23]");
+  }
+
+  @Test
+  void invalid_digit() {
+    assertThatThrownBy(
+            () ->
+                BcdCodec.decode(
+                    "bcd", new ByteArrayInputStream(new byte[] {0x12, 0x3A}), 4, BcdPadding.LEFT))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("bcd: invalid BCD byte [0x3A]");
+    assertThatThrownBy(
+            () ->
+                BcdCodec.decode(
+                    "bcd", new ByteArrayInputStream(new byte[] {0x0B}), 1, BcdPadding.LEFT))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("bcd: invalid BCD byte [0x0B]");
+  }
+
+  @Test
+  void insufficient_data() {
+    assertThatThrownBy(
+            () ->
+                BcdCodec.decode(
+                    "bcd", new ByteArrayInputStream(new byte[] {0x12}), 4, BcdPadding.LEFT))
+        .isInstanceOf(EOFException.class)
+        .hasMessage("bcd: end of stream reached after reading 1 bytes, bytes expected [2]");
+  }
+
+  @Test
+  void strings() throws IOException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    BcdCodec.encodeString("bcd", "4761D25", BcdPadding.RIGHT, output);
+    assertThat(output.toByteArray()).isEqualTo(HexFormat.of().parseHex("4761d25f"));
+    assertThat(
+            BcdCodec.decodeString(
+                "bcd", new ByteArrayInputStream(output.toByteArray()), 7, BcdPadding.RIGHT))
+        .isEqualTo("4761d25");
+
+    output.reset();
+    BcdCodec.encodeString("bcd", "123", BcdPadding.LEFT, output);
+    assertThat(output.toByteArray()).isEqualTo(HexFormat.of().parseHex("0123"));
+    assertThat(
+            BcdCodec.decodeString(
+                "bcd", new ByteArrayInputStream(output.toByteArray()), 3, BcdPadding.LEFT))
+        .isEqualTo("123");
+
+    assertThatThrownBy(() -> BcdCodec.encodeString("bcd", "12x4", BcdPadding.LEFT, output))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("bcd: invalid BCD character [x]");
+  }
+
+  private static byte[] encode(long value, int digits, BcdPadding padding) throws IOException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    BcdCodec.encode(value, digits, padding, output);
+    return output.toByteArray();
+  }
+
+  @Test
+  void try_decode() {
+    byte[] source = {0x01, 0x23, 0x45, (byte) 0xA1, 0x1F};
+    assertThat(BcdCodec.tryDecode(source, 0, 5, BcdPadding.LEFT)).isEqualTo(12345);
+    assertThat(BcdCodec.tryDecode(source, 1, 4, BcdPadding.RIGHT)).isEqualTo(2345);
+    assertThat(BcdCodec.tryDecode(source, 4, 1, BcdPadding.RIGHT)).isEqualTo(1);
+    assertThat(BcdCodec.tryDecode(new byte[] {0x01}, 0, 1, BcdPadding.LEFT)).isEqualTo(1);
+    assertThat(BcdCodec.tryDecode(source, 3, 1, BcdPadding.LEFT)).isEqualTo(-1);
+    assertThat(BcdCodec.tryDecode(source, 0, 1, BcdPadding.RIGHT)).isEqualTo(-1);
+    assertThat(BcdCodec.tryDecode(source, 3, 2, BcdPadding.LEFT)).isEqualTo(-1);
+    assertThat(BcdCodec.tryDecode(source, 4, 2, BcdPadding.LEFT)).isEqualTo(-1);
+  }
+}
@@ -0,0 +1,49 @@
+package org.bytestreamparser.iso8583.parser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.lyang.randomparamsresolver.RandomParametersExtension;
+import io.github.lyang.randomparamsresolver.RandomParametersExtension.Randomize;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.HexFormat;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(RandomParametersExtension.class)
+class BcdDigitsParserTest {
+
+  @Test
+  void pack_and_parse(@Randomize(intMin = 0, intMax = 10000) int value) throws IOException {
+    BcdDigitsParser parser = new BcdDigitsParser("date", 4);
+    String digits = String.format("%04d", value);
+    byte[] encoded = HexFormat.of().parseHex(digits);
+
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    parser.pack(digits, output);
+    assertThat(output.toByteArray()).isEqualTo(encoded);
+    assertThat(parser.parse(new ByteArrayInputStream(encoded))).isEqualTo(digits);
+  }
+
+  @Test
+  void odd_digits() throws IOException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    new BcdDigitsParser("track2", 5, BcdPadding.RIGHT).pack("123D4", output);
+    assertThat(output.toByteArray()).isEqualTo(HexFormat.of().parseHex("123d4f"));
+
+    BcdDigitsParser left = new BcdDigitsParser("track2", 5);
+    assertThat(left.parse(new ByteArrayInputStream(HexFormat.of().parseHex("0123d4"))))
+        .isEqualTo("123d4");
+  }
+
+  @Test
+  void invalid_length() {
+    BcdDigitsParser parser = new BcdDigitsParser("date", 4);
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    assertThatThrownBy(() -> parser.pack("123", output))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("date: value should have 4 digits, but got [3]");
+  }
+}
@@ -0,0 +1,75 @@
+package org.bytestreamparser.iso8583.parser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.lyang.randomparamsresolver.RandomParametersExtension;
+import io.github.lyang.randomparamsresolver.RandomParametersExtension.Randomize;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.HexFormat;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(RandomParametersExtension.class)
+class BcdIntegerParserTest {
+
+  @Test
+  void pack_and_parse(@Randomize(intMin = 0, intMax = 1_000_000) int value) throws IOException {
+    BcdIntegerParser parser = new BcdIntegerParser("stan", 6);
+    byte[] encoded = HexFormat.of().parseHex(String.format("%06d", value));
+
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    parser.packInt(value, output);
+    assertThat(output.toByteArray()).isEqualTo(encoded);
+    output.reset();
+    parser.pack(value, output);
+    assertThat(output.toByteArray()).isEqualTo(encoded);
+
+    assertThat(parser.parseInt(new ByteArrayInputStream(encoded))).isEqualTo(value);
+    assertThat(parser.parse(new ByteArrayInputStream(encoded))).isEqualTo(value);
+  }
+
+  @Test
+  void right_padding() throws IOException {
+    BcdIntegerParser parser = new BcdIntegerParser("stan", 3, BcdPadding.RIGHT);
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    parser.pack(123, output);
+    assertThat(output.toByteArray()).isEqualTo(HexFormat.of().parseHex("123f"));
+  }
+
+  @Test
+  void value_out_of_range() {
+    BcdIntegerParser parser = new BcdIntegerParser("stan", 6);
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    assertThatThrownBy(() -> parser.packInt(1_000_000, output))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("stan: value should be between 0 and 999999, but got [1000000]");
+    assertThatThrownBy(() -> parser.pack(-1, output))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("stan: value should be between 0 and 999999, but got [-1]");
+  }
+
+  @Test
+  void invalid_digits() {
+    assertThatThrownBy(() -> new BcdIntegerParser("stan", 10))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("stan: digits should be between 1 and 9, but got [10]");
+    assertThatThrownBy(() -> new BcdIntegerParser("stan", 0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("stan: digits should be between 1 and 9, but got [0]");
+  }
+
+  @Test
+  void try_parse_int() {
+    BcdIntegerParser parser = new BcdIntegerParser("stan", 3, BcdPadding.RIGHT);
+    byte[] frame = {0x12, 0x3F, 0x12, 0x30, (byte) 0xA3, 0x1F};
+    assertThat(parser.tryParseInt(frame, 0)).isEqualTo(123);
+    assertThat(parser.tryParseInt(frame, 2)).isEqualTo(-1);
+    assertThat(parser.tryParseInt(frame, 4)).isEqualTo(-1);
+    assertThat(parser.validate(frame, 0, frame.length)).isEqualTo(2);
+    assertThat(parser.validate(frame, 2, frame.length)).isEqualTo(Measurable.INVALID);
+    assertThat(parser.validate(frame, 5, frame.length)).isEqualTo(Measurable.TRUNCATED);
+  }
+}
@@ -0,0 +1,75 @@
+package org.bytestreamparser.iso8583.parser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.lyang.randomparamsresolver.RandomParametersExtension;
+import io.github.lyang.randomparamsresolver.RandomParametersExtension.Randomize;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.HexFormat;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(RandomParametersExtension.class)
+class BcdLongParserTest {
+
+  @Test
+  void pack_and_parse(@Randomize(longMin = 0, longMax = 1_000_000_000_000L) long value)
+      throws IOException {
+    BcdLongParser parser = new BcdLongParser("amount", 12);
+    byte[] encoded = HexFormat.of().parseHex(String.format("%012d", value));
+
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    parser.packLong(value, output);
+    assertThat(output.toByteArray()).isEqualTo(encoded);
+    output.reset();
+    parser.pack(value, output);
+    assertThat(output.toByteArray()).isEqualTo(encoded);
+
+    assertThat(parser.parseLong(new ByteArrayInputStream(encoded))).isEqualTo(value);
+    assertThat(parser.parse(new ByteArrayInputStream(encoded))).isEqualTo(value);
+  }
+
+  @Test
+  void right_padding() throws IOException {
+    BcdLongParser parser = new BcdLongParser("amount", 3, BcdPadding.RIGHT);
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    parser.pack(123L, output);
+    assertThat(output.toByteArray()).isEqualTo(HexFormat.of().parseHex("123f"));
+  }
+
+  @Test
+  void value_out_of_range() {
+    BcdLongParser parser = new BcdLongParser("amount", 12);
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    assertThatThrownBy(() -> parser.packLong(1_000_000_000_000L, output))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("amount: value should be between 0 and 999999999999, but got [1000000000000]");
+    assertThatThrownBy(() -> parser.pack(-1L, output))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("amount: value should be between 0 and 999999999999, but got [-1]");
+  }
+
+  @Test
+  void invalid_digits() {
+    assertThatThrownBy(() -> new BcdLongParser("amount", 19))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("amount: digits should be between 1 and 18, but got [19]");
+    assertThatThrownBy(() -> new BcdLongParser("amount", 0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("amount: digits should be between 1 and 18, but got [0]");
+  }
+
+  @Test
+  void try_parse_long() {
+    BcdLongParser parser = new BcdLongParser("amount", 12);
+    byte[] frame = {0, 0, 0, 0, 0x10, 0x00, 0, 0, 0, 0, 0x1A, 0x00};
+    assertThat(parser.tryParseLong(frame, 0)).isEqualTo(1000L);
+    assertThat(parser.tryParseLong(frame, 6)).isEqualTo(-1L);
+    assertThat(parser.validate(frame, 0, frame.length)).isEqualTo(6);
+    assertThat(parser.validate(frame, 6, frame.length)).isEqualTo(Measurable.INVALID);
+    assertThat(parser.validate(frame, 7, frame.length)).isEqualTo(Measurable.TRUNCATED);
+  }
+}
@@ -0,0 +1,59 @@
+package org.bytestreamparser.iso8583.parser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.lyang.randomparamsresolver.RandomParametersExtension;
+import io.github.lyang.randomparamsresolver.RandomParametersExtension.Randomize;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(RandomParametersExtension.class)
+class BoundedInputStreamTest {
+
+  @Test
+  void read(@Randomize(length = 10) byte[] content) throws IOException {
+    BoundedInputStream input = new BoundedInputStream(new ByteArrayInputStream(content), 6);
+    assertThat(input.read()).isEqualTo(content[0] & 0xFF);
+    assertThat(input.readAllBytes()).isEqualTo(Arrays.copyOfRange(content, 1, 6));
+    assertThat(input.read()).isEqualTo(-1);
+    assertThat(input.position()).isEqualTo(6);
+    assertThat(input.remaining()).isZero();
+  }
+
+  @Test
+  void skip(@Randomize(length = 10) byte[] content) throws IOException {
+    BoundedInputStream input = new BoundedInputStream(new ByteArrayInputStream(content), 6);
+    assertThat(input.skip(4)).isEqualTo(4);
+    assertThat(input.available()).isEqualTo(2);
+    assertThat(input.skip(4)).isEqualTo(2);
+    assertThat(input.available()).isZero();
+    assertThat(input.position()).isEqualTo(6);
+  }
+
+  @Test
+  void limit_beyond_stream(@Randomize(length = 4) byte[] content) throws IOException {
+    BoundedInputStream input = new BoundedInputStream(new ByteArrayInputStream(content), 10);
+    assertThat(input.readAllBytes()).isEqualTo(content);
+    assertThat(input.position()).isEqualTo(4);
+    assertThat(input.remaining()).isEqualTo(6);
+  }
+
+  @Test
+  void mark_not_supported(@Randomize(length = 4) byte[] content) {
+    BoundedInputStream input = new BoundedInputStream(new ByteArrayInputStream(content), 4);
+    assertThat(input.markSupported()).isFalse();
+    assertThatThrownBy(input::reset).isInstanceOf(IOException.class);
+  }
+
+  @Test
+  void negative_limit() {
+    ByteArrayInputStream input = new ByteArrayInputStream(new byte[0]);
+    assertThatThrownBy(() -> new BoundedInputStream(input, -1))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("limit should not be negative, but got [-1]");
+  }
+}
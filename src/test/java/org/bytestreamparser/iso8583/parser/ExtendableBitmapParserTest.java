@@ -10,7 +10,11 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.EOFException;
 import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.List;
+import org.bytestreamparser.iso8583.data.BitmapView;
 import org.bytestreamparser.iso8583.data.ExtendableBitmap;
 import org.bytestreamparser.iso8583.data.FixedBitmap;
 import org.bytestreamparser.iso8583.helper.TestHelper;
@@ -95,6 +99,49 @@ class ExtendableBitmapParserTest {
     }
   }
 
+  @Test
+  void parse_into(@Randomize(length = 10) byte[] content) throws IOException {
+    content[0] = (byte) (0b10000000 | content[0]);
+    content[5] = (byte) (0b01111111 & content[5]);
+    content[5] = (byte) (0b00000001 | content[5]);
+    ExtendableBitmapParser parser = new ExtendableBitmapParser("bitmap", 5);
+    ExtendableBitmap bitmap = new ExtendableBitmap(5).reset(3);
+    bitmap.set(12);
+
+    ExtendableBitmap parsed = parser.parseInto(new ByteArrayInputStream(content), bitmap);
+    assertThat(parsed).isSameAs(bitmap);
+    assertThat(parsed.capacity()).isEqualTo(80);
+    assertThat(parsed.toByteArray()).isEqualTo(content);
+
+    content[0] = (byte) (0b01111111 & content[0]);
+    parser.parseInto(new ByteArrayInputStream(content), bitmap);
+    assertThat(parsed.capacity()).isEqualTo(40);
+    assertThat(parsed.toByteArray()).isEqualTo(Arrays.copyOf(content, 5));
+  }
+
+  @Test
+  void parse_into_mismatched_bitmap(@Randomize byte[] content) {
+    ExtendableBitmapParser parser = new ExtendableBitmapParser("bitmap", content.length);
+    ExtendableBitmap bitmap = new ExtendableBitmap(content.length + 1);
+    ByteArrayInputStream input = new ByteArrayInputStream(content);
+    assertThatThrownBy(() -> parser.parseInto(input, bitmap))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage(
+            "bitmap: bitmap must be %d bytes per extension, but got [%d]",
+            content.length, content.length + 1);
+  }
+
+  @Test
+  void parse_view(@Randomize(length = 12) byte[] content) {
+    content[1] = (byte) (0b10000000 | content[1]);
+    content[5] = (byte) (0b01111111 & content[5]);
+    ByteBuffer input = ByteBuffer.wrap(content).position(1);
+    ExtendableBitmapParser parser = new ExtendableBitmapParser("bitmap", 4);
+    BitmapView view = parser.parseView(input);
+    assertThat(input.position()).isEqualTo(9);
+    assertThat(view.toByteArray()).isEqualTo(Arrays.copyOfRange(content, 1, 9));
+  }
+
   @Test
   void parse_insufficient_data(@Randomize byte[] content) {
     ByteArrayInputStream input = new ByteArrayInputStream(content);
@@ -105,4 +152,48 @@ class ExtendableBitmapParserTest {
             "End of stream reached after reading %d bytes, bytes expected [%d]",
             content.length, content.length + 1);
   }
+
+  @Test
+  void pack_byte_buffer(@Randomize(length = 10) byte[] content) {
+    content[0] = (byte) (0b10000000 | content[0]);
+    content[5] = (byte) (0b01111111 & content[5]);
+    ExtendableBitmap bitmap =
+        new ExtendableBitmapParser("bitmap", 5).parse(ByteBuffer.wrap(content));
+    ByteBuffer output = ByteBuffer.allocate(11);
+    new ExtendableBitmapParser("bitmap", 5).pack(bitmap, output);
+    assertThat(output.position()).isEqualTo(10);
+    assertThat(Arrays.copyOf(output.array(), 10)).isEqualTo(content);
+  }
+
+  @Test
+  void parse_byte_buffer(@Randomize(length = 12) byte[] content) {
+    content[0] = (byte) (0b10000000 | content[0]);
+    content[5] = (byte) (0b01111111 & content[5]);
+    ExtendableBitmap bitmap = new ExtendableBitmap(5).reset(3);
+    ExtendableBitmapParser parser = new ExtendableBitmapParser("bitmap", 5, () -> bitmap);
+    ByteBuffer input = ByteBuffer.wrap(content);
+
+    assertThat(parser.parse(input)).isSameAs(bitmap);
+    assertThat(bitmap.toByteArray()).isEqualTo(Arrays.copyOf(content, 10));
+    assertThat(input.position()).isEqualTo(10);
+  }
+
+  @Test
+  void parse_byte_buffer_insufficient_data(@Randomize(length = 7) byte[] content) {
+    content[0] = (byte) (0b10000000 | content[0]);
+    ExtendableBitmapParser parser = new ExtendableBitmapParser("bitmap", 5);
+    ByteBuffer input = ByteBuffer.wrap(content);
+    assertThatThrownBy(() -> parser.parse(input)).isInstanceOf(BufferUnderflowException.class);
+    assertThat(input.position()).isZero();
+  }
+
+  @Test
+  void measure() {
+    ExtendableBitmapParser parser = new ExtendableBitmapParser("bitmap", 2);
+    byte[] frame = {(byte) 0x80, 0x00, (byte) 0x80, 0x00, 0x00, 0x01, 0x01};
+    assertThat(parser.measure(frame, 0, frame.length)).isEqualTo(6);
+    assertThat(parser.measure(frame, 2, frame.length)).isEqualTo(4);
+    assertThat(parser.measure(frame, 4, frame.length)).isEqualTo(2);
+    assertThat(parser.measure(frame, 0, 5)).isEqualTo(Measurable.TRUNCATED);
+  }
 }
@@ -0,0 +1,128 @@
+package org.bytestreamparser.iso8583.parser;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import org.bytestreamparser.iso8583.data.ExtendableBitmap;
+import org.bytestreamparser.iso8583.helper.TestIsoMessage;
+import org.bytestreamparser.scalar.parser.CharStringParser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class FieldPlanCacheTest {
+  private IsoFieldParser<TestIsoMessage, String> processingCode;
+  private IsoFieldParser<TestIsoMessage, String> pan;
+  private IsoFieldParser<TestIsoMessage, String> responseCode;
+  private FieldPlanCache<TestIsoMessage> cache;
+
+  @BeforeEach
+  void setUp() {
+    processingCode = new IsoFieldParser<>(3, new CharStringParser("3", 6, UTF_8), 6);
+    pan = new IsoFieldParser<>(2, new CharStringParser("2", 19, UTF_8));
+    responseCode = new IsoFieldParser<>(70, new CharStringParser("70", 3, UTF_8), 3);
+    cache = new FieldPlanCache<>(List.of(processingCode, pan, responseCode), 8, 16);
+  }
+
+  @Test
+  void plan_follows_bitmap_order() {
+    FieldPlan<TestIsoMessage> plan = cache.get(bitmap(2, 3, 70));
+    assertThat(plan.size()).isEqualTo(3);
+    assertThat(plan.parser(0)).isSameAs(pan);
+    assertThat(plan.parser(1)).isSameAs(processingCode);
+    assertThat(plan.parser(2)).isSameAs(responseCode);
+    assertThat(plan.fixedFields()).isZero();
+  }
+
+  @Test
+  void plan_with_fixed_fields() {
+    FieldPlan<TestIsoMessage> plan = cache.get(bitmap(3, 70));
+    assertThat(plan.size()).isEqualTo(2);
+    assertThat(plan.fixedFields()).isEqualTo(2);
+    assertThat(plan.offset(2)).isEqualTo(9);
+  }
+
+  @Test
+  void plan_with_undefined_field() {
+    FieldPlan<TestIsoMessage> plan = cache.get(bitmap(3, 64));
+    assertThat(plan.parser(1).getFieldId()).isEqualTo(64);
+    assertThatThrownBy(() -> plan.parser(1).parse(null))
+        .isInstanceOf(UnsupportedOperationException.class)
+        .hasMessage("64: Undefined data field");
+  }
+
+  @Test
+  void hits_and_misses() {
+    FieldPlan<TestIsoMessage> plan = cache.get(bitmap(2, 3));
+    assertThat(cache.get(bitmap(2, 3))).isSameAs(plan);
+    assertThat(cache.get(bitmap(2, 3))).isSameAs(plan);
+    assertThat(cache.get(bitmap(3))).isNotSameAs(plan);
+
+    assertThat(cache.hits()).isEqualTo(2);
+    assertThat(cache.misses()).isEqualTo(2);
+    assertThat(cache.size()).isEqualTo(2);
+  }
+
+  @Test
+  void cached_bitmap_is_not_shared() {
+    ExtendableBitmap bitmap = bitmap(2, 3);
+    FieldPlan<TestIsoMessage> plan = cache.get(bitmap);
+    bitmap.set(70);
+    assertThat(cache.get(bitmap)).isNotSameAs(plan);
+    assertThat(cache.get(bitmap(2, 3))).isSameAs(plan);
+  }
+
+  @Test
+  void bounded() {
+    FieldPlanCache<TestIsoMessage> single = new FieldPlanCache<>(List.of(pan), 8, 1);
+    FieldPlan<TestIsoMessage> plan = single.get(bitmap(2));
+    single.get(bitmap(3));
+    assertThat(single.get(bitmap(2))).isNotSameAs(plan);
+    assertThat(single.capacity()).isEqualTo(1);
+    assertThat(single.size()).isEqualTo(1);
+    assertThat(single.evictions()).isEqualTo(2);
+    assertThat(single.misses()).isEqualTo(3);
+  }
+
+  @Test
+  void admits_after_burst() {
+    FieldPlanCache<TestIsoMessage> single = new FieldPlanCache<>(List.of(pan), 8, 1);
+    for (int bit = 2; bit < 64; bit++) {
+      single.get(bitmap(bit));
+    }
+    FieldPlan<TestIsoMessage> plan = single.get(bitmap(2, 3));
+    assertThat(single.get(bitmap(2, 3))).isSameAs(plan);
+    assertThat(single.hits()).isEqualTo(1);
+  }
+
+  @Test
+  void capacity() {
+    assertThat(cache.capacity()).isEqualTo(16);
+    assertThat(new FieldPlanCache<>(List.of(pan), 8, 5).capacity()).isEqualTo(8);
+  }
+
+  @Test
+  void invalid_maximum_size() {
+    List<IsoFieldParser<TestIsoMessage, ?>> parsers = List.of(pan);
+    assertThatThrownBy(() -> new FieldPlanCache<>(parsers, 8, 0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("maximum size should be between 1 and %d, but got [0]", 1 << 16);
+  }
+
+  @Test
+  void duplicate_parsers() {
+    List<IsoFieldParser<TestIsoMessage, ?>> parsers = List.of(pan, pan);
+    assertThatThrownBy(() -> new FieldPlanCache<>(parsers, 8, 1))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("duplicate parser for field [2]");
+  }
+
+  private static ExtendableBitmap bitmap(int... bits) {
+    ExtendableBitmap bitmap = new ExtendableBitmap(8).reset(2);
+    for (int bit : bits) {
+      bitmap.set(bit);
+    }
+    return bitmap;
+  }
+}
@@ -0,0 +1,52 @@
+package org.bytestreamparser.iso8583.parser;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.bytestreamparser.iso8583.helper.TestIsoMessage;
+import org.bytestreamparser.scalar.parser.CharStringParser;
+import org.junit.jupiter.api.Test;
+
+class FieldPlanTest {
+
+  @Test
+  void offsets_up_to_first_variable_field() {
+    IsoFieldParser<TestIsoMessage, ?> processingCode = fixed(3, 6);
+    IsoFieldParser<TestIsoMessage, ?> amount = fixed(4, 12);
+    IsoFieldParser<TestIsoMessage, ?> pan = variable(2);
+    IsoFieldParser<TestIsoMessage, ?> stan = fixed(11, 6);
+    FieldPlan<TestIsoMessage> plan = FieldPlan.of(List.of(processingCode, amount, pan, stan));
+
+    assertThat(plan.size()).isEqualTo(4);
+    assertThat(plan.parser(2)).isSameAs(pan);
+    assertThat(plan.fixedFields()).isEqualTo(2);
+    assertThat(plan.offset(0)).isZero();
+    assertThat(plan.offset(1)).isEqualTo(6);
+    assertThat(plan.offset(2)).isEqualTo(18);
+  }
+
+  @Test
+  void all_fixed_fields() {
+    FieldPlan<TestIsoMessage> plan = FieldPlan.of(List.of(fixed(3, 6), fixed(11, 6)));
+    assertThat(plan.fixedFields()).isEqualTo(2);
+    assertThat(plan.offset(2)).isEqualTo(12);
+  }
+
+  @Test
+  void empty_plan() {
+    FieldPlan<TestIsoMessage> plan = FieldPlan.of(List.of());
+    assertThat(plan.size()).isZero();
+    assertThat(plan.fixedFields()).isZero();
+    assertThat(plan.offset(0)).isZero();
+  }
+
+  private static IsoFieldParser<TestIsoMessage, String> fixed(int id, int length) {
+    return new IsoFieldParser<>(
+        id, new CharStringParser(String.valueOf(id), length, UTF_8), length);
+  }
+
+  private static IsoFieldParser<TestIsoMessage, String> variable(int id) {
+    return new IsoFieldParser<>(id, new CharStringParser(String.valueOf(id), 19, UTF_8));
+  }
+}
@@ -10,6 +10,9 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.EOFException;
 import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import org.bytestreamparser.iso8583.data.FixedBitmap;
 import org.bytestreamparser.iso8583.helper.TestHelper;
 import org.junit.jupiter.api.Test;
@@ -60,6 +63,26 @@ class FixedBitmapParserTest {
     }
   }
 
+  @Test
+  void parse_into(@Randomize byte[] content) throws IOException {
+    FixedBitmapParser parser = new FixedBitmapParser("id", content.length);
+    FixedBitmap bitmap = new FixedBitmap(content.length);
+    bitmap.set(1);
+    assertThat(parser.parseInto(new ByteArrayInputStream(content), bitmap)).isSameAs(bitmap);
+    assertThat(bitmap.toByteArray()).isEqualTo(content);
+  }
+
+  @Test
+  void parse_into_mismatched_bitmap(@Randomize byte[] content) {
+    FixedBitmapParser parser = new FixedBitmapParser("bitmap", content.length);
+    FixedBitmap bitmap = new FixedBitmap(content.length + 1);
+    ByteArrayInputStream input = new ByteArrayInputStream(content);
+    assertThatThrownBy(() -> parser.parseInto(input, bitmap))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage(
+            "bitmap: value must be %d bytes, but got [%d]", content.length, content.length + 1);
+  }
+
   @Test
   void parse_insufficient_data(@Randomize byte[] content) {
     ByteArrayInputStream input = new ByteArrayInputStream(content);
@@ -70,4 +93,28 @@ class FixedBitmapParserTest {
             "End of stream reached after reading %d bytes, bytes expected [%d]",
             content.length, content.length + 1);
   }
+
+  @Test
+  void pack_byte_buffer(@Randomize byte[] content) {
+    FixedBitmapParser parser = new FixedBitmapParser("bitmap", content.length);
+    ByteBuffer output = ByteBuffer.allocate(content.length);
+    parser.pack(FixedBitmap.valueOf(content), output);
+    assertThat(output.array()).isEqualTo(content);
+    assertThat(output.hasRemaining()).isFalse();
+
+    FixedBitmapParser other = new FixedBitmapParser("bitmap", content.length + 1);
+    assertThatThrownBy(() -> other.pack(FixedBitmap.valueOf(content), ByteBuffer.allocate(64)))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage(
+            "bitmap: value must be %d bytes, but got [%d]", content.length + 1, content.length);
+  }
+
+  @Test
+  void parse_byte_buffer(@Randomize(length = 9) byte[] content) {
+    FixedBitmapParser parser = new FixedBitmapParser("bitmap", 8);
+    ByteBuffer input = ByteBuffer.wrap(content);
+    assertThat(parser.parse(input)).isEqualTo(FixedBitmap.valueOf(Arrays.copyOf(content, 8)));
+    assertThat(input.remaining()).isEqualTo(1);
+    assertThatThrownBy(() -> parser.parse(input)).isInstanceOf(BufferUnderflowException.class);
+  }
 }
@@ -0,0 +1,123 @@
+package org.bytestreamparser.iso8583.parser;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.util.List;
+import org.bytestreamparser.iso8583.helper.TestIsoMessage;
+import org.bytestreamparser.iso8583.util.BinaryParsers;
+import org.bytestreamparser.scalar.parser.CharStringParser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class FrameEditorTest {
+  private static final String PRIMARY = "p\u0000\u0000\u0000\u0000\u0000\u0000\u0000";
+  private static final String SECONDARY = "\u0004\u0000\u0000\u0000\u0000\u0000\u0000\u0000";
+  private static final String FIELDS = "\u0005ABCDE" + "000000" + "000000001000";
+  private IsoMessageParser<TestIsoMessage> parser;
+
+  @BeforeEach
+  void setUp() {
+    parser =
+        new IsoMessageParser<>(
+            "message",
+            TestIsoMessage::new,
+            BinaryParsers.extendableBitmapParser("bitmap", 8),
+            List.of(
+                new IsoFieldParser<>(0, new CharStringParser("mti", 4, US_ASCII), 4),
+                new IsoFieldParser<>(2, BinaryParsers.binaryLVar("2")),
+                new IsoFieldParser<>(3, new CharStringParser("3", 6, US_ASCII), 6),
+                new IsoFieldParser<>(4, new CharStringParser("4", 12, US_ASCII), 12),
+                new IsoFieldParser<>(39, new CharStringParser("39", 2, US_ASCII), 2),
+                new IsoFieldParser<>(70, new CharStringParser("70", 3, US_ASCII), 3)));
+  }
+
+  @Test
+  void splice() throws IOException {
+    byte[] frame = bytes("xx0200" + PRIMARY + FIELDS + "yy");
+    FrameEditor editor = parser.edit(frame, 2, frame.length - 4);
+
+    editor.set(0, "0210").set(2, "ABC".getBytes(US_ASCII)).set(39, "00").clear(3);
+
+    assertThat(editor.toByteArray())
+        .isEqualTo(
+            bytes(
+                "0210"
+                    + "P\u0000\u0000\u0000\u0002\u0000\u0000\u0000"
+                    + "\u0003ABC"
+                    + "000000001000"
+                    + "00"));
+  }
+
+  @Test
+  void unchanged() throws IOException {
+    byte[] frame = bytes("0200" + "ð" + PRIMARY.substring(1) + SECONDARY + FIELDS + "301");
+    assertThat(parser.edit(frame, 0, frame.length).toByteArray()).isEqualTo(frame);
+  }
+
+  @Test
+  void add_and_remove_extension() throws IOException {
+    byte[] frame = bytes("0200" + PRIMARY + FIELDS);
+    FrameEditor editor = parser.edit(frame, 0, frame.length);
+
+    editor.replace(70, bytes("301"));
+    byte[] extended = editor.toByteArray();
+    assertThat(extended)
+        .isEqualTo(bytes("0200" + "ð" + PRIMARY.substring(1) + SECONDARY + FIELDS + "301"));
+
+    assertThat(parser.edit(extended, 0, extended.length).clear(70).toByteArray()).isEqualTo(frame);
+  }
+
+  @Test
+  void invalid_field() throws IOException {
+    byte[] frame = bytes("0200" + PRIMARY + FIELDS);
+    FrameEditor editor = parser.edit(frame, 0, frame.length);
+
+    assertThatThrownBy(() -> editor.replace(1, new byte[0]))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("invalid field [1]");
+    assertThatThrownBy(() -> editor.replace(65, new byte[0]))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("invalid field [65]");
+    assertThatThrownBy(() -> editor.clear(-1))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("invalid field [-1]");
+    assertThatThrownBy(() -> editor.clear(0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("invalid field [0]");
+    assertThatThrownBy(() -> editor.set(129, "value"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("invalid field [129]");
+    assertThatThrownBy(() -> editor.set(100, "value"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("no parser for field [100]");
+    assertThatThrownBy(() -> editor.set(5, "value"))
+        .isInstanceOf(UnsupportedOperationException.class)
+        .hasMessage("5: Undefined data field");
+  }
+
+  @Test
+  void no_message_type_indicator() throws IOException {
+    IsoMessageParser<TestIsoMessage> headless =
+        new IsoMessageParser<>(
+            "message",
+            TestIsoMessage::new,
+            BinaryParsers.extendableBitmapParser("bitmap", 8),
+            List.of(new IsoFieldParser<>(3, new CharStringParser("3", 6, US_ASCII), 6)));
+    byte[] frame = bytes(" \u0000\u0000\u0000\u0000\u0000\u0000\u0000" + "000000");
+    FrameEditor editor = headless.edit(frame, 0, frame.length);
+
+    assertThatThrownBy(() -> editor.replace(0, bytes("0210")))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("no parser for field [0]");
+    assertThat(editor.set(3, "123456").toByteArray())
+        .isEqualTo(bytes(" \u0000\u0000\u0000\u0000\u0000\u0000\u0000" + "123456"));
+  }
+
+  private static byte[] bytes(String value) {
+    return value.getBytes(ISO_8859_1);
+  }
+}
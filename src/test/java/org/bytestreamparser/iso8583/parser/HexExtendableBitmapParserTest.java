@@ -0,0 +1,106 @@
+package org.bytestreamparser.iso8583.parser;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import org.bytestreamparser.iso8583.data.ExtendableBitmap;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class HexExtendableBitmapParserTest {
+  private static final String PRIMARY = "F23C448108E08000";
+  private static final String SECONDARY = "0400000000000000";
+
+  @ParameterizedTest
+  @ValueSource(strings = {"US-ASCII", "IBM037", "IBM1047"})
+  void parse(String charset) throws IOException {
+    HexExtendableBitmapParser parser =
+        new HexExtendableBitmapParser("bitmap", 8, Charset.forName(charset));
+    String hex = (PRIMARY + SECONDARY).toLowerCase() + "0000";
+    ByteArrayInputStream input = new ByteArrayInputStream(hex.getBytes(Charset.forName(charset)));
+
+    ExtendableBitmap bitmap = parser.parse(input);
+    assertThat(bitmap.capacity()).isEqualTo(128);
+    assertThat(bitmap.get(1)).isTrue();
+    assertThat(bitmap.get(2)).isTrue();
+    assertThat(bitmap.get(70)).isTrue();
+    assertThat(bitmap.cardinality()).isEqualTo(19);
+    assertThat(input.available()).isEqualTo(4);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"US-ASCII", "IBM037", "IBM1047"})
+  void pack(String charset) throws IOException {
+    HexExtendableBitmapParser parser =
+        new HexExtendableBitmapParser("bitmap", 8, Charset.forName(charset));
+    ExtendableBitmap bitmap = new ExtendableBitmap(8).reset(3);
+    bitmap.set(2);
+    bitmap.set(70);
+
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    parser.pack(bitmap, output);
+    assertThat(new String(output.toByteArray(), Charset.forName(charset)))
+        .isEqualTo("C000000000000000" + SECONDARY);
+  }
+
+  @Test
+  void parse_into() throws IOException {
+    ExtendableBitmap bitmap = new ExtendableBitmap(8).reset(3);
+    bitmap.set(130);
+    HexExtendableBitmapParser parser =
+        new HexExtendableBitmapParser("bitmap", 8, US_ASCII, () -> bitmap);
+    ByteArrayInputStream input = new ByteArrayInputStream("723C448108E08000".getBytes(US_ASCII));
+    assertThat(parser.parse(input)).isSameAs(bitmap);
+    assertThat(bitmap.capacity()).isEqualTo(64);
+    assertThat(bitmap.get(3)).isTrue();
+  }
+
+  @Test
+  void parse_view() {
+    HexExtendableBitmapParser parser = new HexExtendableBitmapParser("bitmap", 8, US_ASCII);
+    ByteBuffer input = ByteBuffer.wrap(PRIMARY.getBytes(US_ASCII));
+    assertThatThrownBy(() -> parser.parseView(input))
+        .isInstanceOf(UnsupportedOperationException.class)
+        .hasMessage("bitmap: hex bitmaps cannot be viewed in place");
+  }
+
+  @Test
+  void byte_buffer() {
+    HexExtendableBitmapParser parser = new HexExtendableBitmapParser("bitmap", 8, US_ASCII);
+    byte[] hex = (PRIMARY + SECONDARY).getBytes(US_ASCII);
+    ByteBuffer input = ByteBuffer.wrap(hex);
+    ExtendableBitmap bitmap = parser.parse(input);
+    assertThat(bitmap.cardinality()).isEqualTo(19);
+    assertThat(input.hasRemaining()).isFalse();
+
+    ByteBuffer output = ByteBuffer.allocate(hex.length);
+    parser.pack(bitmap, output);
+    assertThat(output.array()).isEqualTo(hex);
+  }
+
+  @Test
+  void byte_buffer_insufficient_data() {
+    HexExtendableBitmapParser parser = new HexExtendableBitmapParser("bitmap", 8, US_ASCII);
+    ByteBuffer input = ByteBuffer.wrap((PRIMARY + SECONDARY.substring(1)).getBytes(US_ASCII));
+    assertThatThrownBy(() -> parser.parse(input)).isInstanceOf(BufferUnderflowException.class);
+    assertThat(input.position()).isZero();
+  }
+
+  @Test
+  void measure() {
+    HexExtendableBitmapParser parser = new HexExtendableBitmapParser("bitmap", 2, US_ASCII);
+    byte[] frame = "80000000".getBytes(US_ASCII);
+    assertThat(parser.measure(frame, 0, frame.length)).isEqualTo(8);
+    assertThat(parser.measure(frame, 4, frame.length)).isEqualTo(4);
+    assertThat(parser.measure(frame, 0, 6)).isEqualTo(Measurable.TRUNCATED);
+    assertThat(parser.measure("80G0".getBytes(US_ASCII), 0, 4)).isEqualTo(Measurable.MALFORMED);
+  }
+}
@@ -0,0 +1,95 @@
+package org.bytestreamparser.iso8583.parser;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.lyang.randomparamsresolver.RandomParametersExtension;
+import io.github.lyang.randomparamsresolver.RandomParametersExtension.Randomize;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
+import org.bytestreamparser.iso8583.data.FixedBitmap;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@ExtendWith(RandomParametersExtension.class)
+class HexFixedBitmapParserTest {
+
+  @ParameterizedTest
+  @ValueSource(strings = {"US-ASCII", "IBM037", "IBM1047"})
+  void pack(String charset, @Randomize(length = 16) byte[] content) throws IOException {
+    HexFixedBitmapParser parser =
+        new HexFixedBitmapParser("bitmap", content.length, Charset.forName(charset));
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    parser.pack(FixedBitmap.valueOf(content), output);
+    String expected = HexFormat.of().withUpperCase().formatHex(content);
+    assertThat(output.toByteArray()).isEqualTo(expected.getBytes(Charset.forName(charset)));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"US-ASCII", "IBM037", "IBM1047"})
+  void parse(String charset, @Randomize(length = 8) byte[] content) throws IOException {
+    HexFixedBitmapParser parser =
+        new HexFixedBitmapParser("bitmap", content.length, Charset.forName(charset));
+    String hex = HexFormat.of().formatHex(content) + "F";
+    ByteArrayInputStream input = new ByteArrayInputStream(hex.getBytes(Charset.forName(charset)));
+    assertThat(parser.parse(input)).isEqualTo(FixedBitmap.valueOf(content));
+    assertThat(input.available()).isEqualTo(1);
+  }
+
+  @Test
+  void parse_invalid_character() {
+    HexFixedBitmapParser parser = new HexFixedBitmapParser("bitmap", 2, US_ASCII);
+    ByteArrayInputStream input = new ByteArrayInputStream("12G4".getBytes(US_ASCII));
+    assertThatThrownBy(() -> parser.parse(input))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("bitmap: invalid hex character [0x47]");
+  }
+
+  @Test
+  void parse_insufficient_data() {
+    HexFixedBitmapParser parser = new HexFixedBitmapParser("bitmap", 2, US_ASCII);
+    ByteArrayInputStream input = new ByteArrayInputStream("123".getBytes(US_ASCII));
+    assertThatThrownBy(() -> parser.parse(input))
+        .isInstanceOf(EOFException.class)
+        .hasMessage("End of stream reached after reading 1 bytes, bytes expected [2]");
+  }
+
+  @Test
+  void multi_byte_charset() {
+    assertThatThrownBy(() -> new HexFixedBitmapParser("bitmap", 8, StandardCharsets.UTF_16))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("UTF-16 does not encode hex digits as single bytes");
+  }
+
+  @Test
+  void byte_buffer(@Randomize(length = 8) byte[] content) {
+    HexFixedBitmapParser parser = new HexFixedBitmapParser("bitmap", 8, US_ASCII);
+    byte[] hex = HexFormat.of().withUpperCase().formatHex(content).getBytes(US_ASCII);
+    ByteBuffer input = ByteBuffer.wrap(hex);
+    assertThat(parser.parse(input)).isEqualTo(FixedBitmap.valueOf(content));
+    assertThat(input.hasRemaining()).isFalse();
+
+    ByteBuffer output = ByteBuffer.allocate(hex.length);
+    parser.pack(FixedBitmap.valueOf(content), output);
+    assertThat(output.array()).isEqualTo(hex);
+
+    ByteBuffer small = ByteBuffer.allocate(hex.length - 1);
+    assertThatThrownBy(() -> parser.pack(FixedBitmap.valueOf(content), small))
+        .isInstanceOf(BufferOverflowException.class);
+    assertThat(small.position()).isZero();
+    ByteBuffer truncated = ByteBuffer.wrap(hex, 1, hex.length - 1);
+    assertThatThrownBy(() -> parser.parse(truncated)).isInstanceOf(BufferUnderflowException.class);
+    assertThat(truncated.position()).isEqualTo(1);
+  }
+}
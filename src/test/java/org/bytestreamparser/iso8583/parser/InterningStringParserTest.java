@@ -0,0 +1,54 @@
+package org.bytestreamparser.iso8583.parser;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.lyang.randomparamsresolver.RandomParametersExtension;
+import io.github.lyang.randomparamsresolver.RandomParametersExtension.Randomize;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(RandomParametersExtension.class)
+class InterningStringParserTest {
+  private StringInterner interner;
+  private InterningStringParser parser;
+
+  @BeforeEach
+  void setUp() {
+    interner = new StringInterner(SingleByteCharset.ASCII, 256);
+    parser = new InterningStringParser("49", 3, interner);
+  }
+
+  @Test
+  void pack_and_parse(@Randomize(length = 3, intMin = '0', intMax = '9') String value)
+      throws IOException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    parser.pack(value, output);
+    assertThat(output.toByteArray()).isEqualTo(value.getBytes(US_ASCII));
+    String parsed = parser.parse(new ByteArrayInputStream(output.toByteArray()));
+    assertThat(parsed).isEqualTo(value);
+    assertThat(parser.parse(new ByteArrayInputStream(output.toByteArray()))).isSameAs(parsed);
+    assertThat(interner.hits()).isOne();
+  }
+
+  @Test
+  void parse_leaves_remaining_bytes() throws IOException {
+    ByteArrayInputStream input = new ByteArrayInputStream("840978".getBytes(US_ASCII));
+    assertThat(parser.parse(input)).isEqualTo("840");
+    assertThat(parser.parse(input)).isEqualTo("978");
+    assertThat(input.available()).isZero();
+  }
+
+  @Test
+  void insufficient_data() {
+    assertThatThrownBy(() -> parser.parse(new ByteArrayInputStream("84".getBytes(US_ASCII))))
+        .isInstanceOf(EOFException.class)
+        .hasMessage("49: end of stream reached after reading 2 bytes, bytes expected [3]");
+  }
+}
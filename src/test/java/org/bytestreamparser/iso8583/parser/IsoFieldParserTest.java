@@ -8,7 +8,10 @@ import io.github.lyang.randomparamsresolver.RandomParametersExtension.Randomize;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.HexFormat;
+import org.bytestreamparser.iso8583.data.ArrayIsoMessage;
 import org.bytestreamparser.iso8583.helper.TestIsoMessage;
+import org.bytestreamparser.iso8583.util.BinaryParsers;
 import org.bytestreamparser.scalar.parser.CharStringParser;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -50,4 +53,96 @@ class IsoFieldParserTest {
     ByteArrayInputStream input = new ByteArrayInputStream(value.getBytes(UTF_8));
     assertThat(fieldParser.parse(input)).isEqualTo(value);
   }
+
+  @Test
+  void field_id_and_length() {
+    assertThat(fieldParser.getFieldId()).isEqualTo(bit);
+    assertThat(fieldParser.getLength()).isEqualTo(IsoFieldParser.VARIABLE_LENGTH);
+    assertThat(new IsoFieldParser<>(bit, new CharStringParser("PAN", 19, UTF_8), 19).getLength())
+        .isEqualTo(19);
+  }
+
+  @Test
+  void skip(@Randomize(length = 19) String value) throws IOException {
+    byte[] content = (value + value).getBytes(UTF_8);
+    ByteArrayInputStream input = new ByteArrayInputStream(content);
+    new IsoFieldParser<>(bit, new CharStringParser("PAN", 19, UTF_8), 19).skip(input);
+    assertThat(input.available()).isEqualTo(19);
+
+    fieldParser.skip(input);
+    assertThat(input.available()).isZero();
+  }
+
+  @Test
+  void skip_skippable(@Randomize(length = 10) byte[] content) throws IOException {
+    content[0] = 5;
+    ByteArrayInputStream input = new ByteArrayInputStream(content);
+    new IsoFieldParser<TestIsoMessage, byte[]>(bit, BinaryParsers.binaryLVar("PAN")).skip(input);
+    assertThat(input.available()).isEqualTo(4);
+  }
+
+  @Test
+  void parse_into_primitive_slot(@Randomize(intMin = 0, intMax = 1_000_000) int value)
+      throws IOException {
+    IsoFieldParser<ArrayIsoMessage, Integer> parser =
+        new IsoFieldParser<>(11, new BcdIntegerParser("11", 6), 3);
+    byte[] encoded = HexFormat.of().parseHex(String.format("%06d", value));
+    ArrayIsoMessage message = new ArrayIsoMessage();
+
+    parser.parseInto(message, new ByteArrayInputStream(encoded));
+    assertThat(message.hasPrimitive(11)).isTrue();
+    assertThat(message.getInt(11)).isEqualTo(value);
+
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    parser.packFrom(message, output);
+    assertThat(output.toByteArray()).isEqualTo(encoded);
+
+    message.set(11, value);
+    output.reset();
+    parser.packFrom(message, output);
+    assertThat(output.toByteArray()).isEqualTo(encoded);
+  }
+
+  @Test
+  void parse_into_boxed(@Randomize(length = 19) String value) throws IOException {
+    TestIsoMessage message = new TestIsoMessage();
+    fieldParser.parseInto(message, new ByteArrayInputStream(value.getBytes(UTF_8)));
+    assertThat(message.<String>get(String.valueOf(bit))).isEqualTo(value);
+
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    fieldParser.packFrom(message, output);
+    assertThat(output.toByteArray()).isEqualTo(value.getBytes(UTF_8));
+  }
+
+  @Test
+  void measure() {
+    byte[] frame = new byte[10];
+    IsoFieldParser<TestIsoMessage, String> fixed =
+        new IsoFieldParser<>(3, new CharStringParser("3", 6, UTF_8), 6);
+    assertThat(fixed.measure(frame, 2, frame.length)).isEqualTo(6);
+    assertThat(fixed.measure(frame, 5, frame.length)).isEqualTo(Measurable.TRUNCATED);
+    IsoFieldParser<TestIsoMessage, String> undelimited =
+        new IsoFieldParser<>(3, new CharStringParser("3", 6, UTF_8));
+    assertThat(undelimited.measure(frame, 0, frame.length)).isEqualTo(Measurable.UNDELIMITED);
+    IsoFieldParser<TestIsoMessage, Object> undefined =
+        new IsoFieldParser<>(3, new UndefinedDataFieldParser("3"));
+    assertThat(undefined.measure(frame, 0, frame.length)).isEqualTo(Measurable.UNDEFINED);
+  }
+
+  @Test
+  void validate() {
+    byte[] frame = {0x12, 0x34, 0x5A, 0x00};
+    IsoFieldParser<TestIsoMessage, Integer> fixed =
+        new IsoFieldParser<>(11, new BcdIntegerParser("11", 4), 2);
+    assertThat(fixed.validate(frame, 0, frame.length)).isEqualTo(2);
+    assertThat(fixed.validate(frame, 1, frame.length)).isEqualTo(Measurable.INVALID);
+    assertThat(fixed.validate(frame, 3, frame.length)).isEqualTo(Measurable.TRUNCATED);
+    IsoFieldParser<TestIsoMessage, Integer> variable =
+        new IsoFieldParser<>(11, new BcdIntegerParser("11", 4));
+    assertThat(variable.validate(frame, 0, frame.length)).isEqualTo(2);
+    assertThat(variable.validate(frame, 2, frame.length)).isEqualTo(Measurable.INVALID);
+    IsoFieldParser<TestIsoMessage, String> undelimited =
+        new IsoFieldParser<>(3, new CharStringParser("3", 2, UTF_8));
+    assertThat(undelimited.validate(frame, 0, frame.length)).isEqualTo(Measurable.UNDELIMITED);
+  }
 }
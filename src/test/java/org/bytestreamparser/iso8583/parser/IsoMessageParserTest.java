@@ -0,0 +1,498 @@
+package org.bytestreamparser.iso8583.parser;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.HexFormat;
+import java.util.List;
+import org.bytestreamparser.iso8583.data.ArrayIsoMessage;
+import org.bytestreamparser.iso8583.data.FixedBitmap;
+import org.bytestreamparser.iso8583.data.RawField;
+import org.bytestreamparser.iso8583.helper.TestIsoMessage;
+import org.bytestreamparser.iso8583.util.BinaryParsers;
+import org.bytestreamparser.iso8583.util.IntegerParsers;
+import org.bytestreamparser.scalar.parser.CharStringParser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class IsoMessageParserTest {
+  private static final String MESSAGE =
+      "0200"
+          + "\u00F0\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+          + "\u0004\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+          + "\u0005ABCDE"
+          + "000000"
+          + "000000001000"
+          + "301";
+  private IsoMessageParser<TestIsoMessage> parser;
+
+  @BeforeEach
+  void setUp() {
+    parser =
+        new IsoMessageParser<>(
+            "message",
+            TestIsoMessage::new,
+            BinaryParsers.extendableBitmapParser("bitmap", 8),
+            List.of(
+                new IsoFieldParser<>(0, new CharStringParser("mti", 4, US_ASCII), 4),
+                new IsoFieldParser<>(70, new CharStringParser("70", 3, US_ASCII), 3),
+                new IsoFieldParser<>(3, new CharStringParser("3", 6, US_ASCII), 6),
+                new IsoFieldParser<>(4, new CharStringParser("4", 12, US_ASCII), 12),
+                new IsoFieldParser<>(2, BinaryParsers.binaryLVar("2")),
+                new IsoFieldParser<>(11, new CharStringParser("11", 6, US_ASCII), 6)));
+  }
+
+  @Test
+  void parse() throws IOException {
+    ByteArrayInputStream input = new ByteArrayInputStream(bytes(MESSAGE + "tail"));
+    TestIsoMessage message = parser.parse(input);
+
+    assertThat(message.fields()).containsExactlyInAnyOrder("0", "2", "3", "4", "70");
+    assertThat(message.<String>get("0")).isEqualTo("0200");
+    assertThat(message.<byte[]>get("2")).isEqualTo(bytes("ABCDE"));
+    assertThat(message.<String>get("3")).isEqualTo("000000");
+    assertThat(message.<String>get("4")).isEqualTo("000000001000");
+    assertThat(message.<String>get("70")).isEqualTo("301");
+    assertThat(input.available()).isEqualTo(4);
+  }
+
+  @Test
+  void parse_with_plans() throws IOException {
+    IsoMessageParser<TestIsoMessage> planned =
+        new IsoMessageParser<>(
+            "message",
+            TestIsoMessage::new,
+            BinaryParsers.extendableBitmapParser("bitmap", 8),
+            List.of(
+                new IsoFieldParser<>(0, new CharStringParser("mti", 4, US_ASCII), 4),
+                new IsoFieldParser<>(70, new CharStringParser("70", 3, US_ASCII), 3),
+                new IsoFieldParser<>(3, new CharStringParser("3", 6, US_ASCII), 6),
+                new IsoFieldParser<>(4, new CharStringParser("4", 12, US_ASCII), 12),
+                new IsoFieldParser<>(2, BinaryParsers.binaryLVar("2"))),
+            Integer.MAX_VALUE,
+            16);
+    for (int round = 0; round < 3; round++) {
+      TestIsoMessage message = planned.parse(new ByteArrayInputStream(bytes(MESSAGE)));
+      assertThat(message.fields()).containsExactlyInAnyOrder("0", "2", "3", "4", "70");
+      assertThat(message.<byte[]>get("2")).isEqualTo(bytes("ABCDE"));
+      assertThat(message.<String>get("70")).isEqualTo("301");
+    }
+    assertThat(planned.plans().misses()).isEqualTo(1);
+    assertThat(planned.plans().hits()).isEqualTo(2);
+    assertThat(parser.plans()).isNull();
+  }
+
+  @Test
+  void parse_lazy_with_plans() throws IOException {
+    IsoMessageParser<TestIsoMessage> planned =
+        new IsoMessageParser<>(
+            "message",
+            TestIsoMessage::new,
+            BinaryParsers.extendableBitmapParser("bitmap", 8),
+            List.of(
+                new IsoFieldParser<>(0, new CharStringParser("mti", 4, US_ASCII), 4),
+                new IsoFieldParser<>(70, new CharStringParser("70", 3, US_ASCII), 3),
+                new IsoFieldParser<>(3, new CharStringParser("3", 6, US_ASCII), 6),
+                new IsoFieldParser<>(4, new CharStringParser("4", 12, US_ASCII), 12),
+                new IsoFieldParser<>(2, BinaryParsers.binaryLVar("2"))),
+            Integer.MAX_VALUE,
+            16);
+    String fixed = MESSAGE.replace("\u0005ABCDE", "").replaceFirst("\u00F0", "\u00B0");
+    for (String frame : List.of(MESSAGE, fixed)) {
+      LazyIsoMessage expected = parser.parseLazy(bytes(frame), 0, frame.length());
+      for (int round = 0; round < 2; round++) {
+        LazyIsoMessage message = planned.parseLazy(bytes(frame), 0, frame.length());
+        for (int field : new int[] {0, 2, 3, 4, 70}) {
+          assertThat(message.offset(field)).isEqualTo(expected.offset(field));
+          assertThat(message.length(field)).isEqualTo(expected.length(field));
+        }
+        assertThat(message.<String>get(70)).isEqualTo("301");
+      }
+    }
+    assertThat(planned.plans().hits()).isEqualTo(2);
+    assertThatThrownBy(() -> planned.parseLazy(bytes(fixed), 0, fixed.length() - 1))
+        .isInstanceOf(EOFException.class);
+  }
+
+  @Test
+  void parse_projection() throws IOException {
+    FixedBitmap projection = new FixedBitmap(8);
+    projection.set(2);
+    projection.set(4);
+    projection.set(11);
+    ByteArrayInputStream input = new ByteArrayInputStream(bytes(MESSAGE + "tail"));
+    TestIsoMessage message = parser.parse(input, projection);
+
+    assertThat(message.fields()).containsExactlyInAnyOrder("0", "2", "4");
+    assertThat(message.<String>get("0")).isEqualTo("0200");
+    assertThat(message.<byte[]>get("2")).isEqualTo(bytes("ABCDE"));
+    assertThat(message.<String>get("4")).isEqualTo("000000001000");
+    assertThat(input.available()).isEqualTo(4);
+  }
+
+  @Test
+  void parse_projection_of_secondary_fields() throws IOException {
+    FixedBitmap projection = new FixedBitmap(16);
+    projection.set(3);
+    projection.set(70);
+    TestIsoMessage message = parser.parse(new ByteArrayInputStream(bytes(MESSAGE)), projection);
+    assertThat(message.fields()).containsExactlyInAnyOrder("0", "3", "70");
+    assertThat(message.<String>get("70")).isEqualTo("301");
+  }
+
+  @Test
+  void pass_through() throws IOException {
+    byte[] frame = bytes("xx" + MESSAGE + "tail");
+    FixedBitmap projection = new FixedBitmap(8);
+    projection.set(3);
+    TestIsoMessage message = parser.parsePassThrough(frame, 2, frame.length - 2, projection);
+
+    assertThat(message.fields()).containsExactlyInAnyOrder("0", "2", "3", "4", "70");
+    assertThat(message.<String>get("0")).isEqualTo("0200");
+    assertThat(message.<String>get("3")).isEqualTo("000000");
+    assertThat(message.<RawField>get("2").toByteArray()).isEqualTo(bytes("\u0005ABCDE"));
+    assertThat(message.<RawField>get("4").toByteArray()).isEqualTo(bytes("000000001000"));
+    assertThat(message.<RawField>get("70").toByteArray()).isEqualTo(bytes("301"));
+    assertThat(message.isRaw(2)).isTrue();
+    assertThat(message.isRaw(3)).isFalse();
+    assertThat(message.isRaw(11)).isFalse();
+
+    message.set("3", "200000");
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    parser.pack(message, output);
+    assertThat(output.toByteArray())
+        .isEqualTo(bytes(MESSAGE.replace("ABCDE000000", "ABCDE200000")));
+  }
+
+  @Test
+  void pack() throws IOException {
+    TestIsoMessage message =
+        new TestIsoMessage()
+            .set("0", "0200")
+            .set("70", "301")
+            .set("4", "000000001000")
+            .set("3", "000000")
+            .set("2", bytes("ABCDE"));
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    parser.pack(message, output);
+    assertThat(HexFormat.of().formatHex(output.toByteArray()))
+        .isEqualTo(HexFormat.of().formatHex(bytes(MESSAGE)));
+  }
+
+  @Test
+  void pack_primary_bitmap_only() throws IOException {
+    TestIsoMessage message = new TestIsoMessage().set("0", "0800").set("11", "123456");
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    parser.pack(message, output);
+    assertThat(output.toByteArray())
+        .isEqualTo(bytes("0800\u0000 \u0000\u0000\u0000\u0000\u0000\u0000123456"));
+    assertThat(parser.parse(new ByteArrayInputStream(output.toByteArray())).fields())
+        .containsExactlyInAnyOrder("0", "11");
+  }
+
+  @Test
+  void array_message() throws IOException {
+    List<IsoFieldParser<ArrayIsoMessage, ?>> fields =
+        List.of(
+            new IsoFieldParser<>(0, new CharStringParser("mti", 4, US_ASCII), 4),
+            new IsoFieldParser<>(70, new CharStringParser("70", 3, US_ASCII), 3),
+            new IsoFieldParser<>(3, new CharStringParser("3", 6, US_ASCII), 6),
+            new IsoFieldParser<>(4, new CharStringParser("4", 12, US_ASCII), 12),
+            new IsoFieldParser<>(2, BinaryParsers.binaryLVar("2")));
+    IsoMessageParser<ArrayIsoMessage> arrayParser =
+        new IsoMessageParser<>(
+            "message",
+            ArrayIsoMessage::new,
+            BinaryParsers.extendableBitmapParser("bitmap", 8),
+            fields);
+    ArrayIsoMessage message = arrayParser.parse(new ByteArrayInputStream(bytes(MESSAGE)));
+    assertThat(message.<String>get(70)).isEqualTo("301");
+    assertThat(message.bitmap().stream().toArray()).containsExactly(1, 2, 3, 4, 70);
+
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    arrayParser.pack(message, output);
+    assertThat(output.toByteArray()).isEqualTo(bytes(MESSAGE));
+  }
+
+  @Test
+  void primitive_fields() throws IOException {
+    List<IsoFieldParser<ArrayIsoMessage, ?>> fields =
+        List.of(
+            new IsoFieldParser<>(0, new CharStringParser("mti", 4, US_ASCII), 4),
+            new IsoFieldParser<>(70, new TextIntegerParser("70", 3, US_ASCII), 3),
+            new IsoFieldParser<>(3, new CharStringParser("3", 6, US_ASCII), 6),
+            new IsoFieldParser<>(4, new TextLongParser("4", 12, US_ASCII), 12),
+            new IsoFieldParser<>(2, BinaryParsers.binaryLVar("2")));
+    IsoMessageParser<ArrayIsoMessage> arrayParser =
+        new IsoMessageParser<>(
+            "message",
+            ArrayIsoMessage::new,
+            BinaryParsers.extendableBitmapParser("bitmap", 8),
+            fields);
+    ArrayIsoMessage message = arrayParser.parse(new ByteArrayInputStream(bytes(MESSAGE)));
+    assertThat(message.hasPrimitive(4)).isTrue();
+    assertThat(message.getLong(4)).isEqualTo(1000L);
+    assertThat(message.hasPrimitive(70)).isTrue();
+    assertThat(message.getInt(70)).isEqualTo(301);
+
+    message.setLong(4, 2500L);
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    arrayParser.pack(message, output);
+    assertThat(output.toByteArray())
+        .isEqualTo(bytes(MESSAGE.replace("000000001000", "000000002500")));
+  }
+
+  @Test
+  void parse_undefined_field() {
+    ByteArrayInputStream input =
+        new ByteArrayInputStream(bytes("0800\u0000\u0000\u0000\u0000\u0000\u0000\u0000\u0001"));
+    assertThatThrownBy(() -> parser.parse(input))
+        .isInstanceOf(UnsupportedOperationException.class)
+        .hasMessage("64: Undefined data field");
+  }
+
+  @Test
+  void pack_undefined_field() {
+    List<IsoFieldParser<ArrayIsoMessage, ?>> fields =
+        List.of(
+            new IsoFieldParser<>(0, new CharStringParser("mti", 4, US_ASCII), 4),
+            new IsoFieldParser<>(3, new CharStringParser("3", 6, US_ASCII), 6));
+    IsoMessageParser<ArrayIsoMessage> arrayParser =
+        new IsoMessageParser<>(
+            "message",
+            ArrayIsoMessage::new,
+            BinaryParsers.extendableBitmapParser("bitmap", 8),
+            fields);
+    ArrayIsoMessage message = new ArrayIsoMessage().set(0, "0200").set(3, "000000");
+    message.set(5, "00");
+    assertThatThrownBy(() -> arrayParser.pack(message, new ByteArrayOutputStream()))
+        .isInstanceOf(UnsupportedOperationException.class)
+        .hasMessage("5: Undefined data field");
+
+    message.clear(5).set(100, "00");
+    assertThatThrownBy(() -> arrayParser.pack(message, new ByteArrayOutputStream()))
+        .isInstanceOf(UnsupportedOperationException.class)
+        .hasMessage("100: Undefined data field");
+  }
+
+  @Test
+  void decode() {
+    DecodeResult<TestIsoMessage> result = new DecodeResult<>();
+    byte[] frame = bytes("xx" + MESSAGE + "tail");
+    assertThat(parser.decode(frame, 2, frame.length - 2, result)).isTrue();
+    assertThat(result.status()).isEqualTo(DecodeStatus.OK);
+    assertThat(result.offset()).isEqualTo(2 + MESSAGE.length());
+    assertThat(result.message().fields()).containsExactlyInAnyOrder("0", "2", "3", "4", "70");
+    assertThat(result.message().<String>get("70")).isEqualTo("301");
+  }
+
+  @Test
+  void decode_truncated_field() {
+    DecodeResult<TestIsoMessage> result = new DecodeResult<>();
+    assertThat(parser.decode(bytes(MESSAGE), 0, 40, result)).isFalse();
+    assertThat(result.status()).isEqualTo(DecodeStatus.TRUNCATED);
+    assertThat(result.field()).isEqualTo(4);
+    assertThat(result.offset()).isEqualTo(32);
+    assertThat(result.message()).isNull();
+  }
+
+  @Test
+  void decode_truncated_bitmap() {
+    DecodeResult<TestIsoMessage> result = new DecodeResult<>();
+    assertThat(parser.decode(bytes(MESSAGE), 0, 10, result)).isFalse();
+    assertThat(result.status()).isEqualTo(DecodeStatus.TRUNCATED);
+    assertThat(result.field()).isEqualTo(DecodeResult.NO_FIELD);
+    assertThat(result.offset()).isEqualTo(4);
+  }
+
+  @Test
+  void decode_undefined_field() {
+    DecodeResult<TestIsoMessage> result = new DecodeResult<>();
+    byte[] frame = bytes(MESSAGE);
+    frame[4] |= 0x08;
+    assertThat(parser.decode(frame, 0, frame.length, result)).isFalse();
+    assertThat(result.status()).isEqualTo(DecodeStatus.UNDEFINED_FIELD);
+    assertThat(result.field()).isEqualTo(5);
+    assertThat(result.offset()).isEqualTo(44);
+  }
+
+  @Test
+  void decode_malformed_length() {
+    IsoMessageParser<TestIsoMessage> textParser = textParser();
+    DecodeResult<TestIsoMessage> result = new DecodeResult<>();
+    byte[] frame = bytes("\u0060\u0000\u0000\u0000\u0000\u0000\u0000\u00001XABCDE");
+    assertThat(textParser.decode(frame, 0, frame.length, result)).isFalse();
+    assertThat(result.status()).isEqualTo(DecodeStatus.MALFORMED);
+    assertThat(result.field()).isEqualTo(2);
+    assertThat(result.offset()).isEqualTo(8);
+  }
+
+  @Test
+  void decode_invalid_value() {
+    IsoMessageParser<TestIsoMessage> textParser = textParser();
+    DecodeResult<TestIsoMessage> result = new DecodeResult<>();
+    byte[] frame =
+        bytes("\u0060\u0000\u0000\u0000\u0000\u0000\u0000\u000005ABCDE\u0000\u00AA\u0000");
+    assertThat(textParser.decode(frame, 0, frame.length, result)).isFalse();
+    assertThat(result.status()).isEqualTo(DecodeStatus.INVALID_VALUE);
+    assertThat(result.field()).isEqualTo(3);
+    assertThat(result.offset()).isEqualTo(15);
+  }
+
+  @Test
+  void decode_invalid_text_value() {
+    IsoMessageParser<TestIsoMessage> textParser =
+        new IsoMessageParser<>(
+            "message",
+            TestIsoMessage::new,
+            BinaryParsers.extendableBitmapParser("bitmap", 8),
+            List.of(
+                new IsoFieldParser<>(2, BinaryParsers.textLLVar("2")),
+                new IsoFieldParser<>(11, new TextIntegerParser("11", 6, US_ASCII), 6)));
+    DecodeResult<TestIsoMessage> result = new DecodeResult<>();
+    byte[] frame = bytes("\u0040\u0020\u0000\u0000\u0000\u0000\u0000\u000005ABCDE00x001");
+    assertThat(textParser.decode(frame, 0, frame.length, result)).isFalse();
+    assertThat(result.status()).isEqualTo(DecodeStatus.INVALID_VALUE);
+    assertThat(result.field()).isEqualTo(11);
+    assertThat(result.offset()).isEqualTo(15);
+
+    frame = bytes("\u0040\u0020\u0000\u0000\u0000\u0000\u0000\u000005ABCDE000301");
+    assertThat(textParser.decode(frame, 0, frame.length, result)).isTrue();
+    assertThat(result.message().<Integer>get("11")).isEqualTo(301);
+  }
+
+  @Test
+  void decode_undelimited_field() {
+    IsoMessageParser<TestIsoMessage> undelimited =
+        new IsoMessageParser<>(
+            "message",
+            TestIsoMessage::new,
+            BinaryParsers.extendableBitmapParser("bitmap", 8),
+            List.of(
+                new IsoFieldParser<>(2, new CharStringParser("2", 4, US_ASCII)),
+                new IsoFieldParser<>(3, new CharStringParser("3", 6, US_ASCII))));
+    DecodeResult<TestIsoMessage> result = new DecodeResult<>();
+    byte[] frame = bytes("\u0060\u0000\u0000\u0000\u0000\u0000\u0000\u0000ABCD000");
+    assertThat(undelimited.decode(frame, 0, frame.length, result)).isFalse();
+    assertThat(result.status()).isEqualTo(DecodeStatus.TRUNCATED);
+    assertThat(result.field()).isEqualTo(3);
+    assertThat(result.offset()).isEqualTo(12);
+
+    frame = bytes("\u0060\u0000\u0000\u0000\u0000\u0000\u0000\u0000ABCD000000");
+    assertThat(undelimited.decode(frame, 0, frame.length, result)).isTrue();
+    assertThat(result.message().<String>get("3")).isEqualTo("000000");
+    assertThat(result.offset()).isEqualTo(frame.length);
+  }
+
+  @Test
+  void message_budget() throws IOException {
+    IsoMessageParser<TestIsoMessage> budget = budgetParser(24);
+    ByteArrayInputStream input = new ByteArrayInputStream(bytes(MESSAGE));
+    assertThatThrownBy(() -> budget.parse(input))
+        .isInstanceOf(EOFException.class)
+        .hasMessage("2: value needs 5 bytes, but only 3 bytes are left");
+
+    TestIsoMessage message =
+        budgetParser(MESSAGE.length()).parse(new ByteArrayInputStream(bytes(MESSAGE + "tail")));
+    assertThat(message.<String>get("70")).isEqualTo("301");
+  }
+
+  @Test
+  void decode_within_budget() {
+    DecodeResult<TestIsoMessage> result = new DecodeResult<>();
+    byte[] frame = bytes(MESSAGE);
+    assertThat(budgetParser(24).decode(frame, 0, frame.length, result)).isFalse();
+    assertThat(result.status()).isEqualTo(DecodeStatus.TRUNCATED);
+    assertThat(result.field()).isEqualTo(2);
+    assertThat(result.offset()).isEqualTo(20);
+  }
+
+  @Test
+  void declared_length_beyond_frame() {
+    byte[] frame = bytes(MESSAGE);
+    frame[20] = (byte) 0xFF;
+    assertThatThrownBy(() -> parser.parsePassThrough(frame, 0, frame.length, new FixedBitmap(16)))
+        .isInstanceOf(EOFException.class)
+        .hasMessage("2: value needs 255 bytes, but only 26 bytes are left");
+    assertThatThrownBy(() -> parser.parseLazy(frame, 0, frame.length))
+        .isInstanceOf(EOFException.class);
+  }
+
+  @Test
+  void invalid_plans() {
+    ExtendableBitmapParser bitmapParser = BinaryParsers.extendableBitmapParser("bitmap", 8);
+    assertThatThrownBy(
+            () ->
+                new IsoMessageParser<>(
+                    "message", TestIsoMessage::new, bitmapParser, List.of(), 1, -1))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("message: maximum plans should not be negative, but got [-1]");
+  }
+
+  @Test
+  void invalid_budget() {
+    ExtendableBitmapParser bitmapParser = BinaryParsers.extendableBitmapParser("bitmap", 8);
+    assertThatThrownBy(
+            () ->
+                new IsoMessageParser<>("message", TestIsoMessage::new, bitmapParser, List.of(), 0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("message: maximum message bytes should be positive, but got [0]");
+  }
+
+  @Test
+  void bitmap_field() {
+    List<IsoFieldParser<TestIsoMessage, ?>> fields =
+        List.of(new IsoFieldParser<>(65, new CharStringParser("65", 1, US_ASCII)));
+    ExtendableBitmapParser bitmapParser = BinaryParsers.extendableBitmapParser("bitmap", 8);
+    assertThatThrownBy(
+            () -> new IsoMessageParser<>("message", TestIsoMessage::new, bitmapParser, fields))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("message: invalid field [65]");
+  }
+
+  @Test
+  void duplicate_field() {
+    IsoFieldParser<TestIsoMessage, String> field =
+        new IsoFieldParser<>(3, new CharStringParser("3", 6, US_ASCII));
+    List<IsoFieldParser<TestIsoMessage, ?>> fields = List.of(field, field);
+    ExtendableBitmapParser bitmapParser = BinaryParsers.extendableBitmapParser("bitmap", 8);
+    assertThatThrownBy(
+            () -> new IsoMessageParser<>("message", TestIsoMessage::new, bitmapParser, fields))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("message: duplicate parser for field [3]");
+  }
+
+  private static IsoMessageParser<TestIsoMessage> budgetParser(int maxMessageBytes) {
+    return new IsoMessageParser<>(
+        "message",
+        TestIsoMessage::new,
+        BinaryParsers.extendableBitmapParser("bitmap", 8),
+        List.of(
+            new IsoFieldParser<>(0, new CharStringParser("mti", 4, US_ASCII), 4),
+            new IsoFieldParser<>(70, new CharStringParser("70", 3, US_ASCII), 3),
+            new IsoFieldParser<>(3, new CharStringParser("3", 6, US_ASCII), 6),
+            new IsoFieldParser<>(4, new CharStringParser("4", 12, US_ASCII), 12),
+            new IsoFieldParser<>(2, BinaryParsers.binaryLVar("2"))),
+        maxMessageBytes);
+  }
+
+  private static IsoMessageParser<TestIsoMessage> textParser() {
+    return new IsoMessageParser<>(
+        "message",
+        TestIsoMessage::new,
+        BinaryParsers.extendableBitmapParser("bitmap", 8),
+        List.of(
+            new IsoFieldParser<>(2, BinaryParsers.textLLVar("2")),
+            new IsoFieldParser<>(3, IntegerParsers.bcd("3", 6))));
+  }
+
+  private static byte[] bytes(String value) {
+    return value.getBytes(ISO_8859_1);
+  }
+}
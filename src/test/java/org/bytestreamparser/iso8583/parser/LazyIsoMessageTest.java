@@ -0,0 +1,162 @@
+package org.bytestreamparser.iso8583.parser;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import org.bytestreamparser.api.parser.DataParser;
+import org.bytestreamparser.iso8583.helper.TestIsoMessage;
+import org.bytestreamparser.iso8583.util.BinaryParsers;
+import org.bytestreamparser.iso8583.util.IntegerParsers;
+import org.bytestreamparser.iso8583.util.StringParsers;
+import org.bytestreamparser.scalar.parser.CharStringParser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class LazyIsoMessageTest {
+  private static final byte[] FRAME =
+      ("xx0200"
+              + "ð\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+              + "\u0004\u0000\u0000\u0000\u0000\u0000\u0000\u0000"
+              + "\u0005ABCDE"
+              + "000000"
+              + "12000000001000"
+              + "301"
+              + "yy")
+          .getBytes(ISO_8859_1);
+  private CountingParser amount;
+  private List<IsoFieldParser<TestIsoMessage, ?>> fields;
+  private IsoMessageParser<TestIsoMessage> parser;
+
+  @BeforeEach
+  void setUp() {
+    amount =
+        new CountingParser(
+            StringParsers.variableLength("4", IntegerParsers.text("4", 2), US_ASCII));
+    fields =
+        List.of(
+            new IsoFieldParser<>(0, new CharStringParser("mti", 4, US_ASCII), 4),
+            new IsoFieldParser<>(2, BinaryParsers.binaryLVar("2")),
+            new IsoFieldParser<>(3, new CharStringParser("3", 6, US_ASCII), 6),
+            new IsoFieldParser<>(4, amount),
+            new IsoFieldParser<>(70, new CharStringParser("70", 3, US_ASCII), 3));
+    parser =
+        new IsoMessageParser<>(
+            "message",
+            TestIsoMessage::new,
+            BinaryParsers.extendableBitmapParser("bitmap", 8),
+            fields);
+  }
+
+  @Test
+  void index_fields() throws IOException {
+    LazyIsoMessage message = parser.parseLazy(FRAME, 2, FRAME.length - 2);
+
+    assertThat(message.frame()).isSameAs(FRAME);
+    assertThat(message.bitmap().cardinality()).isEqualTo(5);
+    assertThat(message.offset(0)).isEqualTo(2);
+    assertThat(message.length(0)).isEqualTo(4);
+    assertThat(message.offset(2)).isEqualTo(22);
+    assertThat(message.length(2)).isEqualTo(6);
+    assertThat(message.offset(4)).isEqualTo(34);
+    assertThat(message.length(4)).isEqualTo(14);
+    assertThat(message.offset(70)).isEqualTo(48);
+    assertThat(message.length(70)).isEqualTo(3);
+    assertThat(message.offset(11)).isEqualTo(-1);
+    assertThat(message.length(11)).isEqualTo(-1);
+    assertThat(amount.parses).isZero();
+  }
+
+  @Test
+  void recycling_bitmap_parser() throws IOException {
+    IsoMessageParser<TestIsoMessage> recycling =
+        new IsoMessageParser<>(
+            "message",
+            TestIsoMessage::new,
+            BinaryParsers.recyclingExtendableBitmap("bitmap", 8),
+            fields);
+    LazyIsoMessage message = recycling.parseLazy(FRAME, 2, FRAME.length - 2);
+    byte[] other = "0200 \u0000\u0000\u0000\u0000\u0000\u0000\u0000000000".getBytes(ISO_8859_1);
+    recycling.parseLazy(other, 0, other.length);
+
+    assertThat(message.bitmap().cardinality()).isEqualTo(5);
+    assertThat(message.bitmap().get(70)).isTrue();
+  }
+
+  @Test
+  void decode_on_access() throws IOException {
+    LazyIsoMessage message = parser.parseLazy(FRAME, 2, FRAME.length - 2);
+
+    assertThat(message.<String>get(0)).isEqualTo("0200");
+    assertThat(message.<byte[]>get(2)).isEqualTo("ABCDE".getBytes(US_ASCII));
+    assertThat(message.<String>get(70)).isEqualTo("301");
+    assertThat(amount.parses).isZero();
+
+    assertThat(message.<String>get(4)).isEqualTo("000000001000");
+    assertThat(message.<String>get(4)).isEqualTo("000000001000");
+    assertThat(amount.parses).isEqualTo(1);
+  }
+
+  @Test
+  void absent_fields() throws IOException {
+    LazyIsoMessage message = parser.parseLazy(FRAME, 2, FRAME.length - 2);
+    assertThat(message.hasDataField(3)).isTrue();
+    assertThat(message.hasDataField(11)).isFalse();
+    assertThat(message.hasDataField(1)).isFalse();
+    assertThat(message.hasDataField(-1)).isFalse();
+    assertThat(message.hasDataField(200)).isFalse();
+    assertThat(message.<String>get(11)).isNull();
+  }
+
+  @Test
+  void truncated_frame() {
+    assertThatThrownBy(() -> parser.parseLazy(FRAME, 2, FRAME.length - 6))
+        .isInstanceOf(EOFException.class);
+  }
+
+  @Test
+  void decode_failure() throws IOException {
+    byte[] frame = FRAME.clone();
+    LazyIsoMessage message = parser.parseLazy(frame, 2, frame.length - 2);
+    frame[34] = '9';
+    frame[35] = '9';
+    assertThatThrownBy(() -> message.get(4))
+        .isInstanceOf(UncheckedIOException.class)
+        .hasCauseInstanceOf(EOFException.class);
+  }
+
+  private static final class CountingParser extends DataParser<String> implements Skippable {
+    private final DataParser<String> delegate;
+    private final Skippable skippable;
+    private int parses;
+
+    private CountingParser(DataParser<String> delegate) {
+      super(delegate.getId());
+      this.delegate = delegate;
+      this.skippable = (Skippable) delegate;
+    }
+
+    @Override
+    public void pack(String value, OutputStream output) throws IOException {
+      delegate.pack(value, output);
+    }
+
+    @Override
+    public String parse(InputStream input) throws IOException {
+      parses++;
+      return delegate.parse(input);
+    }
+
+    @Override
+    public void skip(InputStream input) throws IOException {
+      skippable.skip(input);
+    }
+  }
+}
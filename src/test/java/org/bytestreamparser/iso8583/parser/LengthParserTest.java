@@ -0,0 +1,122 @@
+package org.bytestreamparser.iso8583.parser;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.charset.StandardCharsets.UTF_16;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.lyang.randomparamsresolver.RandomParametersExtension;
+import io.github.lyang.randomparamsresolver.RandomParametersExtension.Randomize;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.HexFormat;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@ExtendWith(RandomParametersExtension.class)
+class LengthParserTest {
+
+  @ParameterizedTest
+  @ValueSource(strings = {"US-ASCII", "IBM037", "IBM1047"})
+  void text(String charsetName, @Randomize(intMin = 0, intMax = 1000) int value)
+      throws IOException {
+    Charset charset = Charset.forName(charsetName);
+    LengthParser parser = LengthParser.text("length", 3, charset);
+    byte[] encoded = String.format("%03d", value).getBytes(charset);
+
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    parser.packInt(value, output);
+    assertThat(output.toByteArray()).isEqualTo(encoded);
+    assertThat(parser.parseInt(new ByteArrayInputStream(encoded))).isEqualTo(value);
+    assertThat(parser.parse(new ByteArrayInputStream(encoded))).isEqualTo(value);
+    assertThat(parser.getBytes()).isEqualTo(3);
+    assertThat(parser.getMax()).isEqualTo(999);
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 2, 3, 4, 9})
+  void bcd(int digits, @Randomize(intMin = 0, intMax = 10) int seed) throws IOException {
+    LengthParser parser = LengthParser.bcd("length", digits);
+    int value = (int) ((Math.pow(10, digits) - 1) * seed / 10);
+    byte[] encoded =
+        HexFormat.of().parseHex(String.format("%0" + (digits + digits % 2) + "d", value));
+
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    parser.pack(value, output);
+    assertThat(output.toByteArray()).isEqualTo(encoded);
+    assertThat(parser.parseInt(new ByteArrayInputStream(encoded))).isEqualTo(value);
+    assertThat(parser.getBytes()).isEqualTo(encoded.length);
+    assertThat(parser.getMax()).isEqualTo((int) Math.pow(10, digits) - 1);
+  }
+
+  @Test
+  void bcd_invalid_padding() {
+    LengthParser parser = LengthParser.bcd("length", 3);
+    assertThatThrownBy(() -> parser.parseInt(new ByteArrayInputStream(new byte[] {0x51, 0x23})))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("length: invalid BCD byte [0x51]");
+    assertThat(parser.tryParseInt(new byte[] {(byte) 0x9F, 0x12}, 0)).isEqualTo(-1);
+  }
+
+  @Test
+  void invalid_digit() {
+    LengthParser text = LengthParser.text("length", 2, US_ASCII);
+    assertThatThrownBy(() -> text.parseInt(new ByteArrayInputStream("1A".getBytes(US_ASCII))))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("length: invalid digit [0x41]");
+
+    LengthParser bcd = LengthParser.bcd("length", 2);
+    assertThatThrownBy(() -> bcd.parseInt(new ByteArrayInputStream(new byte[] {0x1A})))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("length: invalid BCD byte [0x1A]");
+  }
+
+  @Test
+  void insufficient_data() {
+    LengthParser parser = LengthParser.text("length", 3, US_ASCII);
+    assertThatThrownBy(() -> parser.parseInt(new ByteArrayInputStream("12".getBytes(US_ASCII))))
+        .isInstanceOf(EOFException.class)
+        .hasMessage("length: end of stream reached after reading 2 bytes, bytes expected [3]");
+  }
+
+  @Test
+  void value_out_of_range() {
+    LengthParser parser = LengthParser.text("length", 2, US_ASCII);
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    assertThatThrownBy(() -> parser.packInt(100, output))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("length: value should be between 0 and 99, but got [100]");
+    assertThatThrownBy(() -> parser.pack(-1, output))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("length: value should be between 0 and 99, but got [-1]");
+  }
+
+  @Test
+  void invalid_parser() {
+    assertThatThrownBy(() -> LengthParser.text("length", 2, UTF_16))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("UTF-16 does not encode decimal digits as single bytes");
+    assertThatThrownBy(() -> LengthParser.bcd("length", 0))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("length: digits should be between 1 and 9, but got [0]");
+    assertThatThrownBy(() -> LengthParser.bcd("length", 10))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("length: digits should be between 1 and 9, but got [10]");
+  }
+
+  @Test
+  void try_parse_int() {
+    LengthParser text = LengthParser.text("length", 3, US_ASCII);
+    assertThat(text.tryParseInt("x128".getBytes(US_ASCII), 1)).isEqualTo(128);
+    assertThat(text.tryParseInt("1A8".getBytes(US_ASCII), 0)).isEqualTo(-1);
+
+    LengthParser bcd = LengthParser.bcd("length", 3);
+    assertThat(bcd.tryParseInt(new byte[] {0x01, 0x28}, 0)).isEqualTo(128);
+    assertThat(bcd.tryParseInt(new byte[] {0x01, 0x2A}, 0)).isEqualTo(-1);
+  }
+}
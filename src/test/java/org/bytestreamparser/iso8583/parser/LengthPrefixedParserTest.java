@@ -0,0 +1,273 @@
+package org.bytestreamparser.iso8583.parser;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.lyang.randomparamsresolver.RandomParametersExtension;
+import io.github.lyang.randomparamsresolver.RandomParametersExtension.Randomize;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntUnaryOperator;
+import org.bytestreamparser.scalar.parser.BinaryParser;
+import org.bytestreamparser.scalar.parser.CharStringParser;
+import org.bytestreamparser.scalar.parser.UnsignedByteParser;
+import org.bytestreamparser.scalar.parser.UnsignedShortParser;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(RandomParametersExtension.class)
+class LengthPrefixedParserTest {
+
+  @Test
+  void pack_and_parse(@Randomize(length = 10) byte[] value) throws IOException {
+    LengthPrefixedParser<byte[]> parser = binary(IntUnaryOperator.identity());
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    parser.pack(value, output);
+    byte[] packed = output.toByteArray();
+    assertThat(packed).hasSize(11).startsWith(10);
+    assertThat(parser.parse(new ByteArrayInputStream(packed))).isEqualTo(value);
+  }
+
+  @Test
+  void skip(@Randomize(length = 12) byte[] content) throws IOException {
+    content[0] = 10;
+    ByteArrayInputStream input = new ByteArrayInputStream(content);
+    binary(IntUnaryOperator.identity()).skip(input);
+    assertThat(input.available()).isEqualTo(1);
+  }
+
+  @Test
+  void skip_by_decoding(@Randomize(length = 5, intMin = 'a', intMax = 'z') String value)
+      throws IOException {
+    LengthPrefixedParser<String> parser =
+        new LengthPrefixedParser<>(
+            "text",
+            new UnsignedByteParser("text"),
+            length -> new CharStringParser("text", length, UTF_8),
+            string -> (int) string.codePoints().count(),
+            null);
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    parser.pack(value + "é", output);
+    output.write(1);
+    ByteArrayInputStream input = new ByteArrayInputStream(output.toByteArray());
+    parser.skip(input);
+    assertThat(input.available()).isEqualTo(1);
+  }
+
+  @Test
+  void skip_insufficient_data(@Randomize(length = 5) byte[] content) {
+    content[0] = 10;
+    ByteArrayInputStream input = new ByteArrayInputStream(content);
+    LengthPrefixedParser<byte[]> parser = binary(IntUnaryOperator.identity());
+    assertThatThrownBy(() -> parser.skip(input)).isInstanceOf(EOFException.class);
+  }
+
+  @Test
+  void value_parsers_are_cached(@Randomize(length = 10) byte[] value) throws IOException {
+    AtomicInteger created = new AtomicInteger();
+    LengthPrefixedParser<byte[]> parser =
+        new LengthPrefixedParser<>(
+            "binary",
+            LengthParser.text("binary", 2, UTF_8),
+            length -> {
+              created.incrementAndGet();
+              return new BinaryParser("binary", length);
+            },
+            bytes -> bytes.length,
+            IntUnaryOperator.identity());
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    parser.pack(value, output);
+    parser.pack(value, output);
+    ByteArrayInputStream input = new ByteArrayInputStream(output.toByteArray());
+    assertThat(parser.parse(input)).isEqualTo(value);
+    assertThat(parser.parse(input)).isEqualTo(value);
+    assertThat(created).hasValue(1);
+  }
+
+  @Test
+  void value_parsers_beyond_cached_lengths(
+      @Randomize(length = LengthPrefixedParser.CACHED_LENGTHS) byte[] value) throws IOException {
+    AtomicInteger created = new AtomicInteger();
+    LengthPrefixedParser<byte[]> parser =
+        new LengthPrefixedParser<>(
+            "binary",
+            new UnsignedShortParser("binary"),
+            length -> {
+              created.incrementAndGet();
+              return new BinaryParser("binary", length);
+            },
+            bytes -> bytes.length,
+            IntUnaryOperator.identity());
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    parser.pack(value, output);
+    assertThat(parser.parse(new ByteArrayInputStream(output.toByteArray()))).isEqualTo(value);
+    assertThat(created).hasValue(2);
+  }
+
+  @Test
+  void pack_with_encoder(@Randomize(length = 8, intMin = 'a', intMax = 'z') String value)
+      throws IOException {
+    AtomicInteger created = new AtomicInteger();
+    LengthPrefixedParser<String> parser =
+        new LengthPrefixedParser<>(
+            "text",
+            LengthParser.text("text", 2, UTF_8),
+            length -> {
+              created.incrementAndGet();
+              return new CharStringParser("text", length, UTF_8);
+            },
+            String::length,
+            IntUnaryOperator.identity(),
+            string -> string.toUpperCase().getBytes(UTF_8));
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    parser.pack(value, output);
+    assertThat(output.toByteArray()).isEqualTo(("08" + value.toUpperCase()).getBytes(UTF_8));
+    assertThat(created).hasValue(0);
+  }
+
+  @Test
+  void parse_beyond_max_length(@Randomize(length = 12) byte[] content) {
+    content[0] = 10;
+    LengthPrefixedParser<byte[]> parser = binary(8);
+    assertThatThrownBy(() -> parser.parse(new ByteArrayInputStream(content)))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("binary: length should be between 0 and 8, but got [10]");
+    assertThatThrownBy(() -> parser.skip(new ByteArrayInputStream(content)))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void pack_beyond_max_length(@Randomize(length = 10) byte[] value) {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    assertThatThrownBy(() -> binary(8).pack(value, output))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("binary: length should be between 0 and 8, but got [10]");
+    assertThat(output.size()).isZero();
+  }
+
+  @Test
+  void encoded_length_without_encoder() {
+    assertThatThrownBy(
+            () ->
+                new LengthPrefixedParser<byte[]>(
+                    "binary",
+                    new UnsignedByteParser("binary"),
+                    length -> new BinaryParser("binary", length),
+                    null,
+                    IntUnaryOperator.identity(),
+                    null))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("binary: an encoder is required to take the length of a value from its bytes");
+  }
+
+  @Test
+  void measure_beyond_max_length() {
+    byte[] frame = {10, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10};
+    assertThat(binary(10).measure(frame, 0, frame.length)).isEqualTo(11);
+    assertThat(binary(8).measure(frame, 0, frame.length)).isEqualTo(Measurable.MALFORMED);
+  }
+
+  @Test
+  void negative_max_length() {
+    UnsignedByteParser lengthParser = new UnsignedByteParser("binary");
+    assertThatThrownBy(
+            () ->
+                new LengthPrefixedParser<byte[]>(
+                    "binary",
+                    lengthParser,
+                    length -> new BinaryParser("binary", length),
+                    bytes -> bytes.length,
+                    IntUnaryOperator.identity(),
+                    null,
+                    -1))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("binary: maximum length should not be negative, but got [-1]");
+  }
+
+  @Test
+  void parse_beyond_bounded_input(@Randomize(length = 12) byte[] content) {
+    content[0] = (byte) 0xFF;
+    content[1] = (byte) 0xFF;
+    AtomicInteger created = new AtomicInteger();
+    LengthPrefixedParser<byte[]> parser =
+        new LengthPrefixedParser<>(
+            "binary",
+            new UnsignedShortParser("binary"),
+            length -> {
+              created.incrementAndGet();
+              return new BinaryParser("binary", length);
+            },
+            bytes -> bytes.length,
+            IntUnaryOperator.identity());
+    BoundedInputStream input = new BoundedInputStream(new ByteArrayInputStream(content), 8);
+    assertThatThrownBy(() -> parser.parse(input))
+        .isInstanceOf(EOFException.class)
+        .hasMessage("binary: value needs 65535 bytes, but only 6 bytes are left");
+    assertThat(created).hasValue(0);
+  }
+
+  private static LengthPrefixedParser<byte[]> binary(int maxLength) {
+    return new LengthPrefixedParser<>(
+        "binary",
+        new UnsignedByteParser("binary"),
+        length -> new BinaryParser("binary", length),
+        bytes -> bytes.length,
+        IntUnaryOperator.identity(),
+        null,
+        maxLength);
+  }
+
+  private static LengthPrefixedParser<byte[]> binary(IntUnaryOperator encodedLength) {
+    return new LengthPrefixedParser<>(
+        "binary",
+        new UnsignedByteParser("binary"),
+        length -> new BinaryParser("binary", length),
+        bytes -> bytes.length,
+        encodedLength);
+  }
+
+  @Test
+  void measure() {
+    LengthPrefixedParser<byte[]> parser = binary(IntUnaryOperator.identity());
+    byte[] frame = {0, 3, 1, 2, 3};
+    assertThat(parser.measure(frame, 1, frame.length)).isEqualTo(4);
+    assertThat(parser.measure(frame, 0, 1)).isEqualTo(1);
+    assertThat(parser.measure(frame, 1, 4)).isEqualTo(Measurable.TRUNCATED);
+    assertThat(parser.measure(frame, 5, 5)).isEqualTo(Measurable.TRUNCATED);
+    assertThat(binary(null).measure(frame, 1, frame.length)).isEqualTo(Measurable.UNDELIMITED);
+  }
+
+  @Test
+  void measure_text_length() {
+    LengthPrefixedParser<byte[]> parser =
+        new LengthPrefixedParser<>(
+            "binary",
+            LengthParser.text("binary", 2, UTF_8),
+            length -> new BinaryParser("binary", length),
+            bytes -> bytes.length,
+            IntUnaryOperator.identity());
+    assertThat(parser.measure("03abc".getBytes(UTF_8), 0, 5)).isEqualTo(5);
+    assertThat(parser.measure("0xabc".getBytes(UTF_8), 0, 5)).isEqualTo(Measurable.MALFORMED);
+  }
+
+  @Test
+  void validate() {
+    LengthPrefixedParser<Integer> parser =
+        new LengthPrefixedParser<>(
+            "amount",
+            new UnsignedByteParser("amount"),
+            length -> new TextIntegerParser("amount", length, UTF_8),
+            value -> String.valueOf(value).length(),
+            IntUnaryOperator.identity());
+    assertThat(parser.validate("\u0003123".getBytes(UTF_8), 0, 4)).isEqualTo(4);
+    assertThat(parser.validate("\u00031x3".getBytes(UTF_8), 0, 4)).isEqualTo(Measurable.INVALID);
+    assertThat(parser.validate("\u0003123".getBytes(UTF_8), 0, 3)).isEqualTo(Measurable.TRUNCATED);
+    LengthPrefixedParser<byte[]> binary = binary(IntUnaryOperator.identity());
+    byte[] frame = {3, 1, 2, 3};
+    assertThat(binary.validate(frame, 0, frame.length)).isEqualTo(4);
+  }
+}
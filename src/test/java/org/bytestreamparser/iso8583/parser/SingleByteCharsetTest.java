@@ -0,0 +1,59 @@
+package org.bytestreamparser.iso8583.parser;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.Charset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class SingleByteCharsetTest {
+
+  @ParameterizedTest
+  @ValueSource(strings = {"US-ASCII", "ISO-8859-1", "IBM037", "IBM1047", "windows-1252"})
+  void matches_charset(String charsetName) {
+    Charset charset = Charset.forName(charsetName);
+    SingleByteCharset tables = SingleByteCharset.of(charset);
+    byte[] bytes = new byte[256];
+    for (int index = 0; index < bytes.length; index++) {
+      bytes[index] = (byte) index;
+    }
+    String decoded = new String(bytes, charset);
+    assertThat(tables.decode(bytes, 0, bytes.length)).isEqualTo(decoded);
+    assertThat(tables.charset()).isEqualTo(charset);
+    assertThat(tables).hasToString(charset.name());
+
+    byte[] encoded = new byte[decoded.length()];
+    tables.encode(decoded, encoded, 0);
+    assertThat(encoded).isEqualTo(decoded.getBytes(charset));
+  }
+
+  @Test
+  void constants() {
+    assertThat(SingleByteCharset.ASCII.decode(0x41)).isEqualTo('A');
+    assertThat(SingleByteCharset.ISO_8859_1.decode(0xE9)).isEqualTo('é');
+    assertThat(SingleByteCharset.CP037.decode(0xC1)).isEqualTo('A');
+    assertThat(SingleByteCharset.CP1047.decode(0x5F)).isEqualTo('^');
+    assertThat(SingleByteCharset.CP037.decode(0x5F)).isEqualTo('¬');
+    assertThat(SingleByteCharset.CP1047.encode('0')).isEqualTo((byte) 0xF0);
+  }
+
+  @Test
+  void unmappable() {
+    assertThat(SingleByteCharset.ASCII.decode(0x80)).isEqualTo('�');
+    assertThat(SingleByteCharset.ASCII.encode('é')).isEqualTo("é".getBytes(US_ASCII)[0]);
+    assertThat(SingleByteCharset.CP037.encode('€'))
+        .isEqualTo("€".getBytes(Charset.forName("IBM037"))[0]);
+    assertThat(SingleByteCharset.ASCII.encode('\u0000')).isZero();
+  }
+
+  @Test
+  void multi_byte_charset() {
+    assertThatThrownBy(() -> SingleByteCharset.of(UTF_8))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("UTF-8 is not a single-byte charset");
+  }
+}
@@ -0,0 +1,46 @@
+package org.bytestreamparser.iso8583.parser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.lyang.randomparamsresolver.RandomParametersExtension;
+import io.github.lyang.randomparamsresolver.RandomParametersExtension.Randomize;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(RandomParametersExtension.class)
+class SingleByteStringParserTest {
+  private static final Charset IBM1047 = Charset.forName("IBM1047");
+
+  @Test
+  void pack_and_parse(@Randomize(length = 40, intMin = ' ', intMax = '~') String value)
+      throws IOException {
+    SingleByteStringParser parser = new SingleByteStringParser("43", 40, SingleByteCharset.CP1047);
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    parser.pack(value, output);
+    assertThat(output.toByteArray()).isEqualTo(value.getBytes(IBM1047));
+    assertThat(parser.parse(new ByteArrayInputStream(value.getBytes(IBM1047)))).isEqualTo(value);
+  }
+
+  @Test
+  void invalid_length(@Randomize(length = 39) String value) {
+    SingleByteStringParser parser = new SingleByteStringParser("43", 40, SingleByteCharset.CP1047);
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    assertThatThrownBy(() -> parser.pack(value, output))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("43: value should have 40 characters, but got [39]");
+  }
+
+  @Test
+  void insufficient_data(@Randomize(length = 39) byte[] content) {
+    SingleByteStringParser parser = new SingleByteStringParser("43", 40, SingleByteCharset.ASCII);
+    assertThatThrownBy(() -> parser.parse(new ByteArrayInputStream(content)))
+        .isInstanceOf(EOFException.class)
+        .hasMessage("43: end of stream reached after reading 39 bytes, bytes expected [40]");
+  }
+}
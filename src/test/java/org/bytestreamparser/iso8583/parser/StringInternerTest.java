@@ -0,0 +1,74 @@
+package org.bytestreamparser.iso8583.parser;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.Charset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class StringInternerTest {
+  @Test
+  void intern_shares_values() {
+    StringInterner interner = new StringInterner(SingleByteCharset.ASCII, 16);
+    String first = interner.intern("xx840xx".getBytes(US_ASCII), 2, 3);
+    String second = interner.intern("978840".getBytes(US_ASCII), 3, 3);
+    assertThat(first).isEqualTo("840");
+    assertThat(second).isSameAs(first);
+    assertThat(interner.hits()).isEqualTo(1);
+    assertThat(interner.misses()).isEqualTo(1);
+    assertThat(interner.hitRate()).isEqualTo(0.5);
+  }
+
+  @Test
+  void intern_distinguishes_values() {
+    StringInterner interner = new StringInterner(SingleByteCharset.ASCII, 16);
+    assertThat(interner.intern("00".getBytes(US_ASCII), 0, 2)).isEqualTo("00");
+    assertThat(interner.intern("05".getBytes(US_ASCII), 0, 2)).isEqualTo("05");
+    assertThat(interner.intern("005".getBytes(US_ASCII), 0, 3)).isEqualTo("005");
+    assertThat(interner.intern("".getBytes(US_ASCII), 0, 0)).isEmpty();
+    assertThat(interner.hits()).isZero();
+    assertThat(interner.misses()).isEqualTo(4);
+  }
+
+  @Test
+  void intern_decodes_charset() {
+    StringInterner interner = new StringInterner(SingleByteCharset.CP1047, 16);
+    byte[] encoded = "5411".getBytes(Charset.forName("IBM1047"));
+    assertThat(interner.intern(encoded, 0, encoded.length)).isEqualTo("5411");
+    assertThat(interner.charset()).isSameAs(SingleByteCharset.CP1047);
+  }
+
+  @Test
+  void evicts_on_collision() {
+    StringInterner interner = new StringInterner(SingleByteCharset.ASCII, 1);
+    String first = interner.intern("840".getBytes(US_ASCII), 0, 3);
+    interner.intern("978".getBytes(US_ASCII), 0, 3);
+    assertThat(interner.intern("840".getBytes(US_ASCII), 0, 3)).isEqualTo(first).isNotSameAs(first);
+    assertThat(interner.evictions()).isEqualTo(2);
+    assertThat(interner.hits()).isZero();
+  }
+
+  @Test
+  void empty_hit_rate() {
+    assertThat(new StringInterner(SingleByteCharset.ASCII, 1).hitRate()).isZero();
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 2, 3, 100, StringInterner.MAXIMUM_SIZE})
+  void capacity(int maximumSize) {
+    int capacity = new StringInterner(SingleByteCharset.ASCII, maximumSize).capacity();
+    assertThat(Integer.bitCount(capacity)).isOne();
+    assertThat(capacity).isBetween(maximumSize, maximumSize * 2 - 1);
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {0, StringInterner.MAXIMUM_SIZE + 1})
+  void invalid_maximum_size(int maximumSize) {
+    assertThatThrownBy(() -> new StringInterner(SingleByteCharset.ASCII, maximumSize))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("maximum size should be between 1 and 65536, but got [%d]", maximumSize);
+  }
+}
@@ -0,0 +1,51 @@
+package org.bytestreamparser.iso8583.parser;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.lyang.randomparamsresolver.RandomParametersExtension;
+import io.github.lyang.randomparamsresolver.RandomParametersExtension.Randomize;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(RandomParametersExtension.class)
+class TextIntegerParserTest {
+
+  @Test
+  void pack_and_parse(@Randomize(intMin = 0, intMax = 1_000_000) int value) throws IOException {
+    TextIntegerParser parser = new TextIntegerParser("stan", 6, US_ASCII);
+    byte[] encoded = String.format("%06d", value).getBytes(US_ASCII);
+
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    parser.packInt(value, output);
+    assertThat(output.toByteArray()).isEqualTo(encoded);
+    output.reset();
+    parser.pack(value, output);
+    assertThat(output.toByteArray()).isEqualTo(encoded);
+    assertThat(parser.parseInt(new ByteArrayInputStream(encoded))).isEqualTo(value);
+    assertThat(parser.parse(new ByteArrayInputStream(encoded))).isEqualTo(value);
+  }
+
+  @Test
+  void value_out_of_range() {
+    TextIntegerParser parser = new TextIntegerParser("stan", 10, US_ASCII);
+    ByteArrayInputStream input = new ByteArrayInputStream("2147483648".getBytes(US_ASCII));
+    assertThatThrownBy(() -> parser.parseInt(input))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("stan: value out of range");
+  }
+
+  @Test
+  void validate() {
+    TextIntegerParser parser = new TextIntegerParser("stan", 10, US_ASCII);
+    byte[] frame = "-2147483648 2147483648".getBytes(US_ASCII);
+    assertThat(parser.validate(frame, 0, frame.length)).isEqualTo(10);
+    assertThat(parser.validate(frame, 12, frame.length)).isEqualTo(Measurable.INVALID);
+    assertThat(parser.validate(frame, 11, frame.length)).isEqualTo(Measurable.INVALID);
+    assertThat(parser.validate(frame, 0, 9)).isEqualTo(Measurable.TRUNCATED);
+  }
+}
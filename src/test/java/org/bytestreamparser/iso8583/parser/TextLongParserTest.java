@@ -0,0 +1,102 @@
+package org.bytestreamparser.iso8583.parser;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.charset.StandardCharsets.UTF_16;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.lyang.randomparamsresolver.RandomParametersExtension;
+import io.github.lyang.randomparamsresolver.RandomParametersExtension.Randomize;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@ExtendWith(RandomParametersExtension.class)
+class TextLongParserTest {
+
+  @ParameterizedTest
+  @ValueSource(strings = {"US-ASCII", "IBM037", "IBM1047"})
+  void pack_and_parse(String charsetName, @Randomize long value) throws IOException {
+    Charset charset = Charset.forName(charsetName);
+    TextLongParser parser = new TextLongParser("amount", 20, charset);
+    String text = value < 0 ? String.format("-%019d", -value) : String.format("%020d", value);
+    if (value == Long.MIN_VALUE) {
+      text = "-" + Long.toString(value).substring(1);
+    }
+    byte[] encoded = text.getBytes(charset);
+
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    parser.packLong(value, output);
+    assertThat(output.toByteArray()).isEqualTo(encoded);
+    assertThat(parser.parseLong(new ByteArrayInputStream(encoded))).isEqualTo(value);
+    assertThat(parser.parse(new ByteArrayInputStream(encoded))).isEqualTo(value);
+  }
+
+  @Test
+  void extremes() throws IOException {
+    TextLongParser parser = new TextLongParser("amount", 20, US_ASCII);
+    for (long value : new long[] {0, Long.MAX_VALUE, Long.MIN_VALUE, -1}) {
+      ByteArrayOutputStream output = new ByteArrayOutputStream();
+      parser.pack(value, output);
+      assertThat(parser.parse(new ByteArrayInputStream(output.toByteArray()))).isEqualTo(value);
+    }
+    assertThat(parse(parser, "+0000000000000000042")).isEqualTo(42);
+  }
+
+  @Test
+  void invalid_text() {
+    TextLongParser parser = new TextLongParser("amount", 4, US_ASCII);
+    assertThatThrownBy(() -> parse(parser, "12a4"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("amount: invalid digit [0x61]");
+    assertThatThrownBy(() -> parse(parser, "1-24"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("amount: invalid digit [0x2D]");
+    assertThatThrownBy(() -> parse(parser, "12"))
+        .isInstanceOf(EOFException.class)
+        .hasMessage("amount: end of stream reached after reading 2 bytes, bytes expected [4]");
+    TextLongParser wide = new TextLongParser("amount", 20, US_ASCII);
+    assertThatThrownBy(() -> parse(wide, "09223372036854775808"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("amount: value out of range");
+  }
+
+  @Test
+  void value_too_long() {
+    TextLongParser parser = new TextLongParser("amount", 4, US_ASCII);
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    assertThatThrownBy(() -> parser.packLong(12345, output))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("amount: value [12345] does not fit in 4 characters");
+    assertThatThrownBy(() -> parser.packLong(-1234, output))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("amount: value [-1234] does not fit in 4 characters");
+  }
+
+  @Test
+  void invalid_charset() {
+    assertThatThrownBy(() -> new TextLongParser("amount", 4, UTF_16))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("UTF-16 does not encode decimal digits as single bytes");
+  }
+
+  private static long parse(TextLongParser parser, String text) throws IOException {
+    return parser.parseLong(new ByteArrayInputStream(text.getBytes(US_ASCII)));
+  }
+
+  @Test
+  void validate() {
+    TextLongParser parser = new TextLongParser("amount", 4, US_ASCII);
+    byte[] frame = "-123+45612x4".getBytes(US_ASCII);
+    assertThat(parser.validate(frame, 0, frame.length)).isEqualTo(4);
+    assertThat(parser.validate(frame, 4, frame.length)).isEqualTo(4);
+    assertThat(parser.validate(frame, 8, frame.length)).isEqualTo(Measurable.INVALID);
+    assertThat(parser.validate(frame, 10, frame.length)).isEqualTo(Measurable.TRUNCATED);
+  }
+}
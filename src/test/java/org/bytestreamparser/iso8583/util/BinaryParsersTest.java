@@ -1,6 +1,8 @@
 package org.bytestreamparser.iso8583.util;
 
+import static java.nio.charset.StandardCharsets.US_ASCII;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.github.lyang.randomparamsresolver.RandomParametersExtension;
 import io.github.lyang.randomparamsresolver.RandomParametersExtension.Randomize;
@@ -8,6 +10,7 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.HexFormat;
 import org.bytestreamparser.api.parser.DataParser;
 import org.bytestreamparser.iso8583.data.ExtendableBitmap;
 import org.bytestreamparser.iso8583.data.FixedBitmap;
@@ -52,6 +55,19 @@ class BinaryParsersTest {
     assertThat(input.available()).isEqualTo(5);
   }
 
+  @Test
+  void binaryLLVar_with_max_length(@Randomize(length = 10) byte[] value) throws IOException {
+    value[0] = 0;
+    value[1] = 5;
+    DataParser<byte[]> parser = BinaryParsers.binaryLLVar("binaryLLVar", 4);
+    assertThatThrownBy(() -> parser.parse(new ByteArrayInputStream(value)))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("binaryLLVar: length should be between 0 and 4, but got [5]");
+    value[1] = 4;
+    assertThat(parser.parse(new ByteArrayInputStream(value)))
+        .isEqualTo(Arrays.copyOfRange(value, 2, 6));
+  }
+
   @Test
   void textLLVar(
       @Randomize(intMin = 1, intMax = 10) int length, @Randomize(length = 10) byte[] value)
@@ -90,6 +106,19 @@ class BinaryParsersTest {
     }
   }
 
+  @Test
+  void recyclingExtendableBitmap(@Randomize(length = 8) byte[] value) throws IOException {
+    value[0] = (byte) (0b01111111 & value[0]);
+    DataParser<ExtendableBitmap> parser = BinaryParsers.recyclingExtendableBitmap("bitmap", 8);
+    ExtendableBitmap first = parser.parse(new ByteArrayInputStream(value));
+    assertThat(first.toByteArray()).isEqualTo(value);
+
+    value[1] = (byte) ~value[1];
+    ExtendableBitmap second = parser.parse(new ByteArrayInputStream(value));
+    assertThat(second).isSameAs(first);
+    assertThat(second.toByteArray()).isEqualTo(value);
+  }
+
   @Test
   void extendableBitmap(@Randomize(length = 10) byte[] value) throws IOException {
     value[0] = (byte) (0b10000000 | value[0]);
@@ -104,4 +133,33 @@ class BinaryParsersTest {
       assertThat(parsed.get(index + 1)).isEqualTo(chars[index] == '1');
     }
   }
+
+  @Test
+  void bitmapParsers() {
+    assertThat(BinaryParsers.fixedBitmapParser("fixedBitmap", 8).getBytes()).isEqualTo(8);
+    assertThat(BinaryParsers.extendableBitmapParser("extendableBitmap", 8).getBytes()).isEqualTo(8);
+  }
+
+  @Test
+  void hexFixedBitmap(@Randomize(length = 8) byte[] content) throws IOException {
+    DataParser<FixedBitmap> parser = BinaryParsers.hexFixedBitmap("hex", 8, US_ASCII);
+    byte[] hex = HexFormat.of().withUpperCase().formatHex(content).getBytes(US_ASCII);
+    assertThat(parser.parse(new ByteArrayInputStream(hex))).isEqualTo(FixedBitmap.valueOf(content));
+
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    parser.pack(FixedBitmap.valueOf(content), output);
+    assertThat(output.toByteArray()).isEqualTo(hex);
+  }
+
+  @Test
+  void hexExtendableBitmap() throws IOException {
+    DataParser<ExtendableBitmap> parser = BinaryParsers.hexExtendableBitmap("hex", 8, US_ASCII);
+    byte[] hex = "80000000000000000000000000000001".getBytes(US_ASCII);
+    ExtendableBitmap bitmap = parser.parse(new ByteArrayInputStream(hex));
+    assertThat(bitmap.stream().toArray()).containsExactly(1, 128);
+
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    parser.pack(bitmap, output);
+    assertThat(output.toByteArray()).isEqualTo(hex);
+  }
 }
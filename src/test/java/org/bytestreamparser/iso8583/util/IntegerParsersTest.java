@@ -10,6 +10,8 @@ import java.io.InputStream;
 import java.nio.charset.Charset;
 import java.util.HexFormat;
 import org.bytestreamparser.api.parser.DataParser;
+import org.bytestreamparser.iso8583.parser.BcdPadding;
+import org.bytestreamparser.iso8583.parser.SingleByteCharset;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -64,4 +66,43 @@ class IntegerParsersTest {
         new ByteArrayInputStream(HexFormat.of().parseHex(String.format("%02d", value)));
     assertThat(parser.parse(input)).isEqualTo(value);
   }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"US-ASCII", "IBM037", "IBM1047", "ISO-8859-1", "UTF-8"})
+  void text_length(String charsetName, @Randomize(intMin = 0, intMax = 1000) int value)
+      throws IOException {
+    Charset charset = Charset.forName(charsetName);
+    InputStream input = new ByteArrayInputStream(String.format("%03d", value).getBytes(charset));
+    assertThat(IntegerParsers.textLength("length", 3, charset).parse(input)).isEqualTo(value);
+  }
+
+  @Test
+  void text_length_with_default_charset(@Randomize(intMin = 0, intMax = 100) int value)
+      throws IOException {
+    InputStream input =
+        new ByteArrayInputStream(String.format("%02d", value).getBytes(Charset.defaultCharset()));
+    assertThat(IntegerParsers.textLength("length", 2).parse(input)).isEqualTo(value);
+  }
+
+  @Test
+  void bcd_length(@Randomize(intMin = 0, intMax = 1000) int value) throws IOException {
+    ByteArrayInputStream input =
+        new ByteArrayInputStream(HexFormat.of().parseHex(String.format("%04d", value)));
+    assertThat(IntegerParsers.bcdLength("length", 3).parse(input)).isEqualTo(value);
+  }
+
+  @Test
+  void bcd_with_padding() throws IOException {
+    DataParser<Integer> parser = IntegerParsers.bcd("bcd", 3, BcdPadding.RIGHT);
+    ByteArrayInputStream input = new ByteArrayInputStream(HexFormat.of().parseHex("123f"));
+    assertThat(parser.parse(input)).isEqualTo(123);
+  }
+
+  @Test
+  void text_with_tables(@Randomize(intMin = 0, intMax = 1_000_000) int value) throws IOException {
+    DataParser<Integer> parser = IntegerParsers.text("11", 6, SingleByteCharset.CP037);
+    InputStream input =
+        new ByteArrayInputStream(String.format("%06d", value).getBytes(Charset.forName("IBM037")));
+    assertThat(parser.parse(input)).isEqualTo(value);
+  }
 }
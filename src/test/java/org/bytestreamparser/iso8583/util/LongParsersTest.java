@@ -10,6 +10,8 @@ import java.io.InputStream;
 import java.nio.charset.Charset;
 import java.util.HexFormat;
 import org.bytestreamparser.api.parser.DataParser;
+import org.bytestreamparser.iso8583.parser.BcdPadding;
+import org.bytestreamparser.iso8583.parser.SingleByteCharset;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -48,4 +50,21 @@ class LongParsersTest {
         new ByteArrayInputStream(HexFormat.of().parseHex(String.format("%02d", value)));
     assertThat(parser.parse(input)).isEqualTo(value);
   }
+
+  @Test
+  void bcd_with_padding() throws IOException {
+    DataParser<Long> parser = LongParsers.bcd("bcd", 3, BcdPadding.RIGHT);
+    ByteArrayInputStream input = new ByteArrayInputStream(HexFormat.of().parseHex("123f"));
+    assertThat(parser.parse(input)).isEqualTo(123L);
+  }
+
+  @Test
+  void text_with_tables(@Randomize(longMin = 0, longMax = 1_000_000_000_000L) long value)
+      throws IOException {
+    DataParser<Long> parser = LongParsers.text("4", 12, SingleByteCharset.CP1047);
+    ByteArrayInputStream input =
+        new ByteArrayInputStream(
+            String.format("%012d", value).getBytes(Charset.forName("IBM1047")));
+    assertThat(parser.parse(input)).isEqualTo(value);
+  }
 }
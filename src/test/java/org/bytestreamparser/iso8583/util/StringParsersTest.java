@@ -1,6 +1,10 @@
 package org.bytestreamparser.iso8583.util;
 
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import io.github.lyang.randomparamsresolver.RandomParametersExtension;
 import io.github.lyang.randomparamsresolver.RandomParametersExtension.Randomize;
@@ -11,6 +15,10 @@ import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.util.HexFormat;
 import org.bytestreamparser.api.parser.DataParser;
+import org.bytestreamparser.iso8583.parser.BcdPadding;
+import org.bytestreamparser.iso8583.parser.SingleByteCharset;
+import org.bytestreamparser.iso8583.parser.Skippable;
+import org.bytestreamparser.iso8583.parser.StringInterner;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -69,6 +77,19 @@ class StringParsersTest {
     assertThat(parser.parse(input)).isEqualTo(value.substring(0, length));
   }
 
+  @Test
+  void binaryLLVar_with_max_length(@Randomize(length = 6, intMin = 'a', intMax = 'z') String value)
+      throws IOException {
+    DataParser<String> parser = StringParsers.binaryLLVar("binaryLLVar", UTF_8, 5);
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    assertThatThrownBy(() -> parser.pack(value + "é", output))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("binaryLLVar: length should be between 0 and 5, but got [7]");
+    parser.pack(value.substring(1), output);
+    assertThat(parser.parse(new ByteArrayInputStream(output.toByteArray())))
+        .isEqualTo(value.substring(1));
+  }
+
   @Test
   void textLLVar(
       @Randomize(intMin = 1, intMax = 10) int length, @Randomize(length = 10) String value)
@@ -129,4 +150,110 @@ class StringParsersTest {
     parser.pack(parsed, output);
     assertThat(output.toByteArray()).isEqualTo(buffer.array());
   }
+
+  @Test
+  void fixedLengthBcd_with_padding() throws IOException {
+    DataParser<String> parser = StringParsers.fixedLengthBcd("bcd", 3, BcdPadding.RIGHT);
+    ByteArrayInputStream input = new ByteArrayInputStream(HEX_FORMAT.parseHex("123f"));
+    assertThat(parser.parse(input)).isEqualTo("123");
+  }
+
+  @Test
+  void fixedLength_with_tables(@Randomize(length = 8, intMin = ' ', intMax = '~') String value)
+      throws IOException {
+    Charset charset = Charset.forName("IBM037");
+    DataParser<String> parser = StringParsers.fixedLength("41", 8, SingleByteCharset.CP037);
+    assertThat(parser.parse(new ByteArrayInputStream(value.getBytes(charset)))).isEqualTo(value);
+  }
+
+  @Test
+  void variableLength_with_tables(@Randomize(length = 12, intMin = ' ', intMax = '~') String value)
+      throws IOException {
+    DataParser<String> parser =
+        StringParsers.variableLength(
+            "44",
+            IntegerParsers.textLength("44", 2, SingleByteCharset.CP1047),
+            SingleByteCharset.CP1047);
+    byte[] encoded = ("12" + value).getBytes(Charset.forName("IBM1047"));
+
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    parser.pack(value, output);
+    assertThat(output.toByteArray()).isEqualTo(encoded);
+    ByteArrayInputStream input = new ByteArrayInputStream(encoded);
+    ((Skippable) parser).skip(input);
+    assertThat(input.available()).isZero();
+    assertThat(parser.parse(new ByteArrayInputStream(encoded))).isEqualTo(value);
+  }
+
+  @Test
+  void fixedLength_interned() throws IOException {
+    StringInterner interner = new StringInterner(SingleByteCharset.CP037, 16);
+    DataParser<String> parser = StringParsers.fixedLength("39", 2, interner);
+    byte[] encoded = "05".getBytes(Charset.forName("IBM037"));
+    String value = parser.parse(new ByteArrayInputStream(encoded));
+    assertThat(value).isEqualTo("05");
+    assertThat(parser.parse(new ByteArrayInputStream(encoded))).isSameAs(value);
+  }
+
+  @Test
+  void variableLength_interned() throws IOException {
+    StringInterner interner = new StringInterner(SingleByteCharset.ASCII, 16);
+    DataParser<String> parser =
+        StringParsers.variableLength("32", IntegerParsers.textLength("32", 2), interner);
+    byte[] encoded = "06123456".getBytes(US_ASCII);
+
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    parser.pack("123456", output);
+    assertThat(output.toByteArray()).isEqualTo(encoded);
+    String value = parser.parse(new ByteArrayInputStream(encoded));
+    assertThat(value).isEqualTo("123456");
+    assertThat(parser.parse(new ByteArrayInputStream(encoded))).isSameAs(value);
+    assertThat(interner.hitRate()).isEqualTo(0.5);
+  }
+
+  @Test
+  void variableLength_counts_code_points() throws IOException {
+    DataParser<String> parser =
+        StringParsers.variableLength("43", IntegerParsers.textLength("43", 2), UTF_8);
+    String value = "Caf\u00e9 \ud83d\ude00";
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    parser.pack(value, output);
+    byte[] packed = output.toByteArray();
+    assertThat(packed)
+        .startsWith("06".getBytes(US_ASCII))
+        .hasSize(2 + value.getBytes(UTF_8).length);
+    assertThat(parser.parse(new ByteArrayInputStream(packed))).isEqualTo(value);
+  }
+
+  @Test
+  void variableLength_counts_single_byte_characters() throws IOException {
+    DataParser<String> parser =
+        StringParsers.variableLength("43", IntegerParsers.textLength("43", 2), ISO_8859_1);
+    String value = "Caf\u00e9";
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    parser.pack(value, output);
+    byte[] packed = output.toByteArray();
+    assertThat(packed).startsWith("04".getBytes(US_ASCII)).hasSize(6);
+    assertThat(parser.parse(new ByteArrayInputStream(packed))).isEqualTo(value);
+  }
+
+  @Test
+  void variableLength_prefixes_encoded_bytes() throws IOException {
+    String value = "a\ud83d\ude00";
+    DataParser<String> parser =
+        StringParsers.variableLength("43", IntegerParsers.textLength("43", 2), ISO_8859_1);
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    parser.pack(value, output);
+    assertThat(output.toByteArray()).isEqualTo("02a?".getBytes(US_ASCII));
+    assertThat(parser.parse(new ByteArrayInputStream(output.toByteArray()))).isEqualTo("a?");
+
+    DataParser<String> tables =
+        StringParsers.variableLength(
+            "43", IntegerParsers.textLength("43", 2), SingleByteCharset.ISO_8859_1);
+    output.reset();
+    tables.pack(value, output);
+    byte[] packed = output.toByteArray();
+    assertThat(packed).startsWith(String.format("%02d", packed.length - 2).getBytes(US_ASCII));
+    assertThat(tables.parse(new ByteArrayInputStream(packed))).startsWith("a");
+  }
 }